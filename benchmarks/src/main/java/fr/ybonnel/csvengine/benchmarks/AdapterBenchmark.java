@@ -0,0 +1,218 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.benchmarks;
+
+import fr.ybonnel.csvengine.adapter.AdapterBoolean;
+import fr.ybonnel.csvengine.adapter.AdapterCsv;
+import fr.ybonnel.csvengine.adapter.AdapterDate;
+import fr.ybonnel.csvengine.adapter.AdapterDouble;
+import fr.ybonnel.csvengine.adapter.AdapterInstant;
+import fr.ybonnel.csvengine.adapter.AdapterInteger;
+import fr.ybonnel.csvengine.adapter.AdapterLocalDate;
+import fr.ybonnel.csvengine.adapter.AdapterLocalDateTime;
+import fr.ybonnel.csvengine.adapter.AdapterLong;
+import fr.ybonnel.csvengine.adapter.AdapterOffsetDateTime;
+import fr.ybonnel.csvengine.adapter.AdapterString;
+import fr.ybonnel.csvengine.adapter.AdapterTime;
+import fr.ybonnel.csvengine.exception.InvalidParamException;
+import fr.ybonnel.csvengine.validator.ValidateException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of each built-in adapter, in both directions : an operation is one value.<br/><br/>
+ * <i><u>French :</i> Débit de chaque adapteur fourni, dans les deux sens : une opération est une valeur.
+ *
+ * @author ybonnel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AdapterBenchmark {
+
+    /**
+     * Number of values by invocation.
+     */
+    private static final int NB_VALUES = 1024;
+
+    /**
+     * Adapter benchmarked.
+     */
+    @Param({"Integer", "Long", "Double", "Boolean", "String", "Time", "Date", "LocalDate", "LocalDateTime",
+            "Instant", "OffsetDateTime"})
+    private String adapterName;
+
+    /**
+     * The adapter.
+     */
+    private AdapterCsv<Object> adapter;
+
+    /**
+     * Values as in a CSV File.
+     */
+    private String[] strings;
+
+    /**
+     * Values parsed.
+     */
+    private Object[] objects;
+
+    /**
+     * Create the adapter and the values.
+     *
+     * @throws InvalidParamException never, the parameters are valid.
+     * @throws ValidateException     never, the values are valid.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws InvalidParamException, ValidateException {
+        Map<String, String> params = new HashMap<String, String>();
+        AdapterCsv<?> newAdapter;
+        switch (adapterName) {
+            case "Integer":
+                newAdapter = new AdapterInteger();
+                break;
+            case "Long":
+                newAdapter = new AdapterLong();
+                break;
+            case "Double":
+                newAdapter = new AdapterDouble();
+                break;
+            case "Boolean":
+                newAdapter = new AdapterBoolean();
+                break;
+            case "String":
+                newAdapter = new AdapterString();
+                break;
+            case "Time":
+                newAdapter = new AdapterTime();
+                break;
+            case "Date":
+                newAdapter = new AdapterDate();
+                params.put(AdapterDate.PARAM_FORMAT, "dd/MM/yyyy HH:mm");
+                break;
+            case "LocalDate":
+                newAdapter = new AdapterLocalDate();
+                break;
+            case "LocalDateTime":
+                newAdapter = new AdapterLocalDateTime();
+                break;
+            case "Instant":
+                newAdapter = new AdapterInstant();
+                break;
+            case "OffsetDateTime":
+                newAdapter = new AdapterOffsetDateTime();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown adapter " + adapterName);
+        }
+        newAdapter.addParams(params);
+        adapter = (AdapterCsv<Object>) newAdapter;
+        Random random = new Random(42);
+        strings = new String[NB_VALUES];
+        objects = new Object[NB_VALUES];
+        for (int index = 0; index < NB_VALUES; index++) {
+            strings[index] = randomValue(random);
+            objects[index] = adapter.parse(strings[index]);
+        }
+    }
+
+    /**
+     * Generate a value for the adapter.
+     *
+     * @param random the generator.
+     * @return the value.
+     */
+    private String randomValue(Random random) {
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(random.nextInt(2000000000), 0, ZoneOffset.UTC);
+        switch (adapterName) {
+            case "Integer":
+                return Integer.toString(random.nextInt());
+            case "Long":
+                return Long.toString(random.nextLong());
+            case "Double":
+                return Double.toString(random.nextInt(100000000) / 1000.0);
+            case "Boolean":
+                return random.nextBoolean() ? "1" : "0";
+            case "String":
+                return Long.toString(random.nextLong(), Character.MAX_RADIX);
+            case "Time":
+                return String.format("%02d:%02d", random.nextInt(24), random.nextInt(60));
+            case "Date":
+                return String.format("%02d/%02d/%04d %02d:%02d", dateTime.getDayOfMonth(), dateTime.getMonthValue(),
+                        dateTime.getYear(), dateTime.getHour(), dateTime.getMinute());
+            case "LocalDate":
+                return dateTime.toLocalDate().toString();
+            case "LocalDateTime":
+                return dateTime.toString();
+            case "Instant":
+                return Instant.ofEpochSecond(dateTime.toEpochSecond(ZoneOffset.UTC)).toString();
+            default:
+                return dateTime.atOffset(ZoneOffset.ofHours(random.nextInt(25) - 12)).toString();
+        }
+    }
+
+    /**
+     * Parse the values.
+     *
+     * @param blackhole consumer of the objects.
+     * @throws ValidateException never, the values are valid.
+     */
+    @Benchmark
+    @OperationsPerInvocation(NB_VALUES)
+    public void parse(Blackhole blackhole) throws ValidateException {
+        for (String string : strings) {
+            blackhole.consume(adapter.parse(string));
+        }
+    }
+
+    /**
+     * Format the values.
+     *
+     * @param blackhole consumer of the Strings.
+     */
+    @Benchmark
+    @OperationsPerInvocation(NB_VALUES)
+    public void format(Blackhole blackhole) {
+        for (Object object : objects) {
+            blackhole.consume(adapter.toString(object));
+        }
+    }
+}
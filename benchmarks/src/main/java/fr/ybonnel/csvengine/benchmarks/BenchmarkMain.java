@@ -0,0 +1,62 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Launcher of the benchmarks : the options of the JMH command line are accepted, and the GC profiler is always
+ * added, so each suite reports its allocation rate (gc.alloc.rate.norm is the number of bytes allocated by
+ * operation).<br/>
+ * Example : <code>java -jar target/benchmarks.jar BindingBenchmark -p shape=WIDE</code><br/><br/>
+ * <i><u>French :</i> Lanceur des benchmarks : les options de la ligne de commande JMH sont acceptées, et le
+ * profileur GC est toujours ajouté, chaque suite donne donc son taux d'allocation.
+ *
+ * @author ybonnel
+ */
+public final class BenchmarkMain {
+
+    /**
+     * Private constructor.
+     */
+    private BenchmarkMain() {
+    }
+
+    /**
+     * Run the benchmarks.
+     *
+     * @param args options of the JMH command line.
+     * @throws CommandLineOptionException if an option is wrong.
+     * @throws RunnerException            if a benchmark fails.
+     * @throws IOException                if the benchmarks can't be listed.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder().parent(commandLineOptions).addProfiler(GCProfiler.class).build()).run();
+    }
+}
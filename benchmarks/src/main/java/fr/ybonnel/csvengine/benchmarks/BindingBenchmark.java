@@ -0,0 +1,133 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.benchmarks;
+
+import fr.ybonnel.csvengine.CsvEngine;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.model.EngineParameters;
+import fr.ybonnel.csvengine.model.Error;
+import fr.ybonnel.csvengine.model.ParseMetrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of the construction of the objects (read, bind and validate) : one operation parses
+ * a whole file.<br/><br/>
+ * <i><u>French :</i> Débit de la construction des objets (lecture, association et validation) :
+ * une opération lit un fichier entier.
+ *
+ * @author ybonnel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BindingBenchmark {
+
+    /**
+     * Number of rows of the file.
+     */
+    private static final int NB_ROWS = 10000;
+
+    /**
+     * Shape of the rows.
+     */
+    @Param({"SMALL", "WIDE"})
+    private RowShape shape;
+
+    /**
+     * Value of {@link EngineParameters#hasValidation()}.
+     */
+    @Param({"false", "true"})
+    private boolean validation;
+
+    /**
+     * True to activate the {@link ParseMetrics} with the default sampling period.
+     */
+    @Param({"false", "true"})
+    private boolean metrics;
+
+    /**
+     * The engine.
+     */
+    private CsvEngine engine;
+
+    /**
+     * Content of the file.
+     */
+    private String content;
+
+    /**
+     * Bytes of the file in UTF-8.
+     */
+    private byte[] bytes;
+
+    /**
+     * Generate the file and create the engine.
+     */
+    @Setup
+    public void setUp() {
+        content = shape.generate(NB_ROWS);
+        bytes = content.getBytes(StandardCharsets.UTF_8);
+        engine = new CsvEngine(EngineParameters.createBuilder().setValidation(validation)
+                .setMetrics(metrics ? new ParseMetrics() : null).build(),
+                shape.getRowClass());
+    }
+
+    /**
+     * Parse the file from a Reader.
+     *
+     * @param blackhole consumer of the objects.
+     * @return the errors occurred.
+     * @throws CsvErrorsExceededException never, the file is valid.
+     */
+    @Benchmark
+    public List<Error> parseReader(Blackhole blackhole) throws CsvErrorsExceededException {
+        return engine.parseFileAndInsert(new StringReader(content), shape.getRowClass(), blackhole::consume);
+    }
+
+    /**
+     * Parse the file from an InputStream, with the byte tokenizer, in a list.
+     *
+     * @return the objects.
+     * @throws CsvErrorsExceededException never, the file is valid.
+     */
+    @Benchmark
+    public List<?> parseInputStream() throws CsvErrorsExceededException {
+        return engine.parseInputStream(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8, shape.getRowClass())
+                .getObjects();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.benchmarks;
+
+import fr.ybonnel.csvengine.CsvEngine;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.model.EngineParameters;
+import fr.ybonnel.csvengine.model.Error;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Time to parse a big generated file, sequentially and in parallel.<br/>
+ * The file is generated in the temporary directory before the measures and deleted after them,
+ * its size is given in MB by the parameter sizeInMb (example : -p sizeInMb=4096).<br/><br/>
+ * <i><u>French :</i> Temps de lecture d'un gros fichier généré, séquentiellement et en parallèle.<br/>
+ * Le fichier est généré dans le répertoire temporaire avant les mesures et supprimé après,
+ * sa taille est donnée en Mo par le paramètre sizeInMb.
+ *
+ * @author ybonnel
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LargeFileBenchmark {
+
+    /**
+     * Number of bytes in a MB.
+     */
+    private static final long MB = 1024 * 1024;
+
+    /**
+     * Shape of the rows.
+     */
+    @Param({"SMALL", "WIDE"})
+    private RowShape shape;
+
+    /**
+     * Size of the file in MB.
+     */
+    @Param("256")
+    private int sizeInMb;
+
+    /**
+     * The engine.
+     */
+    private CsvEngine engine;
+
+    /**
+     * The generated file.
+     */
+    private Path file;
+
+    /**
+     * Pool of the parallel parse.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Generate the file and create the engine.
+     *
+     * @throws IOException if the file can't be created.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("csvengine-" + shape, ".csv");
+        shape.createGenerator().writeFile(file, StandardCharsets.UTF_8, sizeInMb * MB);
+        engine = new CsvEngine(EngineParameters.createBuilder().setValidation(false).build(), shape.getRowClass());
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Delete the file and stop the pool.
+     *
+     * @throws IOException if the file can't be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        executor.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Parse the file sequentially.
+     *
+     * @param blackhole consumer of the objects.
+     * @return the errors occurred.
+     * @throws CsvErrorsExceededException never, the file is valid.
+     */
+    @Benchmark
+    public List<Error> parseFile(Blackhole blackhole) throws CsvErrorsExceededException {
+        return engine.parseFileAndInsert(file, StandardCharsets.UTF_8, shape.getRowClass(), blackhole::consume);
+    }
+
+    /**
+     * Parse the file in parallel.
+     *
+     * @param blackhole consumer of the objects.
+     * @return the errors occurred.
+     * @throws CsvErrorsExceededException never, the file is valid.
+     */
+    @Benchmark
+    public List<Error> parseFileInParallel(Blackhole blackhole) throws CsvErrorsExceededException {
+        return engine.parseFileInParallel(file, shape.getRowClass(), blackhole::consume, executor);
+    }
+}
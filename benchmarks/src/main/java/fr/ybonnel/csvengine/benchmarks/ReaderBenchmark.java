@@ -0,0 +1,136 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.benchmarks;
+
+import fr.ybonnel.csvengine.factory.AbstractCsvReader;
+import fr.ybonnel.csvengine.factory.NativeByteCsvReader;
+import fr.ybonnel.csvengine.factory.NativeCsvReader;
+import fr.ybonnel.csvengine.factory.OpenCsvReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of the raw readers, without binding : one operation reads a whole file.<br/><br/>
+ * <i><u>French :</i> Débit des readers bruts, sans association : une opération lit un fichier entier.
+ *
+ * @author ybonnel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ReaderBenchmark {
+
+    /**
+     * Number of rows of the file.
+     */
+    private static final int NB_ROWS = 10000;
+
+    /**
+     * Shape of the rows.
+     */
+    @Param({"SMALL", "WIDE"})
+    private RowShape shape;
+
+    /**
+     * Reader benchmarked.
+     */
+    @Param({"native", "nativeBytes", "opencsv"})
+    private String reader;
+
+    /**
+     * Content of the file.
+     */
+    private String content;
+
+    /**
+     * Bytes of the file in UTF-8.
+     */
+    private byte[] bytes;
+
+    /**
+     * Generate the file.
+     */
+    @Setup
+    public void setUp() {
+        content = shape.generate(NB_ROWS);
+        bytes = content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return a reader on the file.
+     */
+    private AbstractCsvReader openReader() {
+        if ("native".equals(reader)) {
+            return new NativeCsvReader(new StringReader(content), ',');
+        }
+        if ("nativeBytes".equals(reader)) {
+            return new NativeByteCsvReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8, ',');
+        }
+        return new OpenCsvReader(new StringReader(content), ',');
+    }
+
+    /**
+     * Read the records as arrays of Strings.
+     *
+     * @param blackhole consumer of the records.
+     * @throws IOException never, the file is in memory.
+     */
+    @Benchmark
+    public void readLines(Blackhole blackhole) throws IOException {
+        AbstractCsvReader csvReader = openReader();
+        String[] fields;
+        while ((fields = csvReader.readLine()) != null) {
+            blackhole.consume(fields);
+        }
+    }
+
+    /**
+     * Read the records with the record API, without materializing the fields.
+     *
+     * @param blackhole consumer of the fields.
+     * @throws IOException never, the file is in memory.
+     */
+    @Benchmark
+    public void readRecords(Blackhole blackhole) throws IOException {
+        AbstractCsvReader csvReader = openReader();
+        while (csvReader.nextRecord()) {
+            for (int field = 0; field < csvReader.getNbFields(); field++) {
+                blackhole.consume(csvReader.getField(field).length());
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.benchmarks;
+
+import fr.ybonnel.csvengine.CsvEngine;
+import fr.ybonnel.csvengine.generator.CsvGenerator;
+
+import java.io.StringWriter;
+
+/**
+ * Shapes of rows used by the benchmarks, with the generation of their CSV content.<br/>
+ * The content is generated by a {@link CsvGenerator} with a fixed seed, so two runs read the same bytes.<br/><br/>
+ * <i><u>French :</i> Formes de lignes utilisées par les benchmarks, avec la génération de leur contenu CSV.
+ * Le contenu est généré par un {@link CsvGenerator} avec une graine fixe, deux exécutions lisent donc
+ * les mêmes octets.
+ *
+ * @author ybonnel
+ */
+public enum RowShape {
+
+    /**
+     * 6 columns of different types.
+     */
+    SMALL(SmallRow.class) {
+        @Override
+        void configure(CsvGenerator<?> generator) {
+            generator.setValueGenerator("email", random -> "user" + random.nextInt(1000000) + "@example.com");
+        }
+    },
+
+    /**
+     * 24 columns : 8 integers, 8 doubles and 8 strings, a quarter of the values are quoted.
+     */
+    WIDE(WideRow.class) {
+        @Override
+        void configure(CsvGenerator<?> generator) {
+            generator.setQuotingRatio(0.25);
+        }
+    };
+
+    /**
+     * Seed of the generated files.
+     */
+    private static final long SEED = 42;
+
+    /**
+     * Class associated to the rows.
+     */
+    private final Class<?> rowClass;
+
+    /**
+     * Constructor.
+     *
+     * @param rowClass class associated to the rows.
+     */
+    RowShape(Class<?> rowClass) {
+        this.rowClass = rowClass;
+    }
+
+    /**
+     * @return the class associated to the rows.
+     */
+    public Class<?> getRowClass() {
+        return rowClass;
+    }
+
+    /**
+     * Create the generator of the files of this shape.
+     *
+     * @return the generator.
+     */
+    public CsvGenerator<?> createGenerator() {
+        CsvGenerator<?> generator = newGenerator(rowClass);
+        configure(generator);
+        return generator;
+    }
+
+    /**
+     * Create a generator for a class.
+     *
+     * @param <T>   class of the rows.
+     * @param clazz class of the rows.
+     * @return the generator.
+     */
+    private static <T> CsvGenerator<T> newGenerator(Class<T> clazz) {
+        return new CsvGenerator<T>(new CsvEngine(clazz), clazz, SEED);
+    }
+
+    /**
+     * Generate a CSV File.
+     *
+     * @param nbRows number of rows.
+     * @return the content of the file, header included.
+     */
+    public String generate(int nbRows) {
+        StringWriter writer = new StringWriter();
+        createGenerator().writeLines(writer, nbRows);
+        return writer.toString();
+    }
+
+    /**
+     * Configure the shape of the generated files.
+     *
+     * @param generator the generator.
+     */
+    abstract void configure(CsvGenerator<?> generator);
+}
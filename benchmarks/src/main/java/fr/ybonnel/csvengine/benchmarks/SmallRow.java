@@ -0,0 +1,60 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.benchmarks;
+
+import fr.ybonnel.csvengine.adapter.AdapterBoolean;
+import fr.ybonnel.csvengine.adapter.AdapterDouble;
+import fr.ybonnel.csvengine.adapter.AdapterInteger;
+import fr.ybonnel.csvengine.adapter.AdapterLocalDate;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvFile;
+import fr.ybonnel.csvengine.annotation.CsvParam;
+import fr.ybonnel.csvengine.annotation.CsvValidation;
+import fr.ybonnel.csvengine.validator.ValidatorEmail;
+import fr.ybonnel.csvengine.validator.ValidatorSize;
+
+import java.time.LocalDate;
+
+/**
+ * Small row of the benchmarks : 6 columns of different types, 2 of them validated.<br/><br/>
+ * <i><u>French :</i> Petite ligne des benchmarks : 6 colonnes de types différents, dont 2 validées.
+ *
+ * @author ybonnel
+ */
+@CsvFile
+public class SmallRow {
+
+    @CsvColumn(value = "id", order = 0, adapter = AdapterInteger.class)
+    public Integer id;
+
+    @CsvColumn(value = "name", order = 1)
+    @CsvValidation(value = ValidatorSize.class, params = @CsvParam(name = ValidatorSize.PARAM_MAX_SIZE, value = "32"))
+    public String name;
+
+    @CsvColumn(value = "email", order = 2)
+    @CsvValidation(ValidatorEmail.class)
+    public String email;
+
+    @CsvColumn(value = "amount", order = 3, adapter = AdapterDouble.class)
+    public Double amount;
+
+    @CsvColumn(value = "active", order = 4, adapter = AdapterBoolean.class)
+    public Boolean active;
+
+    @CsvColumn(value = "day", order = 5, adapter = AdapterLocalDate.class)
+    public LocalDate day;
+}
@@ -0,0 +1,117 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.benchmarks;
+
+import fr.ybonnel.csvengine.exception.InvalidParamException;
+import fr.ybonnel.csvengine.validator.ValidateException;
+import fr.ybonnel.csvengine.validator.ValidatorCsv;
+import fr.ybonnel.csvengine.validator.ValidatorEmail;
+import fr.ybonnel.csvengine.validator.ValidatorRegExp;
+import fr.ybonnel.csvengine.validator.ValidatorSize;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of each built-in validator on valid values : an operation is one value.<br/><br/>
+ * <i><u>French :</i> Débit de chaque validateur fourni sur des valeurs valides : une opération est une valeur.
+ *
+ * @author ybonnel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValidatorBenchmark {
+
+    /**
+     * Number of values by invocation.
+     */
+    private static final int NB_VALUES = 1024;
+
+    /**
+     * Validator benchmarked.
+     */
+    @Param({"Size", "RegExp", "Email"})
+    private String validatorName;
+
+    /**
+     * The validator.
+     */
+    private ValidatorCsv validator;
+
+    /**
+     * Values validated.
+     */
+    private String[] values;
+
+    /**
+     * Create the validator and the values.
+     *
+     * @throws InvalidParamException never, the parameters are valid.
+     */
+    @Setup
+    public void setUp() throws InvalidParamException {
+        Map<String, String> params = new HashMap<String, String>();
+        if ("Size".equals(validatorName)) {
+            validator = new ValidatorSize();
+            params.put(ValidatorSize.PARAM_MIN_SIZE, "1");
+            params.put(ValidatorSize.PARAM_MAX_SIZE, "64");
+        } else if ("RegExp".equals(validatorName)) {
+            validator = new ValidatorRegExp();
+            params.put(ValidatorRegExp.PARAM_PATTERN, "[a-z0-9]+@example\\.com");
+        } else {
+            validator = new ValidatorEmail();
+        }
+        validator.addParams(params);
+        Random random = new Random(42);
+        values = new String[NB_VALUES];
+        for (int index = 0; index < NB_VALUES; index++) {
+            values[index] = Long.toString(random.nextLong() & Long.MAX_VALUE, Character.MAX_RADIX) + "@example.com";
+        }
+    }
+
+    /**
+     * Validate the values.
+     *
+     * @throws ValidateException never, the values are valid.
+     */
+    @Benchmark
+    @OperationsPerInvocation(NB_VALUES)
+    public void validate() throws ValidateException {
+        for (String value : values) {
+            validator.validate(value);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.benchmarks;
+
+import fr.ybonnel.csvengine.adapter.AdapterDouble;
+import fr.ybonnel.csvengine.adapter.AdapterInteger;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvFile;
+import fr.ybonnel.csvengine.annotation.CsvParam;
+import fr.ybonnel.csvengine.annotation.CsvValidation;
+import fr.ybonnel.csvengine.validator.ValidatorSize;
+
+/**
+ * Wide row of the benchmarks : 24 columns, 8 integers, 8 doubles and 8 validated strings.<br/><br/>
+ * <i><u>French :</i> Ligne large des benchmarks : 24 colonnes, 8 entiers, 8 doubles et 8 chaînes validées.
+ *
+ * @author ybonnel
+ */
+@CsvFile
+public class WideRow {
+
+    @CsvColumn(value = "c00", order = 0, adapter = AdapterInteger.class)
+    public Integer c00;
+
+    @CsvColumn(value = "c01", order = 1, adapter = AdapterInteger.class)
+    public Integer c01;
+
+    @CsvColumn(value = "c02", order = 2, adapter = AdapterInteger.class)
+    public Integer c02;
+
+    @CsvColumn(value = "c03", order = 3, adapter = AdapterInteger.class)
+    public Integer c03;
+
+    @CsvColumn(value = "c04", order = 4, adapter = AdapterInteger.class)
+    public Integer c04;
+
+    @CsvColumn(value = "c05", order = 5, adapter = AdapterInteger.class)
+    public Integer c05;
+
+    @CsvColumn(value = "c06", order = 6, adapter = AdapterInteger.class)
+    public Integer c06;
+
+    @CsvColumn(value = "c07", order = 7, adapter = AdapterInteger.class)
+    public Integer c07;
+
+    @CsvColumn(value = "c08", order = 8, adapter = AdapterDouble.class)
+    public Double c08;
+
+    @CsvColumn(value = "c09", order = 9, adapter = AdapterDouble.class)
+    public Double c09;
+
+    @CsvColumn(value = "c10", order = 10, adapter = AdapterDouble.class)
+    public Double c10;
+
+    @CsvColumn(value = "c11", order = 11, adapter = AdapterDouble.class)
+    public Double c11;
+
+    @CsvColumn(value = "c12", order = 12, adapter = AdapterDouble.class)
+    public Double c12;
+
+    @CsvColumn(value = "c13", order = 13, adapter = AdapterDouble.class)
+    public Double c13;
+
+    @CsvColumn(value = "c14", order = 14, adapter = AdapterDouble.class)
+    public Double c14;
+
+    @CsvColumn(value = "c15", order = 15, adapter = AdapterDouble.class)
+    public Double c15;
+
+    @CsvColumn(value = "c16", order = 16)
+    @CsvValidation(value = ValidatorSize.class, params = @CsvParam(name = ValidatorSize.PARAM_MAX_SIZE, value = "32"))
+    public String c16;
+
+    @CsvColumn(value = "c17", order = 17)
+    @CsvValidation(value = ValidatorSize.class, params = @CsvParam(name = ValidatorSize.PARAM_MAX_SIZE, value = "32"))
+    public String c17;
+
+    @CsvColumn(value = "c18", order = 18)
+    @CsvValidation(value = ValidatorSize.class, params = @CsvParam(name = ValidatorSize.PARAM_MAX_SIZE, value = "32"))
+    public String c18;
+
+    @CsvColumn(value = "c19", order = 19)
+    @CsvValidation(value = ValidatorSize.class, params = @CsvParam(name = ValidatorSize.PARAM_MAX_SIZE, value = "32"))
+    public String c19;
+
+    @CsvColumn(value = "c20", order = 20)
+    @CsvValidation(value = ValidatorSize.class, params = @CsvParam(name = ValidatorSize.PARAM_MAX_SIZE, value = "32"))
+    public String c20;
+
+    @CsvColumn(value = "c21", order = 21)
+    @CsvValidation(value = ValidatorSize.class, params = @CsvParam(name = ValidatorSize.PARAM_MAX_SIZE, value = "32"))
+    public String c21;
+
+    @CsvColumn(value = "c22", order = 22)
+    @CsvValidation(value = ValidatorSize.class, params = @CsvParam(name = ValidatorSize.PARAM_MAX_SIZE, value = "32"))
+    public String c22;
+
+    @CsvColumn(value = "c23", order = 23)
+    @CsvValidation(value = ValidatorSize.class, params = @CsvParam(name = ValidatorSize.PARAM_MAX_SIZE, value = "32"))
+    public String c23;
+}
@@ -0,0 +1,120 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.benchmarks;
+
+import fr.ybonnel.csvengine.CsvEngine;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link CsvEngine#writeFile(Writer, Iterable, Class)} : one operation writes a whole file
+ * in a writer which discards the characters.<br/><br/>
+ * <i><u>French :</i> Débit de l'écriture : une opération écrit un fichier entier dans un writer
+ * qui ignore les caractères.
+ *
+ * @author ybonnel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class WriteBenchmark {
+
+    /**
+     * Number of rows of the file.
+     */
+    private static final int NB_ROWS = 10000;
+
+    /**
+     * Shape of the rows.
+     */
+    @Param({"SMALL", "WIDE"})
+    private RowShape shape;
+
+    /**
+     * The engine.
+     */
+    private CsvEngine engine;
+
+    /**
+     * Objects written.
+     */
+    private List<?> objects;
+
+    /**
+     * Create the objects by parsing a generated file.
+     *
+     * @throws CsvErrorsExceededException never, the file is valid.
+     */
+    @Setup
+    public void setUp() throws CsvErrorsExceededException {
+        engine = new CsvEngine(shape.getRowClass());
+        objects = parse(shape.getRowClass());
+    }
+
+    /**
+     * Parse the objects of a generated file.
+     *
+     * @param <T>   class of the objects.
+     * @param clazz class of the objects.
+     * @return the objects.
+     * @throws CsvErrorsExceededException never, the file is valid.
+     */
+    private <T> List<T> parse(Class<T> clazz) throws CsvErrorsExceededException {
+        List<T> list = new ArrayList<T>();
+        engine.parseFileAndInsert(new StringReader(shape.generate(NB_ROWS)), clazz, list::add);
+        return list;
+    }
+
+    /**
+     * Write the objects.
+     */
+    @Benchmark
+    public void writeFile() {
+        write(shape.getRowClass());
+    }
+
+    /**
+     * Write the objects.
+     *
+     * @param <T>   class of the objects.
+     * @param clazz class of the objects.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void write(Class<T> clazz) {
+        engine.writeFile(Writer.nullWriter(), (List<T>) objects, clazz);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Comparison of the scalar and the vectorized scanners of special bytes, alone and in the byte reader.<br/>
+ * The benchmark is in the package of the scanners to reach them.<br/><br/>
+ * <i><u>French :</i> Comparaison des recherches scalaire et vectorisée des octets spéciaux, seules et dans
+ * le reader d'octets.
+ *
+ * @author ybonnel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ByteScannerBenchmark {
+
+    /**
+     * Scanner benchmarked.
+     */
+    @Param({"scalar", "vector"})
+    private String scanner;
+
+    /**
+     * Mean length of the fields.
+     */
+    @Param({"8", "64"})
+    private int fieldLength;
+
+    /**
+     * Bytes of the CSV File.
+     */
+    private byte[] bytes;
+
+    /**
+     * Scanner used.
+     */
+    private ByteScanner byteScanner;
+
+    /**
+     * Build a CSV File of 1 MB with 4 fields by record, a field on four is quoted.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        byteScanner = "vector".equals(scanner) ? ByteScanners.vectorOrScalar() : ByteScanners.SCALAR;
+        if ("vector".equals(scanner) && byteScanner == ByteScanners.SCALAR) {
+            throw new IllegalStateException("The Vector API isn't available, build the engine with -Pvector");
+        }
+        Random random = new Random(42);
+        StringBuilder content = new StringBuilder();
+        while (content.length() < 1024 * 1024) {
+            for (int field = 0; field < 4; field++) {
+                boolean quoted = field == 3;
+                if (quoted) {
+                    content.append('"');
+                }
+                int length = 1 + random.nextInt(2 * fieldLength);
+                for (int index = 0; index < length; index++) {
+                    content.append((char) ('a' + random.nextInt(26)));
+                }
+                if (quoted) {
+                    content.append('"');
+                }
+                content.append(field == 3 ? '\n' : ',');
+            }
+        }
+        bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Find all the ends of fields.
+     *
+     * @return the number of ends of fields found.
+     */
+    @Benchmark
+    public int scanEndsOfFields() {
+        int count = 0;
+        int index = byteScanner.indexOfEndOfField(bytes, 0, bytes.length, (byte) ',');
+        while (index < bytes.length) {
+            count++;
+            index = byteScanner.indexOfEndOfField(bytes, index + 1, bytes.length, (byte) ',');
+        }
+        return count;
+    }
+
+    /**
+     * Read all the records with the byte reader.
+     *
+     * @param blackhole consumer of the fields.
+     * @throws IOException never, the file is in memory.
+     */
+    @Benchmark
+    public void readRecords(Blackhole blackhole) throws IOException {
+        NativeByteCsvReader reader = new NativeByteCsvReader(new ByteArrayInputStream(bytes),
+                StandardCharsets.UTF_8, ',', 16384, byteScanner);
+        while (reader.nextRecord()) {
+            for (int field = 0; field < reader.getNbFields(); field++) {
+                blackhole.consume(reader.getField(field).length());
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Scanner of the special bytes based on the Vector API : the bytes are compared by blocks of 32 or 64 bytes,
+ * and the comparisons give a bitmask whose first bit set is the byte searched (like simdjson or simdcsv).<br/>
+ * This class is only compiled with the profile <code>vector</code> (JDK 17+), and needs the module
+ * <code>jdk.incubator.vector</code> at runtime, it is loaded by reflection by {@link ByteScanners}.<br/><br/>
+ * <i><u>French :</i> Recherche des octets spéciaux basée sur l'API Vector : les octets sont comparés par blocs
+ * de 32 ou 64 octets, et les comparaisons donnent un masque de bits dont le premier bit à 1 est l'octet cherché.
+ *
+ * @author ybonnel
+ */
+final class VectorByteScanner implements ByteScanner {
+
+    /**
+     * Shape of the vectors : the preferred one, limited to 64 bytes to keep the masks in a long.
+     */
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED.length() > Long.SIZE
+            ? ByteVector.SPECIES_512 : ByteVector.SPECIES_PREFERRED;
+
+    /**
+     * Under this number of bytes, the scalar search is faster.
+     */
+    private static final int MIN_VECTOR_LENGTH = SPECIES.length();
+
+    /**
+     * The scalar scanner, for the tails of the buffers.
+     */
+    private final ByteScanner scalar = new ScalarByteScanner();
+
+    public int indexOfEndOfField(byte[] bytes, int from, int to, byte separator) {
+        int index = from;
+        if (to - from >= MIN_VECTOR_LENGTH) {
+            int bound = from + SPECIES.loopBound(to - from);
+            for (; index < bound; index += SPECIES.length()) {
+                ByteVector block = ByteVector.fromArray(SPECIES, bytes, index);
+                long mask = block.compare(VectorOperators.EQ, separator)
+                        .or(block.compare(VectorOperators.EQ, (byte) '\n'))
+                        .or(block.compare(VectorOperators.EQ, (byte) '\r')).toLong();
+                if (mask != 0) {
+                    return index + Long.numberOfTrailingZeros(mask);
+                }
+            }
+        }
+        return scalar.indexOfEndOfField(bytes, index, to, separator);
+    }
+
+    public int indexOfQuote(byte[] bytes, int from, int to) {
+        int index = from;
+        if (to - from >= MIN_VECTOR_LENGTH) {
+            int bound = from + SPECIES.loopBound(to - from);
+            for (; index < bound; index += SPECIES.length()) {
+                long mask = ByteVector.fromArray(SPECIES, bytes, index).compare(VectorOperators.EQ, (byte) '"')
+                        .toLong();
+                if (mask != 0) {
+                    return index + Long.numberOfTrailingZeros(mask);
+                }
+            }
+        }
+        return scalar.indexOfQuote(bytes, index, to);
+    }
+}
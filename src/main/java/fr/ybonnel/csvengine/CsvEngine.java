@@ -16,6 +16,7 @@
  */
 package fr.ybonnel.csvengine;
 
+import fr.ybonnel.csvengine.adapter.AdapterCsv;
 import fr.ybonnel.csvengine.annotation.CsvColumn;
 import fr.ybonnel.csvengine.annotation.CsvFile;
 import fr.ybonnel.csvengine.annotation.CsvValidation;
@@ -23,10 +24,13 @@ import fr.ybonnel.csvengine.annotation.CsvValidations;
 import fr.ybonnel.csvengine.exception.CsvEngineException;
 import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
 import fr.ybonnel.csvengine.exception.StopParseException;
-import fr.ybonnel.csvengine.factory.AbstractCsvReader;
 import fr.ybonnel.csvengine.factory.AbstractCsvWriter;
 import fr.ybonnel.csvengine.factory.CsvManagerFactory;
 import fr.ybonnel.csvengine.factory.DefaultCsvManagerFactory;
+import fr.ybonnel.csvengine.factory.MappedFileInputStream;
+import fr.ybonnel.csvengine.factory.MappedFileReader;
+import fr.ybonnel.csvengine.factory.NativeByteCsvReader;
+import fr.ybonnel.csvengine.model.CloseableIterator;
 import fr.ybonnel.csvengine.model.CsvClass;
 import fr.ybonnel.csvengine.model.CsvField;
 import fr.ybonnel.csvengine.model.EngineParameters;
@@ -34,9 +38,12 @@ import fr.ybonnel.csvengine.model.Error;
 import fr.ybonnel.csvengine.model.InsertBatch;
 import fr.ybonnel.csvengine.model.InsertInList;
 import fr.ybonnel.csvengine.model.InsertObject;
+import fr.ybonnel.csvengine.model.InsertObjectsForAsyncBatch;
 import fr.ybonnel.csvengine.model.InsertObjectsForBatch;
+import fr.ybonnel.csvengine.model.ParallelParameters;
+import fr.ybonnel.csvengine.model.PipelineParameters;
 import fr.ybonnel.csvengine.model.Result;
-import fr.ybonnel.csvengine.validator.ValidateException;
+import fr.ybonnel.csvengine.model.RowFilter;
 import fr.ybonnel.csvengine.validator.ValidationError;
 
 import java.io.BufferedReader;
@@ -46,17 +53,22 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Engine to write and read CSV File.<br/>
@@ -68,7 +80,8 @@ import java.util.logging.Logger;
  * {@code List<CsvObject> objects = engine.parseInputStream(stream, CsvObject.class);}</li>
  * <li>Write a CSV File :<br/>
  * {@code engine.writeFile(new FileWriter(file), objects, CsvObject.class);}</li>
- * </ul><br/><br/>
+ * </ul>
+ * An engine can be shared by many threads : each read uses its own session.<br/><br/>
  * <p/>
  * <i><u>French :</i> Moteur de lecture et écriture de fichier CSV.<br/>
  * Voici des exemple d'utilisation :
@@ -81,38 +94,24 @@ import java.util.logging.Logger;
  * <li>Ecriture d'un fichier CSV :<br/>
  * {@code moteur.writeFile(new FileWriter(file), objets, CsvObject.class);}</li>
  * </ul>
+ * Un moteur peut être partagé entre plusieurs threads : chaque lecture utilise sa propre session.
  *
  * @author ybonnel
  */
 public class CsvEngine {
 
     /**
-     * Logger.
-     */
-    private static final Logger LOGGER = Logger.getLogger(CsvEngine.class.getSimpleName());
-
-    /**
-     * Map of managed classes.
-     */
-    private final Map<Class<?>, CsvClass> mapClasses = new HashMap<Class<?>, CsvClass>();
-
-    /**
-     * Current header.
-     */
-    private String[] currentHeader;
-
-    /**
-     * Current class.
+     * Map of managed classes, a class is published once completely scanned.
      */
-    private CsvClass currentCsvClass;
+    private final ConcurrentMap<Class<?>, CsvClass> mapClasses = new ConcurrentHashMap<Class<?>, CsvClass>();
 
     /**
      * Factory which deliver CsvReader and CsvWriter.
      */
-    private CsvManagerFactory factory;
+    private volatile CsvManagerFactory factory;
 
     /**
-     * This method can be call to use an other implementation than open-csv for read and write of CSV File.
+     * This method can be call to use an other implementation than the default ones for read and write of CSV File.
      *
      * @param factory factory which deliver CsvReader and CsvWriter.
      */
@@ -163,48 +162,9 @@ public class CsvEngine {
     }
 
     /**
-     * CSV Reader.
-     */
-    private AbstractCsvReader csvReader;
-
-    /**
-     * Used to construct a line based on the field.
-     *
-     * @param fields list of fields.
-     * @return the CSV line.
-     */
-    private String constructLine(String[] fields) {
-        StringBuilder builder = new StringBuilder();
-        boolean first = true;
-        for (String champ : fields) {
-            if (first) {
-                first = false;
-            } else {
-                builder.append(currentCsvClass.getSeparatorWithoutEscape());
-            }
-            builder.append(champ);
-        }
-        return builder.toString();
-    }
-
-    /**
-     * Use to set a value of a field.
-     *
-     * @param csvField  the field to set.
-     * @param csvObject the objects to set.
-     * @param value     the value to set.
-     * @throws fr.ybonnel.csvengine.validator.ValidateException if the value isn't good.
+     * Session used by {@link CsvEngine#newCsvFile} and {@link CsvEngine#createObject()}, one per thread.
      */
-    private void setValeur(CsvField csvField, Object csvObject, String value) throws ValidateException {
-        csvField.getField().setAccessible(true);
-        try {
-            csvField.getField().set(csvObject, csvField.getAdapterCsv().parse(value));
-        } catch (ValidateException exception) {
-            throw exception;
-        } catch (Exception e) {
-            throw new ValidateException("Error in set", e);
-        }
-    }
+    private final ThreadLocal<ParseSession> currentSession = new ThreadLocal<ParseSession>();
 
     /**
      * Create an object from the current line of CSV.
@@ -215,189 +175,77 @@ public class CsvEngine {
      *          in case of validation error.
      */
     protected Object createObject() throws ValidationError {
-        if (currentCsvClass == null) {
+        ParseSession session = currentSession.get();
+        if (session == null) {
             throw new CsvEngineException(
                     "The method \"createObject\" have been called without the call of the method newCsvFile.");
         }
-        String[] fields = readLine();
-        if (fields == null) {
-            return null;
-        }
-        try {
-            ValidationError validationError = null;
-            Object csvObject = constructObject();
-            for (int numChamp = 0; numChamp < fields.length; numChamp++) {
-                validationError = processField(fields, validationError, csvObject, numChamp);
-            }
-            if (validationError != null) {
-                throw validationError;
-            }
-            return csvObject;
-        } catch (RuntimeException unexpectedException) {
-            throw new CsvEngineException("Error on line " + Arrays.toString(fields), unexpectedException);
-        }
-    }
-
-    /**
-     * Process of a field.
-     *
-     * @param fieldsValues    list of flieds values.
-     * @param validationError container of validation error.
-     * @param csvObject       object to fill.
-     * @param fieldNumber     number of the field.
-     * @return container of validation error.
-     */
-    private ValidationError processField(String[] fieldsValues, ValidationError validationError,
-                                         Object csvObject, int fieldNumber) {
-        String fieldValue = fieldsValues[fieldNumber];
-        if (fieldValue != null && !"".equals(fieldValue)) {
-            validationError = fillField(fieldsValues, validationError, csvObject, fieldNumber, fieldValue);
-        } else if (parameters.hasValidation()) {
-            validationError = validateMandatoryField(fieldsValues, validationError, fieldNumber);
-        }
-        return validationError;
-    }
-
-    /**
-     * Validation of the mandatory..
-     *
-     * @param fields          list of fields.
-     * @param validationError container of validation errors.
-     * @param fieldNumber     number of the field.
-     * @return container of validation error.
-     */
-    private ValidationError validateMandatoryField(String[] fields, ValidationError validationError, int fieldNumber) {
-        CsvField csvField = currentCsvClass.getCsvField(currentHeader[fieldNumber]);
-        if (csvField != null && csvField.isMandatory()) {
-            validationError =
-                    addValidationMessage(fields, validationError, currentHeader[fieldNumber], new ValidateException(
-                            "The field is mandatory"));
-        }
-        return validationError;
+        return session.createObject();
     }
 
     /**
-     * Validate the field and fill it.
+     * Start the read of a new file in a new session.
      *
-     * @param fieldsValues    values of fields.
-     * @param validationError container of validation errors.
-     * @param csvObjects      object to fill.
-     * @param fieldNumber     field number.
-     * @param value           value of the field.
-     * @return container of validation errors.
-     */
-    private ValidationError fillField(String[] fieldsValues, ValidationError validationError, Object csvObjects,
-                                      int fieldNumber, String value) {
-        String fieldName = currentHeader[fieldNumber];
-        CsvField csvField = currentCsvClass.getCsvField(fieldName);
-        if (csvField != null) {
-            try {
-                if (parameters.hasValidation()) {
-                    csvField.validate(value);
-                }
-                setValeur(csvField, csvObjects, value);
-            } catch (ValidateException exception) {
-                validationError = addValidationMessage(
-                        fieldsValues, validationError, currentHeader[fieldNumber], exception);
-            }
-        }
-        return validationError;
-    }
-
-    /**
-     * Add the validation message..
-     *
-     * @param fieldsValues    values of the field in CSV line.
-     * @param validationError current validation error.
-     * @param fieldName       field name.
-     * @param exception       exception corresponding to the validation error.
-     * @return the validation error.
+     * @param reader a Reader which represent the CSV File.
+     * @param clazz  the associated class.
+     * @param rowFilter filter of the rows, can be null.
+     * @return the session, to close at the end of the read.
      */
-    private ValidationError addValidationMessage(String[] fieldsValues,
-                                                 ValidationError validationError, String fieldName,
-                                                 ValidateException exception) {
-        if (validationError == null) {
-            validationError = new ValidationError(constructLine(fieldsValues));
-        }
-        StringBuilder message = new StringBuilder("Validation error on the field ");
-        message.append(fieldName);
-        message.append(" : ");
-        message.append(exception.getMessage());
-        if (exception.getCause() != null) {
-            message.append(" (cause : ");
-            message.append(exception.getCause().getMessage());
-            message.append(')');
-        }
-        validationError.getError().getMessages().add(message.toString());
-        return validationError;
+    ParseSession openSession(Reader reader, Class<?> clazz, RowFilter rowFilter) {
+        CsvClass csvClass = getCsvClass(clazz);
+        return new ParseSession(csvClass, parameters,
+                factory.createReaderCsv(reader, csvClass.getSeparatorWithoutEscape()), rowFilter);
     }
 
     /**
-     * Construct an object.
+     * Start the read of a new stream of bytes in a new session.
      *
-     * @return constructed object.
+     * @param inputStream a stream which represent the CSV File.
+     * @param charset     charset of the CSV File.
+     * @param clazz       the associated class.
+     * @param rowFilter   filter of the rows, can be null.
+     * @return the session, to close at the end of the read.
      */
-    private Object constructObject() {
-        Object csvObject;
-        try {
-            csvObject = currentCsvClass.getConstructor().newInstance((Object[]) null);
-        } catch (Exception exception) {
-            Throwable myException = exception;
-            if (myException instanceof InvocationTargetException) {
-                myException = exception.getCause();
-            }
-            throw new CsvEngineException("Error during instantiation of "
-                    + currentCsvClass.getClazz().getSimpleName(), myException);
-        }
-        return csvObject;
+    ParseSession openSession(InputStream inputStream, Charset charset, Class<?> clazz, RowFilter rowFilter) {
+        CsvClass csvClass = getCsvClass(clazz);
+        return new ParseSession(csvClass, parameters,
+                factory.createReaderCsv(inputStream, charset, csvClass.getSeparatorWithoutEscape()), rowFilter);
     }
 
     /**
-     * Read of un line.
+     * Get the description of a class managed by the engine.
      *
-     * @return read line.
+     * @param clazz the class.
+     * @return the description of the class.
      */
-    private String[] readLine() {
-        try {
-            return csvReader.readLine();
-        } catch (IOException e) {
-            throw new CsvEngineException("Error reading a line", e);
+    private CsvClass getCsvClass(Class<?> clazz) {
+        CsvClass csvClass = mapClasses.get(clazz);
+        if (csvClass == null) {
+            throw new CsvEngineException("The class " + clazz.getSimpleName() + " isn't managed");
         }
+        return csvClass;
     }
 
     /**
-     * Start the read of a new file.
+     * Start the read of a new file.<br/>
+     * The file is associated to the current thread, use {@link CsvEngine#createObject()} to read it.
      *
      * @param reader a Reader which represent the CSV File.
      * @param clazz  the associated class.
      */
     protected void newCsvFile(Reader reader, Class<?> clazz) {
-        currentCsvClass = mapClasses.get(clazz);
-        if (currentCsvClass == null) {
-            throw new CsvEngineException("The class " + clazz.getSimpleName() + " isn't managed");
-        }
-        csvReader = factory.createReaderCsv(reader, currentCsvClass.getSeparatorWithoutEscape());
-        try {
-            currentHeader = csvReader.readLine();
-        } catch (IOException e) {
-            throw new CsvEngineException(e);
-        }
-        if (Character.isIdentifierIgnorable(currentHeader[0].charAt(0))) {
-            currentHeader[0] = currentHeader[0].substring(1);
-        }
+        closeCurrentReader();
+        currentSession.set(openSession(reader, clazz, null));
     }
 
     /**
      * Close the current reader.
      */
     private void closeCurrentReader() {
-        if (csvReader != null) {
-            try {
-                csvReader.close();
-            } catch (IOException exception) {
-                LOGGER.log(Level.WARNING, "Error closing CsvReader", exception);
-            }
-            csvReader = null;
+        ParseSession session = currentSession.get();
+        if (session != null) {
+            session.close();
+            currentSession.remove();
         }
     }
 
@@ -434,16 +282,35 @@ public class CsvEngine {
      */
     public <T> Result<T> parseInputStream(InputStream inputStream, Charset charset, Class<T> clazz)
             throws CsvErrorsExceededException {
+        return parseInputStream(inputStream, charset, clazz, null);
+    }
+
+    /**
+     * Parse an InputStream representing a CSV File to transform it in a list of <T>,
+     * keeping only the rows accepted by a filter.
+     *
+     * @param <T>         Class associated to the CSV.
+     * @param inputStream inputStream representing the CSV File.
+     * @param charset     class associated to the CSV File.
+     * @param clazz       class associated to the CSV File.
+     * @param rowFilter   filter of the rows, evaluated before the construction of the objects (can be null).
+     * @return a result which contains errors end the list of <T> representing the rows accepted.
+     * @throws fr.ybonnel.csvengine.exception.CsvErrorsExceededException
+     *          if the number of errors occurred exceed the accepted number
+     *          {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
+     */
+    public <T> Result<T> parseInputStream(InputStream inputStream, Charset charset, Class<T> clazz,
+                                          RowFilter rowFilter)
+            throws CsvErrorsExceededException {
         Result<T> result = new Result<T>();
-        result.getErrors().addAll(
-                parseFileAndInsert(new BufferedReader(new InputStreamReader(inputStream, charset)), clazz,
-                        new InsertInList<T>(result.getObjects())));
+        result.getErrors().addAll(parseSession(openSession(inputStream, charset, clazz, rowFilter),
+                new InsertInList<T>(result.getObjects())));
         return result;
     }
 
     /**
      * Parse an InputStream representing a CSV File to transform it in a list of <T><br/>.
-     * Stop the parsing when nbLinesToParse is reached.
+     * Stop the parsing when nbLinesToParse is reached : the records after are not read.
      *
      * @param <T>         Class associated to the CSV.
      * @param inputStream inputStream representing the CSV File.
@@ -455,23 +322,145 @@ public class CsvEngine {
      *          {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
      */
     public <T> Result<T> parseFirstLinesOfInputStream(InputStream inputStream, Class<T> clazz,
-                                                      final int nbLinesToParse)
+                                                      int nbLinesToParse)
             throws CsvErrorsExceededException {
-        final Result<T> result = new Result<T>();
-        result.getErrors().addAll(parseFileAndInsert(new BufferedReader(new InputStreamReader(inputStream)), clazz,
-                new InsertInList<T>(result.getObjects()) {
-                    @Override
-                    public void insertObject(T object) {
-                        super.insertObject(object);
-                        if (result.getObjects().size() >= nbLinesToParse) {
-                            throw new StopParseException();
-                        }
-                    }
-                }));
+        Result<T> result = new Result<T>();
+        CsvIterator<T> iterator = new CsvIterator<T>(
+                openSession(new BufferedReader(new InputStreamReader(inputStream)), clazz, null),
+                parameters.getNbLinesWithErrorsToStop());
+        try {
+            T object;
+            while (result.getObjects().size() < nbLinesToParse && (object = iterator.nextObject()) != null) {
+                result.getObjects().add(object);
+            }
+        } finally {
+            iterator.close();
+        }
+        result.getErrors().addAll(iterator.getErrors());
+        return result;
+    }
+
+    /**
+     * Read a CSV File with a pull iterator : a record is read only when the next object is asked,
+     * so the read stops as soon as the caller stops pulling.
+     *
+     * @param <T>    The class associated to the CSV File.
+     * @param reader a Reader which represent the CSV File.
+     * @param clazz  class associated to the CSV File.
+     * @return the iterator, to close if all the objects aren't read.
+     */
+    public <T> CloseableIterator<T> iterator(Reader reader, Class<T> clazz) {
+        return iterator(reader, clazz, null);
+    }
+
+    /**
+     * Read a CSV File with a pull iterator over the rows accepted by a filter.<br/>
+     * The lines with validation errors are skipped and kept in {@link CloseableIterator#getErrors()},
+     * the iterator throws a CsvEngineException caused by a {@link CsvErrorsExceededException} when the number
+     * of errors exceeds {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
+     *
+     * @param <T>       The class associated to the CSV File.
+     * @param reader    a Reader which represent the CSV File.
+     * @param clazz     class associated to the CSV File.
+     * @param rowFilter filter of the rows, evaluated before the construction of the objects (can be null).
+     * @return the iterator, to close if all the objects aren't read.
+     */
+    public <T> CloseableIterator<T> iterator(Reader reader, Class<T> clazz, RowFilter rowFilter) {
+        return new CsvIterator<T>(openSession(reader, clazz, rowFilter), parameters.getNbLinesWithErrorsToStop());
+    }
 
+    /**
+     * Parse a local CSV File in UTF-8 to transform it in a list of <T>, see
+     * {@link #parseFile(java.nio.file.Path, java.nio.charset.Charset, Class)}.
+     *
+     * @param <T>   Class associated to the CSV.
+     * @param path  the CSV File.
+     * @param clazz class associated to the CSV File.
+     * @return a result which contains errors end the list of <T> representing all rows of the CSV File.
+     * @throws fr.ybonnel.csvengine.exception.CsvErrorsExceededException
+     *          if the number of errors occurred exceed the accepted number
+     *          {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
+     */
+    public <T> Result<T> parseFile(Path path, Class<T> clazz) throws CsvErrorsExceededException {
+        return parseFile(path, Charset.forName("UTF-8"), clazz);
+    }
+
+    /**
+     * Parse a local CSV File to transform it in a list of <T>.<br/>
+     * The file is mapped in memory by windows, see
+     * {@link #parseFileAndInsert(java.nio.file.Path, java.nio.charset.Charset, Class, InsertObject)}.
+     *
+     * @param <T>     Class associated to the CSV.
+     * @param path    the CSV File.
+     * @param charset charset of the CSV File.
+     * @param clazz   class associated to the CSV File.
+     * @return a result which contains errors end the list of <T> representing all rows of the CSV File.
+     * @throws fr.ybonnel.csvengine.exception.CsvErrorsExceededException
+     *          if the number of errors occurred exceed the accepted number
+     *          {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
+     */
+    public <T> Result<T> parseFile(Path path, Charset charset, Class<T> clazz) throws CsvErrorsExceededException {
+        Result<T> result = new Result<T>();
+        result.getErrors().addAll(parseFileAndInsert(path, charset, clazz, new InsertInList<T>(result.getObjects())));
         return result;
     }
 
+    /**
+     * Parse a local CSV File with an handler on each row.<br/>
+     * The file is mapped in memory by windows, so files bigger than 2 GB can be parsed. When the charset
+     * is ASCII compatible (UTF-8, ISO-8859-*...), the records are tokenized on the mapped bytes
+     * ({@link MappedFileInputStream}), the other charsets are decoded directly in the buffer of the reader
+     * ({@link MappedFileReader}).
+     *
+     * @param <T>     The class associated to the CSV File.
+     * @param path    the CSV File.
+     * @param charset charset of the CSV File.
+     * @param clazz   class associated to the CSV File.
+     * @param handler the handler call on each row.
+     * @return the errors occurred.
+     * @throws fr.ybonnel.csvengine.exception.CsvErrorsExceededException
+     *          if the number of errors occurred exceed the accepted number
+     *          {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
+     */
+    public <T> List<Error> parseFileAndInsert(Path path, Charset charset, Class<T> clazz, InsertObject<T> handler)
+            throws CsvErrorsExceededException {
+        return parseSession(openFileSession(path, charset, clazz), handler);
+    }
+
+    /**
+     * Start the read of a local CSV File mapped in memory in a new session.
+     *
+     * @param path    the CSV File.
+     * @param charset charset of the CSV File.
+     * @param clazz   the associated class.
+     * @return the session, to close at the end of the read.
+     */
+    private ParseSession openFileSession(Path path, Charset charset, Class<?> clazz) {
+        if (!NativeByteCsvReader.isAsciiCompatible(charset)) {
+            return openSession(openMappedFile(path, charset), clazz, null);
+        }
+        try {
+            return openSession(new MappedFileInputStream(path), charset, clazz, null);
+        } catch (IOException exception) {
+            throw new CsvEngineException(exception);
+        }
+    }
+
+    /**
+     * Open a local CSV File mapped in memory.
+     *
+     * @param path    the CSV File.
+     * @param charset charset of the CSV File.
+     * @return the reader.
+     */
+    private static Reader openMappedFile(Path path, Charset charset) {
+        try {
+            return new MappedFileReader(path, charset);
+        } catch (IOException exception) {
+            throw new CsvEngineException(exception);
+        }
+    }
+
     /**
      * Parse a CSV File with an handler on each row.
      *
@@ -484,20 +473,53 @@ public class CsvEngine {
      *          if the number of errors occurred exceed the accepted number
      *          {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
      */
-    @SuppressWarnings("unchecked")
     public <T> List<Error> parseFileAndInsert(Reader reader, Class<T> clazz, InsertObject<T> handler)
             throws CsvErrorsExceededException {
+        return parseFileAndInsert(reader, clazz, handler, null);
+    }
+
+    /**
+     * Parse a CSV File with an handler on each row accepted by a filter.
+     *
+     * @param <T>       The class associated to the CSV File.
+     * @param reader    a Reader which represent the CSV File.
+     * @param clazz     class associated to the CSV File.
+     * @param handler   the handler call on each row.
+     * @param rowFilter filter of the rows, evaluated before the construction of the objects (can be null).
+     * @return the errors occurred.
+     * @throws fr.ybonnel.csvengine.exception.CsvErrorsExceededException
+     *          if the number of errors occurred exceed the accepted number
+     *          {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
+     */
+    public <T> List<Error> parseFileAndInsert(Reader reader, Class<T> clazz, InsertObject<T> handler,
+                                              RowFilter rowFilter)
+            throws CsvErrorsExceededException {
+        return parseSession(openSession(reader, clazz, rowFilter), handler);
+    }
+
+    /**
+     * Parse the objects of a session with an handler on each row, the session is closed at the end.
+     *
+     * @param <T>     The class associated to the CSV File.
+     * @param session the session.
+     * @param handler the handler call on each row.
+     * @return the errors occurred.
+     * @throws fr.ybonnel.csvengine.exception.CsvErrorsExceededException
+     *          if the number of errors occurred exceed the accepted number.
+     */
+    @SuppressWarnings("unchecked")
+    <T> List<Error> parseSession(ParseSession session, InsertObject<T> handler)
+            throws CsvErrorsExceededException {
         List<Error> errors = new ArrayList<Error>();
         try {
-            newCsvFile(reader, clazz);
             T object = null;
             boolean hasValidationError;
             do {
                 try {
                     hasValidationError = false;
-                    object = (T) createObject();
+                    object = (T) session.createObject();
                     if (object != null) {
-                        handler.insertObject(object);
+                        ParseSession.insertObject(parameters.getMetrics(), handler, object);
                     }
                 } catch (ValidationError validationError) {
                     hasValidationError = true;
@@ -511,11 +533,35 @@ public class CsvEngine {
                 }
             } while (object != null || hasValidationError);
         } finally {
-            closeCurrentReader();
+            session.close();
         }
         return errors;
     }
 
+    /**
+     * Parse a CSV File with an handler on each row, in a pipeline : a thread reads the records,
+     * threads bind them to objects, and the calling thread calls the handler.<br/>
+     * The stages are connected by bounded queues, so the memory used is bounded even if the handler is slow.
+     *
+     * @param <T>                The class associated to the CSV File.
+     * @param reader             a Reader which represent the CSV File.
+     * @param clazz              class associated to the CSV File.
+     * @param handler            the handler call on each row, by the calling thread.
+     * @param rowFilter          filter of the rows, evaluated by the reading thread before the construction
+     *                           of the objects (can be null).
+     * @param pipelineParameters parameters of the pipeline.
+     * @return the errors occurred.
+     * @throws fr.ybonnel.csvengine.exception.CsvErrorsExceededException
+     *          if the number of errors occurred exceed the accepted number
+     *          {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
+     */
+    public <T> List<Error> parseFileAndInsert(Reader reader, Class<T> clazz, InsertObject<T> handler,
+                                              RowFilter rowFilter, PipelineParameters pipelineParameters)
+            throws CsvErrorsExceededException {
+        return new PipelinedParser<T>(openSession(reader, clazz, rowFilter),
+                parameters.getNbLinesWithErrorsToStop(), pipelineParameters).parse(handler);
+    }
+
     /**
      * Parse a CSV file with an handler for batch of objects.
      * @param <T>     The class associated to the CSV File.
@@ -531,14 +577,247 @@ public class CsvEngine {
     public <T> List<Error> parseFileAndHandleBatch(Reader reader, Class<T> clazz,
                                                    InsertBatch<T> handler, int batchSize)
             throws CsvErrorsExceededException {
+        return parseFileAndHandleBatch(reader, clazz, handler, batchSize, null);
+    }
+
+    /**
+     * Parse a CSV file with an handler for batch of objects, in a pipeline : a thread reads the records,
+     * threads bind them to objects, and the calling thread calls the handler.
+     * @param <T>     The class associated to the CSV File.
+     * @param reader  a Reader which represent the CSV File.
+     * @param clazz   class associated to the CSV File.
+     * @param handler the handler call on batch of objects, by the calling thread.
+     * @param batchSize size of a batch.
+     * @param rowFilter filter of the rows, evaluated by the reading thread before the construction of the objects
+     *                  (can be null).
+     * @param pipelineParameters parameters of the pipeline.
+     * @return the errors occurred.
+     * @throws fr.ybonnel.csvengine.exception.CsvErrorsExceededException
+     *          if the number of errors occurred exceed the accepted number
+     *          {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
+     */
+    public <T> List<Error> parseFileAndHandleBatch(Reader reader, Class<T> clazz, InsertBatch<T> handler,
+                                                   int batchSize, RowFilter rowFilter,
+                                                   PipelineParameters pipelineParameters)
+            throws CsvErrorsExceededException {
         InsertObjectsForBatch<T> handlerBatch = new InsertObjectsForBatch<T>(handler, batchSize);
-        List<Error> errors = parseFileAndInsert(reader, clazz, handlerBatch);
+        List<Error> errors = parseFileAndInsert(reader, clazz, handlerBatch, rowFilter, pipelineParameters);
         if (!handlerBatch.getCurrentListOfObjects().isEmpty()) {
             handler.handleBatch(handlerBatch.getCurrentListOfObjects());
         }
         return errors;
     }
 
+    /**
+     * Parse a CSV file with an handler for batch of objects called asynchronously : the batches are handled by
+     * an executor while the parse continues.<br/>
+     * When maxBatchesInFlight batches are handled, the parse waits. The last batch is handled and all the batches
+     * are finished before the method returns. A failure of the handler is thrown by this method
+     * (in a CsvEngineException), a StopParseException stops the parse.
+     * @param <T>     The class associated to the CSV File.
+     * @param reader  a Reader which represent the CSV File.
+     * @param clazz   class associated to the CSV File.
+     * @param handler the handler call on batch of objects, by the threads of the executor.
+     * @param batchSize size of a batch.
+     * @param executor executor of the handler.
+     * @param maxBatchesInFlight maximum number of batches handled at the same time.
+     * @return the errors occurred.
+     * @throws fr.ybonnel.csvengine.exception.CsvErrorsExceededException
+     *          if the number of errors occurred exceed the accepted number
+     *          {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
+     */
+    public <T> List<Error> parseFileAndHandleBatch(Reader reader, Class<T> clazz, InsertBatch<T> handler,
+                                                   int batchSize, ExecutorService executor, int maxBatchesInFlight)
+            throws CsvErrorsExceededException {
+        InsertObjectsForAsyncBatch<T> handlerBatch =
+                new InsertObjectsForAsyncBatch<T>(handler, batchSize, executor, maxBatchesInFlight);
+        try {
+            List<Error> errors = parseFileAndInsert(reader, clazz, handlerBatch);
+            handlerBatch.flush();
+            return errors;
+        } finally {
+            handlerBatch.awaitBatches();
+        }
+    }
+
+    /**
+     * Parse a CSV file with an handler for batch of objects, keeping only the rows accepted by a filter.
+     * @param <T>     The class associated to the CSV File.
+     * @param reader  a Reader which represent the CSV File.
+     * @param clazz   class associated to the CSV File.
+     * @param handler the handler call on batch of objects.
+     * @param batchSize size of a batch.
+     * @param rowFilter filter of the rows, evaluated before the construction of the objects (can be null).
+     * @return the errors occurred.
+     * @throws fr.ybonnel.csvengine.exception.CsvErrorsExceededException
+     *          if the number of errors occurred exceed the accepted number
+     *          {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
+     */
+    public <T> List<Error> parseFileAndHandleBatch(Reader reader, Class<T> clazz,
+                                                   InsertBatch<T> handler, int batchSize, RowFilter rowFilter)
+            throws CsvErrorsExceededException {
+        InsertObjectsForBatch<T> handlerBatch = new InsertObjectsForBatch<T>(handler, batchSize);
+        List<Error> errors = parseFileAndInsert(reader, clazz, handlerBatch, rowFilter);
+        if (!handlerBatch.getCurrentListOfObjects().isEmpty()) {
+            handler.handleBatch(handlerBatch.getCurrentListOfObjects());
+        }
+        return errors;
+    }
+
+    /**
+     * Parse a CSV File in parallel : the file is split in chunks parsed by the tasks of a pool.<br/>
+     * The objects are handled by the calling thread, in the order of the file.
+     * Default encoding is "UTF-8".<br/>
+     * The errors are checked as for
+     * {@link #parseFileInParallel(Path, Charset, Class, InsertObject, ExecutorService, ParallelParameters)}.
+     *
+     * @param <T>      The class associated to the CSV File.
+     * @param path     the CSV File.
+     * @param clazz    class associated to the CSV File.
+     * @param handler  the handler call on each row, by the calling thread.
+     * @param executor pool used to parse the chunks.
+     * @return the errors occurred.
+     * @throws fr.ybonnel.csvengine.exception.CsvErrorsExceededException
+     *          if the number of errors occurred exceed the accepted number
+     *          {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
+     */
+    public <T> List<Error> parseFileInParallel(Path path, Class<T> clazz, InsertObject<T> handler,
+                                               ExecutorService executor)
+            throws CsvErrorsExceededException {
+        return parseFileInParallel(path, Charset.forName("UTF-8"), clazz, handler, executor,
+                new ParallelParameters());
+    }
+
+    /**
+     * Parse a CSV File in parallel : the file is split in chunks parsed by the tasks of a pool.<br/>
+     * The chunks are cut on the ends of records, even if quoted fields contain line breaks, as long as
+     * the quotes of the file are balanced. The charset must keep the quote and the line feed on one byte
+     * (UTF-8, ISO-8859-*...), the file is parsed sequentially with the other charsets.<br/>
+     * The objects are handled by the calling thread, in the order of the file or as soon as their chunk is parsed
+     * ({@link ParallelParameters#setOrdered(boolean)}).<br/>
+     * The number of lines with errors is checked by each chunk, then on the total of the chunks delivered : a chunk
+     * keeps parsing after its own errors and its objects are given to the handler before its errors are counted,
+     * so the handler can receive objects placed after the error which stops a sequential parse.
+     *
+     * @param <T>                The class associated to the CSV File.
+     * @param path               the CSV File.
+     * @param charset            charset of the CSV File.
+     * @param clazz              class associated to the CSV File.
+     * @param handler            the handler call on each row, by the calling thread.
+     * @param executor           pool used to parse the chunks.
+     * @param parallelParameters parameters of the parallel parse.
+     * @return the errors occurred.
+     * @throws fr.ybonnel.csvengine.exception.CsvErrorsExceededException
+     *          if the number of errors occurred exceed the accepted number
+     *          {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
+     */
+    public <T> List<Error> parseFileInParallel(Path path, Charset charset, Class<T> clazz, InsertObject<T> handler,
+                                               ExecutorService executor, ParallelParameters parallelParameters)
+            throws CsvErrorsExceededException {
+        return new ParallelFileParser<T>(this, clazz, charset, executor, parallelParameters).parse(path, handler);
+    }
+
+    /**
+     * Read a CSV File as a reactive publisher : a record is read only when the subscriber has requested
+     * an object, and the objects are delivered by the common fork-join pool.
+     *
+     * @param <T>    The class associated to the CSV File.
+     * @param reader a Reader which represent the CSV File.
+     * @param clazz  class associated to the CSV File.
+     * @return the publisher, which accepts only one subscriber.
+     */
+    public <T> Flow.Publisher<T> publisher(Reader reader, Class<T> clazz) {
+        return publisher(reader, clazz, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Read a CSV File as a reactive publisher : a record is read only when the subscriber has requested
+     * an object, so nothing is buffered when the subscriber is slow.<br/>
+     * The lines with validation errors are skipped, the subscriber receives a {@link CsvErrorsExceededException}
+     * when the number of errors exceeds
+     * {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.
+     * The reader is closed at the end of the file, on an error, or when the subscription is cancelled.
+     *
+     * @param <T>      The class associated to the CSV File.
+     * @param reader   a Reader which represent the CSV File.
+     * @param clazz    class associated to the CSV File.
+     * @param executor executor used to deliver the objects, one task at a time.
+     * @return the publisher, which accepts only one subscriber.
+     */
+    public <T> Flow.Publisher<T> publisher(Reader reader, Class<T> clazz, Executor executor) {
+        return new CsvPublisher<T>(this, reader, clazz, executor);
+    }
+
+    /**
+     * Read a CSV File as a lazy stream : the records are parsed only when the stream asks for an object,
+     * so {@link Stream#limit(long)} and the short-circuiting operations stop the read.<br/>
+     * The lines with validation errors are skipped, the stream throws a CsvEngineException caused by a
+     * {@link CsvErrorsExceededException} when the number of errors exceeds
+     * {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.<br/>
+     * The stream must be closed to close the reader. A stream over a reader can't be split,
+     * use {@link #stream(Path, Charset, Class)} for a parallel stream.
+     *
+     * @param <T>    The class associated to the CSV File.
+     * @param reader a Reader which represent the CSV File.
+     * @param clazz  class associated to the CSV File.
+     * @return the stream of the objects.
+     */
+    public <T> Stream<T> stream(Reader reader, Class<T> clazz) {
+        CsvSpliterator.Source<T> source = new CsvSpliterator.Source<T>(this, clazz, reader);
+        return StreamSupport.stream(new CsvSpliterator<T>(source), false).onClose(source::close);
+    }
+
+    /**
+     * Read a CSV File in UTF-8 as a lazy stream, see {@link #stream(Path, Charset, Class)}.
+     *
+     * @param <T>   The class associated to the CSV File.
+     * @param path  the CSV File.
+     * @param clazz class associated to the CSV File.
+     * @return the stream of the objects.
+     */
+    public <T> Stream<T> stream(Path path, Class<T> clazz) {
+        return stream(path, Charset.forName("UTF-8"), clazz);
+    }
+
+    /**
+     * Read a CSV File as a lazy stream, see {@link #stream(Reader, Class)}.<br/>
+     * When the stream is parallel, the file is cut in ranges of records, even if quoted fields contain
+     * line breaks, and each range is parsed by its own reader. The charset must keep the quote and the line feed
+     * on one byte (UTF-8, ISO-8859-*...) to cut the file, the stream is sequential with the other charsets.
+     *
+     * @param <T>     The class associated to the CSV File.
+     * @param path    the CSV File.
+     * @param charset charset of the CSV File.
+     * @param clazz   class associated to the CSV File.
+     * @return the stream of the objects, to close.
+     */
+    public <T> Stream<T> stream(Path path, Charset charset, Class<T> clazz) {
+        return stream(path, charset, clazz, ParallelParameters.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Read a CSV File as a lazy stream.
+     *
+     * @param <T>       The class associated to the CSV File.
+     * @param path      the CSV File.
+     * @param charset   charset of the CSV File.
+     * @param clazz     class associated to the CSV File.
+     * @param chunkSize size of the chunks scanned to cut the file.
+     * @return the stream of the objects, to close.
+     */
+    <T> Stream<T> stream(Path path, Charset charset, Class<T> clazz, long chunkSize) {
+        try {
+            if (!RecordBoundaries.isSplittable(charset)) {
+                return stream(openMappedFile(path, charset), clazz);
+            }
+            CsvSpliterator.Source<T> source = new CsvSpliterator.Source<T>(this, clazz,
+                    FileChannel.open(path, StandardOpenOption.READ), charset, chunkSize);
+            return StreamSupport.stream(new CsvSpliterator<T>(source), false).onClose(source::close);
+        } catch (IOException exception) {
+            throw new CsvEngineException(exception);
+        }
+    }
+
     /**
      * Scan a class to manage it in the engine.
      *
@@ -562,7 +841,7 @@ public class CsvEngine {
                 csvClass.putOrder(csvColumn.value(), csvColumn.order());
             }
         }
-        mapClasses.put(clazz, csvClass);
+        mapClasses.putIfAbsent(clazz, csvClass);
     }
 
     /**
@@ -573,16 +852,12 @@ public class CsvEngine {
      * @param fieldsNames list of the fields names.
      * @param csvClass    CsvClass associated to the CSV File.
      * @param object      Object to write in the CSV File.
-     * @throws IllegalAccessException may not arrive.
      */
-    private <T> void writeLine(AbstractCsvWriter csvWriter, List<String> fieldsNames, CsvClass csvClass, T object)
-            throws IllegalAccessException {
+    private <T> void writeLine(AbstractCsvWriter csvWriter, List<String> fieldsNames, CsvClass csvClass, T object) {
         List<String> csvValues = new ArrayList<String>();
         for (String nomChamp : fieldsNames) {
             CsvField csvField = csvClass.getCsvField(nomChamp);
-            csvField.getField().setAccessible(true);
-            Object valeur = csvField.getField().get(object);
-            csvField.getField().setAccessible(false);
+            Object valeur = csvField.getValue(object);
             if (valeur != null) {
                 csvValues.add(csvField.getAdapterCsv().toString(valeur));
             } else {
@@ -631,6 +906,37 @@ public class CsvEngine {
         }
     }
 
+    /**
+     * Get the adapter used for a column of a class.<br/>
+     * If the column has the parameter {@link fr.ybonnel.csvengine.adapter.AdapterMemo#PARAM_MEMO_SIZE},
+     * the adapter is an {@link fr.ybonnel.csvengine.adapter.AdapterMemo} which gives its hits and misses.
+     *
+     * @param clazz      the class managed by CsvEngine.
+     * @param columnName name of the column.
+     * @return the adapter of the column.
+     */
+    public AdapterCsv<?> getAdapter(Class<?> clazz, String columnName) {
+        CsvClass csvClass = mapClasses.get(clazz);
+        if (csvClass == null) {
+            throw new CsvEngineException("The class " + clazz.getSimpleName() + " isn't managed");
+        }
+        CsvField csvField = csvClass.getCsvField(columnName);
+        if (csvField == null) {
+            throw new CsvEngineException("The column " + columnName + " doesn't exist in " + clazz.getSimpleName());
+        }
+        return csvField.getAdapterCsv();
+    }
+
+    /**
+     * Get the separator of the CSV File of a class.
+     *
+     * @param clazz the class managed by CsvEngine.
+     * @return the separator, without escape.
+     */
+    public char getSeparator(Class<?> clazz) {
+        return getCsvClass(clazz).getSeparatorWithoutEscape();
+    }
+
     /**
      * Get the CSV column names of a class.
      * @param clazz the class managed by CsvEngine.
@@ -0,0 +1,139 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.model.CloseableIterator;
+import fr.ybonnel.csvengine.model.Error;
+import fr.ybonnel.csvengine.validator.ValidationError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * <b>Internal class of the CsvEngine.</b><br/>
+ * Iterator pulling the objects from a session : only the next object is kept in memory,
+ * and nothing is read while the caller doesn't ask for an object.<br/>
+ * When the number of errors exceeds {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()},
+ * the iterator throws a CsvEngineException caused by a {@link CsvErrorsExceededException}.<br/><br/>
+ * <i><u>French :</i> Itérateur tirant les objets d'une session : seul l'objet suivant est gardé en mémoire,
+ * et rien n'est lu tant que l'appelant ne demande pas d'objet.
+ *
+ * @param <T> class associated to the CSV File.
+ * @author ybonnel
+ */
+class CsvIterator<T> implements CloseableIterator<T> {
+
+    /**
+     * The session.
+     */
+    private final ParseSession session;
+
+    /**
+     * Maximum number of lines with errors, -1 for no limit.
+     */
+    private final int nbLinesWithErrorsToStop;
+
+    /**
+     * Errors occurred.
+     */
+    private final List<Error> errors = new ArrayList<Error>();
+
+    /**
+     * Next object, null if not yet read.
+     */
+    private T next;
+
+    /**
+     * True when all the objects are read or the iterator is closed.
+     */
+    private boolean finished;
+
+    /**
+     * Constructor.
+     *
+     * @param session                 the session.
+     * @param nbLinesWithErrorsToStop maximum number of lines with errors, -1 for no limit.
+     */
+    CsvIterator(ParseSession session, int nbLinesWithErrorsToStop) {
+        this.session = session;
+        this.nbLinesWithErrorsToStop = nbLinesWithErrorsToStop;
+    }
+
+    /**
+     * Read the next object, the session is closed at the end of the file.
+     *
+     * @return the next object, null at the end of the file.
+     * @throws CsvErrorsExceededException if the number of errors occurred exceed the accepted number.
+     */
+    @SuppressWarnings("unchecked")
+    T nextObject() throws CsvErrorsExceededException {
+        if (next == null && !finished) {
+            while (true) {
+                try {
+                    next = (T) session.createObject();
+                    break;
+                } catch (ValidationError validationError) {
+                    errors.add(validationError.getError());
+                    if (nbLinesWithErrorsToStop >= 0 && errors.size() > nbLinesWithErrorsToStop) {
+                        close();
+                        throw new CsvErrorsExceededException(new ArrayList<Error>(errors));
+                    }
+                }
+            }
+            if (next == null) {
+                close();
+            }
+        }
+        T object = next;
+        next = null;
+        return object;
+    }
+
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = nextObject();
+            } catch (CsvErrorsExceededException exception) {
+                throw new CsvEngineException(exception);
+            }
+        }
+        return next != null;
+    }
+
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T object = next;
+        next = null;
+        return object;
+    }
+
+    public List<Error> getErrors() {
+        return new ArrayList<Error>(errors);
+    }
+
+    public void close() {
+        if (!finished) {
+            finished = true;
+            session.close();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <b>Internal class of the CsvEngine.</b><br/>
+ * Publisher of the objects of a CSV File, driven by the demand of its subscriber : a record is read only when
+ * the subscriber has requested an object, so nothing is buffered when the subscriber is slow.<br/>
+ * The objects are delivered by tasks of an executor, one task at a time. The file can be read only once,
+ * so the publisher accepts only one subscriber. A cancellation closes the reader.<br/>
+ * The lines with validation errors are skipped, the subscriber receives a {@link CsvErrorsExceededException}
+ * when the number of errors exceeds
+ * {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.<br/><br/>
+ * <i><u>French :</i> Publisher des objets d'un fichier CSV, piloté par la demande de son abonné :
+ * un enregistrement n'est lu que lorsque l'abonné a demandé un objet, rien n'est donc mis en tampon quand
+ * l'abonné est lent.<br/>
+ * Les objets sont délivrés par des tâches d'un executor, une tâche à la fois. Le fichier ne peut être lu
+ * qu'une fois, le publisher n'accepte donc qu'un seul abonné. Une annulation ferme le reader.
+ *
+ * @param <T> class associated to the CSV File.
+ * @author ybonnel
+ */
+class CsvPublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * Subscription of the subscriber.
+     */
+    private final class CsvSubscription implements Flow.Subscription, Runnable {
+        /**
+         * The subscriber.
+         */
+        private final Flow.Subscriber<? super T> subscriber;
+        /**
+         * Number of objects requested and not yet delivered.
+         */
+        private final AtomicLong demand = new AtomicLong();
+        /**
+         * Number of drains asked while a task runs.
+         */
+        private final AtomicInteger workInProgress = new AtomicInteger();
+        /**
+         * True when the subscription is cancelled.
+         */
+        private volatile boolean cancelled;
+        /**
+         * Error to signal to the subscriber, for a bad request.
+         */
+        private volatile Throwable pendingError;
+        /**
+         * Iterator over the objects, opened on the first request.
+         */
+        private CsvIterator<T> iterator;
+        /**
+         * True when the subscriber has received a terminal signal, or the subscription is cancelled.
+         */
+        private boolean done;
+
+        /**
+         * Constructor.
+         *
+         * @param subscriber the subscriber.
+         */
+        private CsvSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        public void request(long nbObjects) {
+            if (nbObjects <= 0) {
+                pendingError = new IllegalArgumentException("The number of objects requested must be positive");
+            } else {
+                long current;
+                long next;
+                do {
+                    current = demand.get();
+                    next = current + nbObjects < 0 ? Long.MAX_VALUE : current + nbObjects;
+                } while (current != Long.MAX_VALUE && !demand.compareAndSet(current, next));
+            }
+            drain();
+        }
+
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        /**
+         * Schedule a task to deliver the objects, if no task runs.
+         */
+        private void drain() {
+            if (workInProgress.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        /**
+         * Deliver the objects requested.
+         */
+        public void run() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    deliver();
+                }
+                missed = workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Deliver the objects requested, or the terminal signal.
+         */
+        private void deliver() {
+            try {
+                long delivered = 0;
+                long requested = demand.get();
+                while (true) {
+                    if (cancelled) {
+                        terminate();
+                        return;
+                    }
+                    if (pendingError != null) {
+                        terminate();
+                        subscriber.onError(pendingError);
+                        return;
+                    }
+                    if (delivered == requested) {
+                        break;
+                    }
+                    if (iterator == null) {
+                        iterator = new CsvIterator<T>(engine.openSession(reader, clazz, null),
+                                engine.getParameters().getNbLinesWithErrorsToStop());
+                    }
+                    T object = iterator.nextObject();
+                    if (object == null) {
+                        terminate();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    subscriber.onNext(object);
+                    delivered++;
+                }
+                if (requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-delivered);
+                }
+            } catch (CsvErrorsExceededException | RuntimeException exception) {
+                terminate();
+                subscriber.onError(exception);
+            }
+        }
+
+        /**
+         * End the subscription and close the reader.
+         */
+        private void terminate() {
+            done = true;
+            cancelled = true;
+            if (iterator != null) {
+                iterator.close();
+            } else {
+                try {
+                    reader.close();
+                } catch (IOException ignore) {
+                    // The subscriber has nothing to do with an error closing a reader it didn't read.
+                }
+            }
+        }
+    }
+
+    /**
+     * The engine.
+     */
+    private final CsvEngine engine;
+
+    /**
+     * Reader of the CSV File.
+     */
+    private final Reader reader;
+
+    /**
+     * Class associated to the CSV File.
+     */
+    private final Class<T> clazz;
+
+    /**
+     * Executor used to deliver the objects.
+     */
+    private final Executor executor;
+
+    /**
+     * True when the publisher has a subscriber.
+     */
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Constructor.
+     *
+     * @param engine   the engine.
+     * @param reader   reader of the CSV File.
+     * @param clazz    class associated to the CSV File.
+     * @param executor executor used to deliver the objects.
+     */
+    CsvPublisher(CsvEngine engine, Reader reader, Class<T> clazz, Executor executor) {
+        this.engine = engine;
+        this.reader = reader;
+        this.clazz = clazz;
+        this.executor = executor;
+    }
+
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("The subscriber can't be null");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                public void request(long nbObjects) {
+                }
+
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("A CSV File can be read by only one subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new CsvSubscription(subscriber));
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.model.Error;
+import fr.ybonnel.csvengine.validator.ValidationError;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * <b>Internal class of the CsvEngine.</b><br/>
+ * Spliterator over the objects of a CSV File, used by the streams of the engine.<br/>
+ * The records are read lazily, only when the stream asks for an object.
+ * For a file, {@link #trySplit()} cuts the file in ranges of records with {@link RecordBoundaries},
+ * so a parallel stream parses each range with its own reader. The bytes of a file are tokenized by the byte
+ * reader of the factory ({@link fr.ybonnel.csvengine.factory.NativeByteCsvReader} by default).<br/>
+ * The lines with validation errors are skipped, the stream fails when the number of errors exceeds
+ * {@link fr.ybonnel.csvengine.model.EngineParameters#getNbLinesWithErrorsToStop()}.<br/><br/>
+ * <i><u>French :</i> Spliterator sur les objets d'un fichier CSV, utilisé par les streams du moteur.<br/>
+ * Les enregistrements sont lus au fil de l'eau, seulement quand le stream demande un objet.
+ * Pour un fichier, {@link #trySplit()} découpe le fichier en plages d'enregistrements avec
+ * {@link RecordBoundaries}, un stream parallèle lit donc chaque plage avec son propre reader. Les octets d'un
+ * fichier sont découpés par le reader d'octets de la factory.
+ *
+ * @param <T> class associated to the CSV File.
+ * @author ybonnel
+ */
+class CsvSpliterator<T> implements Spliterator<T> {
+
+    /**
+     * Source shared by a spliterator and the spliterators split from it.
+     *
+     * @param <T> class associated to the CSV File.
+     */
+    static final class Source<T> implements Closeable {
+        /**
+         * The engine.
+         */
+        private final CsvEngine engine;
+        /**
+         * Class associated to the CSV File.
+         */
+        private final Class<T> clazz;
+        /**
+         * Reader of the CSV File, null for a file read by ranges.
+         */
+        private final Reader reader;
+        /**
+         * The file, null for a reader.
+         */
+        private final FileChannel channel;
+        /**
+         * Charset of the file.
+         */
+        private final Charset charset;
+        /**
+         * Size of the chunks scanned to cut the file.
+         */
+        private final long chunkSize;
+        /**
+         * Boundaries of the ranges, computed on the first split.
+         */
+        private RecordBoundaries boundaries;
+        /**
+         * Errors occurred.
+         */
+        private final List<Error> errors = new ArrayList<Error>();
+        /**
+         * Sessions opened and not yet closed, a session is removed when its range is read.
+         */
+        private final Set<ParseSession> sessions = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Constructor for a reader.
+         *
+         * @param engine the engine.
+         * @param clazz  class associated to the CSV File.
+         * @param reader reader of the CSV File.
+         */
+        Source(CsvEngine engine, Class<T> clazz, Reader reader) {
+            this(engine, clazz, reader, null, null, 0);
+        }
+
+        /**
+         * Constructor for a file.
+         *
+         * @param engine    the engine.
+         * @param clazz     class associated to the CSV File.
+         * @param channel   the file.
+         * @param charset   charset of the file, the quote and the line feed must be single bytes.
+         * @param chunkSize size of the chunks scanned to cut the file.
+         */
+        Source(CsvEngine engine, Class<T> clazz, FileChannel channel, Charset charset, long chunkSize) {
+            this(engine, clazz, null, channel, charset, chunkSize);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param engine    the engine.
+         * @param clazz     class associated to the CSV File.
+         * @param reader    reader of the CSV File.
+         * @param channel   the file.
+         * @param charset   charset of the file.
+         * @param chunkSize size of the chunks scanned to cut the file.
+         */
+        private Source(CsvEngine engine, Class<T> clazz, Reader reader, FileChannel channel, Charset charset,
+                       long chunkSize) {
+            this.engine = engine;
+            this.clazz = clazz;
+            this.reader = reader;
+            this.channel = channel;
+            this.charset = charset;
+            this.chunkSize = chunkSize;
+        }
+
+        /**
+         * @return the boundaries of the ranges of records.
+         */
+        private synchronized RecordBoundaries getBoundaries() {
+            if (boundaries == null) {
+                try {
+                    boundaries = RecordBoundaries.scan(channel, ForkJoinPool.commonPool(), chunkSize);
+                } catch (IOException exception) {
+                    throw new CsvEngineException(exception);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new CsvEngineException(exception);
+                }
+            }
+            return boundaries;
+        }
+
+        /**
+         * Open a session.
+         *
+         * @param sessionReader reader of the records.
+         * @return the session.
+         */
+        private ParseSession openSession(Reader sessionReader) {
+            ParseSession session = engine.openSession(sessionReader, clazz, null);
+            sessions.add(session);
+            return session;
+        }
+
+        /**
+         * Open a session on bytes of the file, tokenized by the byte reader of the factory.
+         *
+         * @param inputStream bytes of the records.
+         * @return the session.
+         */
+        private ParseSession openSession(InputStream inputStream) {
+            ParseSession session = engine.openSession(inputStream, charset, clazz, null);
+            sessions.add(session);
+            return session;
+        }
+
+        /**
+         * Add an error.
+         *
+         * @param error the error.
+         */
+        private synchronized void addError(Error error) {
+            errors.add(error);
+            int nbLinesWithErrorsToStop = engine.getParameters().getNbLinesWithErrorsToStop();
+            if (nbLinesWithErrorsToStop >= 0 && errors.size() > nbLinesWithErrorsToStop) {
+                throw new CsvEngineException(new CsvErrorsExceededException(new ArrayList<Error>(errors)));
+            }
+        }
+
+        /**
+         * @return the errors occurred.
+         */
+        synchronized List<Error> getErrors() {
+            return new ArrayList<Error>(errors);
+        }
+
+        /**
+         * Close a session at the end of its range, so it isn't kept until the end of the stream.
+         *
+         * @param session the session.
+         */
+        private void closeSession(ParseSession session) {
+            sessions.remove(session);
+            session.close();
+        }
+
+        /**
+         * @return the number of sessions opened and not yet closed.
+         */
+        int getNbOpenSessions() {
+            return sessions.size();
+        }
+
+        /**
+         * Close the sessions still opened and the file.
+         */
+        public void close() {
+            for (ParseSession session : sessions) {
+                sessions.remove(session);
+                session.close();
+            }
+            try {
+                if (reader != null) {
+                    reader.close();
+                }
+                if (channel != null) {
+                    channel.close();
+                }
+            } catch (IOException exception) {
+                throw new CsvEngineException(exception);
+            }
+        }
+    }
+
+    /**
+     * The source.
+     */
+    private final Source<T> source;
+
+    /**
+     * Boundaries of the ranges, null while the file isn't cut.
+     */
+    private RecordBoundaries boundaries;
+
+    /**
+     * First range read.
+     */
+    private int fromRange;
+
+    /**
+     * Last range read (exclusive).
+     */
+    private int toRange;
+
+    /**
+     * Session of the read, null while no object is asked.
+     */
+    private ParseSession session;
+
+    /**
+     * True when all the objects are read.
+     */
+    private boolean finished;
+
+    /**
+     * Constructor of a spliterator over the whole CSV File.
+     *
+     * @param source the source.
+     */
+    CsvSpliterator(Source<T> source) {
+        this(source, null, 0, 0);
+    }
+
+    /**
+     * Constructor of a spliterator over ranges of records.
+     *
+     * @param source     the source.
+     * @param boundaries boundaries of the ranges.
+     * @param fromRange  first range.
+     * @param toRange    last range (exclusive).
+     */
+    private CsvSpliterator(Source<T> source, RecordBoundaries boundaries, int fromRange, int toRange) {
+        this.source = source;
+        this.boundaries = boundaries;
+        this.fromRange = fromRange;
+        this.toRange = toRange;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (finished || session == null && !open()) {
+            return false;
+        }
+        while (true) {
+            Object object;
+            try {
+                object = session.createObject();
+            } catch (ValidationError validationError) {
+                source.addError(validationError.getError());
+                continue;
+            }
+            if (object == null) {
+                finished = true;
+                source.closeSession(session);
+                session = null;
+                return false;
+            }
+            action.accept((T) object);
+            return true;
+        }
+    }
+
+    /**
+     * Open the session of the read.
+     *
+     * @return false if there is nothing to read.
+     */
+    private boolean open() {
+        if (source.channel == null) {
+            session = source.openSession(source.reader);
+        } else if (boundaries == null) {
+            try {
+                session = source.openSession(RecordBoundaries.openFile(source.channel));
+            } catch (IOException exception) {
+                throw new CsvEngineException(exception);
+            }
+        } else if (fromRange < toRange) {
+            session = source.openSession(boundaries.openRanges(source.channel, fromRange, toRange));
+        } else {
+            finished = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Split the ranges of records not yet read in two halves, the file is cut on the first split.
+     *
+     * @return the spliterator over the first half, null if the read is started or if the source can't be cut.
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        if (session != null || finished || source.channel == null) {
+            return null;
+        }
+        if (boundaries == null) {
+            RecordBoundaries scanned = source.getBoundaries();
+            if (scanned.getNbRanges() == 0) {
+                // No record found after the header : the whole file is read, so nothing can be lost.
+                return null;
+            }
+            boundaries = scanned;
+            fromRange = 0;
+            toRange = boundaries.getNbRanges();
+        }
+        if (toRange - fromRange < 2) {
+            return null;
+        }
+        int middle = (fromRange + toRange) >>> 1;
+        CsvSpliterator<T> prefix = new CsvSpliterator<T>(source, boundaries, fromRange, middle);
+        fromRange = middle;
+        return prefix;
+    }
+
+    /**
+     * @return the number of bytes to read for a file, Long.MAX_VALUE for a reader.
+     */
+    @Override
+    public long estimateSize() {
+        if (source.channel == null) {
+            return Long.MAX_VALUE;
+        }
+        if (boundaries == null) {
+            try {
+                return source.channel.size();
+            } catch (IOException exception) {
+                return Long.MAX_VALUE;
+            }
+        }
+        return boundaries.getSize(fromRange, toRange);
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.exception.StopParseException;
+import fr.ybonnel.csvengine.model.Error;
+import fr.ybonnel.csvengine.model.InsertInList;
+import fr.ybonnel.csvengine.model.InsertObject;
+import fr.ybonnel.csvengine.model.ParallelParameters;
+import fr.ybonnel.csvengine.model.ParseMetrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * <b>Internal class of the CsvEngine.</b><br/>
+ * Parse of a file split in chunks parsed in parallel by a pool of threads.<br/>
+ * The file is cut in ranges of records by {@link RecordBoundaries}, in parallel too.
+ * Each range of records is then parsed by a task, with the header of the file, and the objects are given
+ * to the handler by the calling thread, in the order of the file or not.<br/>
+ * The cut needs a charset where the quote and the line feed are single bytes which can't be part of an other
+ * character (UTF-8, ISO-8859-*...), the file is parsed sequentially for the other charsets.<br/><br/>
+ * <i><u>French :</i> Lecture d'un fichier découpé en morceaux lus en parallèle par un pool de threads.<br/>
+ * Le fichier est découpé en plages d'enregistrements par {@link RecordBoundaries}, en parallèle aussi.
+ * Chaque plage d'enregistrements est ensuite lue par une tâche, avec l'entête du fichier, et les objets
+ * sont donnés au handler par le thread appelant, dans l'ordre du fichier ou non.
+ *
+ * @param <T> class associated to the CSV File.
+ * @author ybonnel
+ */
+class ParallelFileParser<T> {
+
+    /**
+     * Result of the parse of a range of records.
+     *
+     * @param <T> class associated to the CSV File.
+     */
+    private static final class ChunkResult<T> {
+        /**
+         * Objects parsed.
+         */
+        private final List<T> objects;
+        /**
+         * Errors occurred.
+         */
+        private final List<Error> errors;
+
+        /**
+         * Constructor.
+         *
+         * @param objects objects parsed.
+         * @param errors  errors occurred.
+         */
+        private ChunkResult(List<T> objects, List<Error> errors) {
+            this.objects = objects;
+            this.errors = errors;
+        }
+    }
+
+    /**
+     * The engine.
+     */
+    private final CsvEngine engine;
+
+    /**
+     * Class associated to the CSV File.
+     */
+    private final Class<T> clazz;
+
+    /**
+     * Charset of the file.
+     */
+    private final Charset charset;
+
+    /**
+     * Pool used to scan and parse the chunks.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Parameters of the parallel parse.
+     */
+    private final ParallelParameters parallelParameters;
+
+    /**
+     * Constructor.
+     *
+     * @param engine             the engine.
+     * @param clazz              class associated to the CSV File.
+     * @param charset            charset of the file.
+     * @param executor           pool used to scan and parse the chunks.
+     * @param parallelParameters parameters of the parallel parse.
+     */
+    ParallelFileParser(CsvEngine engine, Class<T> clazz, Charset charset, ExecutorService executor,
+                       ParallelParameters parallelParameters) {
+        this.engine = engine;
+        this.clazz = clazz;
+        this.charset = charset;
+        this.executor = executor;
+        this.parallelParameters = parallelParameters;
+    }
+
+    /**
+     * Parse the file.
+     *
+     * @param path    the file.
+     * @param handler the handler call on each row, by the calling thread.
+     * @return the errors occurred.
+     * @throws CsvErrorsExceededException if the number of errors occurred exceed the accepted number.
+     */
+    List<Error> parse(Path path, InsertObject<T> handler) throws CsvErrorsExceededException {
+        try {
+            if (!RecordBoundaries.isSplittable(charset)) {
+                return engine.parseFileAndInsert(path, charset, clazz, handler);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                RecordBoundaries boundaries = RecordBoundaries.scan(channel, executor,
+                        parallelParameters.getChunkSize());
+                return parseRanges(channel, boundaries, handler);
+            }
+        } catch (IOException exception) {
+            throw new CsvEngineException(exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CsvEngineException(exception);
+        }
+    }
+
+    /**
+     * Parse the ranges of records and give the objects to the handler.
+     *
+     * @param channel    the file.
+     * @param boundaries bounds of the ranges.
+     * @param handler    the handler.
+     * @return the errors occurred.
+     * @throws CsvErrorsExceededException if the number of errors occurred exceed the accepted number.
+     * @throws InterruptedException       if the thread is interrupted.
+     */
+    private List<Error> parseRanges(FileChannel channel, RecordBoundaries boundaries, InsertObject<T> handler)
+            throws CsvErrorsExceededException, InterruptedException {
+        List<Error> errors = new ArrayList<Error>();
+        int nbRanges = boundaries.getNbRanges();
+        int maxInFlight = parallelParameters.getMaxChunksInFlight();
+        int nextRange = 0;
+        if (parallelParameters.isOrdered()) {
+            Deque<Future<ChunkResult<T>>> pending = new ArrayDeque<Future<ChunkResult<T>>>();
+            try {
+                while (!pending.isEmpty() || nextRange < nbRanges) {
+                    while (nextRange < nbRanges && pending.size() < maxInFlight) {
+                        pending.add(executor.submit(parseTask(channel, boundaries, nextRange++)));
+                    }
+                    if (!deliver(getResult(pending.poll()), handler, errors)) {
+                        return errors;
+                    }
+                }
+            } finally {
+                cancel(pending);
+            }
+        } else {
+            CompletionService<ChunkResult<T>> completionService =
+                    new ExecutorCompletionService<ChunkResult<T>>(executor);
+            Set<Future<ChunkResult<T>>> pending = new HashSet<Future<ChunkResult<T>>>();
+            try {
+                while (!pending.isEmpty() || nextRange < nbRanges) {
+                    while (nextRange < nbRanges && pending.size() < maxInFlight) {
+                        pending.add(completionService.submit(parseTask(channel, boundaries, nextRange++)));
+                    }
+                    Future<ChunkResult<T>> done = completionService.take();
+                    pending.remove(done);
+                    if (!deliver(getResult(done), handler, errors)) {
+                        return errors;
+                    }
+                }
+            } finally {
+                cancel(pending);
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Construct the task which parses a range of records.
+     *
+     * @param channel    the file.
+     * @param boundaries bounds of the ranges.
+     * @param range      index of the range.
+     * @return the task.
+     */
+    private Callable<ChunkResult<T>> parseTask(final FileChannel channel, final RecordBoundaries boundaries,
+                                                final int range) {
+        return () -> {
+            List<T> objects = new ArrayList<T>();
+            InputStream inputStream = boundaries.openRanges(channel, range, range + 1);
+            List<Error> errors;
+            try {
+                errors = engine.parseSession(engine.openSession(inputStream, charset, clazz, null),
+                        new InsertInList<T>(objects));
+            } catch (CsvErrorsExceededException exception) {
+                errors = exception.getErrors();
+            }
+            return new ChunkResult<T>(objects, errors);
+        };
+    }
+
+    /**
+     * Give the objects of a range to the handler.
+     *
+     * @param result  result of the parse of the range.
+     * @param handler the handler.
+     * @param errors  errors occurred.
+     * @return false if the handler asked to stop the parse.
+     * @throws CsvErrorsExceededException if the number of errors occurred exceed the accepted number.
+     */
+    private boolean deliver(ChunkResult<T> result, InsertObject<T> handler, List<Error> errors)
+            throws CsvErrorsExceededException {
+        ParseMetrics metrics = engine.getParameters().getMetrics();
+        try {
+            for (T object : result.objects) {
+                ParseSession.insertObject(metrics, handler, object);
+            }
+        } catch (StopParseException stopParseException) {
+            return false;
+        }
+        errors.addAll(result.errors);
+        int nbLinesWithErrorsToStop = engine.getParameters().getNbLinesWithErrorsToStop();
+        if (nbLinesWithErrorsToStop >= 0 && errors.size() > nbLinesWithErrorsToStop) {
+            throw new CsvErrorsExceededException(errors);
+        }
+        return true;
+    }
+
+    /**
+     * Get the result of a task.
+     *
+     * @param <R>    type of the result.
+     * @param future the task.
+     * @return the result.
+     * @throws InterruptedException if the thread is interrupted.
+     */
+    private static <R> R getResult(Future<R> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof java.lang.Error) {
+                throw (java.lang.Error) cause;
+            }
+            throw new CsvEngineException(cause);
+        }
+    }
+
+    /**
+     * Cancel the tasks not yet started.
+     *
+     * @param futures the tasks.
+     */
+    private static void cancel(Collection<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(false);
+        }
+    }
+}
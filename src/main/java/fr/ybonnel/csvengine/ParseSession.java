@@ -0,0 +1,667 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.factory.AbstractCsvReader;
+import fr.ybonnel.csvengine.model.BindingPlan;
+import fr.ybonnel.csvengine.model.CsvClass;
+import fr.ybonnel.csvengine.model.CsvField;
+import fr.ybonnel.csvengine.model.EngineParameters;
+import fr.ybonnel.csvengine.model.InsertInList;
+import fr.ybonnel.csvengine.model.InsertObject;
+import fr.ybonnel.csvengine.model.ParseMetrics;
+import fr.ybonnel.csvengine.model.RowFilter;
+import fr.ybonnel.csvengine.validator.ValidateException;
+import fr.ybonnel.csvengine.validator.ValidationError;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <b>Internal class of the CsvEngine.</b><br/>
+ * State of the read of one CSV File : the reader, the class and the binding plan of the header.<br/>
+ * A session is used by only one thread, the engine itself keeps no state of parse,
+ * so it can be shared by many threads.<br/><br/>
+ * <i><u>French :</i> Etat de la lecture d'un fichier CSV : le reader, la classe et le plan d'association
+ * de l'entête.<br/>
+ * Une session n'est utilisée que par un seul thread, le moteur ne garde lui-même aucun état de lecture,
+ * il peut donc être partagé entre plusieurs threads.
+ *
+ * @author ybonnel
+ */
+class ParseSession implements Closeable {
+
+    /**
+     * Fields of a record.
+     */
+    private interface Record {
+        /**
+         * @return number of fields.
+         */
+        int getNbFields();
+
+        /**
+         * @param fieldNumber number of the field.
+         * @return the characters of the field.
+         */
+        CharSequence getField(int fieldNumber);
+    }
+
+    /**
+     * Current record of the reader.
+     */
+    private static final class ReaderRecord implements Record {
+        /**
+         * The reader.
+         */
+        private final AbstractCsvReader csvReader;
+
+        /**
+         * Constructor.
+         *
+         * @param csvReader the reader.
+         */
+        private ReaderRecord(AbstractCsvReader csvReader) {
+            this.csvReader = csvReader;
+        }
+
+        public int getNbFields() {
+            return csvReader.getNbFields();
+        }
+
+        public CharSequence getField(int fieldNumber) {
+            return csvReader.getField(fieldNumber);
+        }
+    }
+
+    /**
+     * Record materialized in an array, which can be bound by an other thread than the reader.
+     */
+    private static final class ArrayRecord implements Record {
+        /**
+         * The fields.
+         */
+        private final String[] fields;
+
+        /**
+         * Constructor.
+         *
+         * @param fields the fields.
+         */
+        private ArrayRecord(String[] fields) {
+            this.fields = fields;
+        }
+
+        public int getNbFields() {
+            return fields.length;
+        }
+
+        public CharSequence getField(int fieldNumber) {
+            return fields[fieldNumber];
+        }
+    }
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ParseSession.class.getSimpleName());
+
+    /**
+     * Class associated to the CSV File.
+     */
+    private final CsvClass csvClass;
+
+    /**
+     * Parameters of the engine.
+     */
+    private final EngineParameters parameters;
+
+    /**
+     * CSV Reader.
+     */
+    private final AbstractCsvReader csvReader;
+
+    /**
+     * Current record of the reader.
+     */
+    private final Record readerRecord;
+
+    /**
+     * Binding plan of the header.
+     */
+    private final BindingPlan bindingPlan;
+
+    /**
+     * Columns read by the reader (bound or filtered), null if the reader doesn't skip the others : the columns
+     * skipped are kept raw, with their quotes.
+     */
+    private final boolean[] rawColumnsSelection;
+
+    /**
+     * Positions of the columns filtered.
+     */
+    private final int[] filterColumns;
+
+    /**
+     * Predicates of the filter, by index of filtered column.
+     */
+    private final Predicate<CharSequence>[] filterPredicates;
+
+    /**
+     * Metrics of the engine, null if they aren't activated.
+     */
+    private final ParseMetrics metrics;
+
+    /**
+     * Metrics by position of column, null if the metrics aren't activated.
+     */
+    private final ParseMetrics.ColumnMetrics[] columnMetrics;
+
+    /**
+     * Start the read of a new file : the header is read.
+     *
+     * @param csvClass   class associated to the CSV File.
+     * @param parameters parameters of the engine.
+     * @param csvReader  reader of the CSV File.
+     * @param rowFilter  filter of the rows, can be null.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ParseSession(CsvClass csvClass, EngineParameters parameters, AbstractCsvReader csvReader, RowFilter rowFilter) {
+        this.csvClass = csvClass;
+        this.parameters = parameters;
+        this.csvReader = csvReader;
+        this.readerRecord = new ReaderRecord(csvReader);
+        String[] header;
+        try {
+            header = csvReader.readLine();
+        } catch (IOException e) {
+            close();
+            throw new CsvEngineException(e);
+        }
+        if (Character.isIdentifierIgnorable(header[0].charAt(0))) {
+            header[0] = header[0].substring(1);
+        }
+        bindingPlan = new BindingPlan(csvClass, header);
+        boolean[] selectedColumns = bindingPlan.getSelectedColumns();
+        int nbPredicates = rowFilter == null ? 0 : rowFilter.getNbPredicates();
+        filterColumns = new int[nbPredicates];
+        filterPredicates = new Predicate[nbPredicates];
+        for (int index = 0; index < nbPredicates; index++) {
+            filterColumns[index] = bindingPlan.getColumnPosition(rowFilter.getColumnName(index));
+            if (filterColumns[index] < 0) {
+                close();
+                throw new CsvEngineException("The column " + rowFilter.getColumnName(index)
+                        + " of the filter isn't in the file");
+            }
+            filterPredicates[index] = rowFilter.getPredicate(index);
+            selectedColumns[filterColumns[index]] = true;
+        }
+        csvReader.selectColumns(selectedColumns);
+        rawColumnsSelection = csvReader.skipsUnselectedColumns() ? selectedColumns : null;
+        metrics = parameters.getMetrics();
+        if (metrics == null) {
+            columnMetrics = null;
+        } else {
+            columnMetrics = new ParseMetrics.ColumnMetrics[bindingPlan.getNbColumns()];
+            for (int index = 0; index < bindingPlan.getNbBoundColumns(); index++) {
+                int column = bindingPlan.getBoundColumn(index);
+                columnMetrics[column] = metrics.getColumn(bindingPlan.getColumnName(column));
+            }
+        }
+    }
+
+    /**
+     * Start an operation of a line.
+     *
+     * @param sampled true if the line is timed.
+     * @return the current time if the line is timed, {@link ParseMetrics#NOT_SAMPLED} otherwise.
+     */
+    private static long start(boolean sampled) {
+        return sampled ? System.nanoTime() : ParseMetrics.NOT_SAMPLED;
+    }
+
+    /**
+     * Start the read of a line.
+     *
+     * @return the current time if the line is timed, {@link ParseMetrics#NOT_SAMPLED} otherwise.
+     */
+    private long startLine() {
+        return metrics == null ? ParseMetrics.NOT_SAMPLED : metrics.start();
+    }
+
+    /**
+     * Read the next record accepted by the filter, and record its time.
+     *
+     * @param start value of {@link #startLine()}.
+     * @return false at the end of the file.
+     */
+    private boolean readRecord(long start) {
+        boolean found = nextAcceptedRecord();
+        if (found && metrics != null) {
+            metrics.getTiming(ParseMetrics.Phase.READ).end(start);
+        }
+        return found;
+    }
+
+    /**
+     * Used to construct a line based on the field.
+     *
+     * @param fields list of fields.
+     * @return the CSV line.
+     */
+    private String constructLine(String[] fields) {
+        StringBuilder builder = new StringBuilder();
+        boolean first = true;
+        for (String champ : fields) {
+            if (first) {
+                first = false;
+            } else {
+                builder.append(csvClass.getSeparatorWithoutEscape());
+            }
+            builder.append(champ);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Materialize the fields of a record.
+     *
+     * @param record the record.
+     * @return values of the fields.
+     */
+    private static String[] materialize(Record record) {
+        String[] fields = new String[record.getNbFields()];
+        for (int fieldNumber = 0; fieldNumber < fields.length; fieldNumber++) {
+            CharSequence field = record.getField(fieldNumber);
+            fields[fieldNumber] = field == null ? null : field.toString();
+        }
+        return fields;
+    }
+
+    /**
+     * Materialize the fields of a record for an error : the columns not selected, returned raw by the reader,
+     * are unescaped, so the line is the same as if all the columns were read.
+     *
+     * @param record the record.
+     * @return values of the fields, unescaped.
+     */
+    private String[] unescapedFields(Record record) {
+        String[] fields = materialize(record);
+        if (rawColumnsSelection == null) {
+            return fields;
+        }
+        for (int fieldNumber = 0; fieldNumber < fields.length; fieldNumber++) {
+            boolean selected = fieldNumber < rawColumnsSelection.length && rawColumnsSelection[fieldNumber];
+            if (!selected && fields[fieldNumber] != null) {
+                fields[fieldNumber] = unescape(fields[fieldNumber]);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Unescape a raw field, as the reader does for a selected field : the quotes around the field are removed
+     * and the doubled quotes are replaced by one quote.
+     *
+     * @param rawField the raw field.
+     * @return the value of the field.
+     */
+    private static String unescape(String rawField) {
+        if (rawField.isEmpty() || rawField.charAt(0) != '"') {
+            return rawField;
+        }
+        StringBuilder value = new StringBuilder(rawField.length());
+        boolean inQuotes = true;
+        for (int index = 1; index < rawField.length(); index++) {
+            char car = rawField.charAt(index);
+            if (inQuotes && car == '"') {
+                if (index + 1 < rawField.length() && rawField.charAt(index + 1) == '"') {
+                    value.append('"');
+                    index++;
+                } else {
+                    inQuotes = false;
+                }
+            } else {
+                value.append(car);
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * Use to set a value of a field.
+     *
+     * @param csvField  the field to set.
+     * @param csvObject the objects to set.
+     * @param value     the value to set.
+     * @throws fr.ybonnel.csvengine.validator.ValidateException if the value isn't good.
+     */
+    private void setValeur(CsvField csvField, Object csvObject, CharSequence value) throws ValidateException {
+        try {
+            csvField.parseAndSetValue(csvObject, value);
+        } catch (ValidateException exception) {
+            throw exception;
+        } catch (Exception e) {
+            throw new ValidateException("Error in set", e);
+        }
+    }
+
+    /**
+     * Create an object from the next line of CSV.<br/>
+     * The fields are read as views over the buffer of the reader, so the primitive fields
+     * are parsed without creating any String. Only the columns bound to a field are processed,
+     * and the rows rejected by the filter are skipped before the construction of the object.
+     *
+     * @return the object created, null at the end of the file.
+     * @throws fr.ybonnel.csvengine.validator.ValidationError
+     *          in case of validation error.
+     */
+    Object createObject() throws ValidationError {
+        long start = startLine();
+        if (!readRecord(start)) {
+            return null;
+        }
+        return bind(readerRecord, start != ParseMetrics.NOT_SAMPLED);
+    }
+
+    /**
+     * Read the next record accepted by the filter, without creating the object.<br/>
+     * The record can then be bound by an other thread with {@link #bind(String[])}.
+     *
+     * @return the fields of the record, null at the end of the file.
+     */
+    String[] nextFields() {
+        if (!readRecord(startLine())) {
+            return null;
+        }
+        return materialize(readerRecord);
+    }
+
+    /**
+     * Create an object from the fields of a record read by {@link #nextFields()}.<br/>
+     * This method doesn't use the reader : it can be called by many threads.
+     *
+     * @param fields the fields of the record.
+     * @return the object created.
+     * @throws fr.ybonnel.csvengine.validator.ValidationError
+     *          in case of validation error.
+     */
+    Object bind(String[] fields) throws ValidationError {
+        return bind(new ArrayRecord(fields), startLine() != ParseMetrics.NOT_SAMPLED);
+    }
+
+    /**
+     * Read the next record accepted by the filter.
+     *
+     * @return false at the end of the file.
+     */
+    private boolean nextAcceptedRecord() {
+        do {
+            if (!nextRecord()) {
+                return false;
+            }
+        } while (!isAccepted());
+        return true;
+    }
+
+    /**
+     * Create an object from a record.
+     *
+     * @param record  the record.
+     * @param sampled true if the line is timed.
+     * @return the object created.
+     * @throws fr.ybonnel.csvengine.validator.ValidationError
+     *          in case of validation error.
+     */
+    private Object bind(Record record, boolean sampled) throws ValidationError {
+        try {
+            ValidationError validationError = null;
+            Object csvObject = constructObject(sampled);
+            int nbFields = record.getNbFields();
+            for (int index = 0; index < bindingPlan.getNbBoundColumns(); index++) {
+                int numChamp = bindingPlan.getBoundColumn(index);
+                if (numChamp >= nbFields) {
+                    break;
+                }
+                validationError = processField(record, validationError, csvObject, numChamp, sampled);
+            }
+            if (validationError != null) {
+                if (metrics != null) {
+                    metrics.addLineInError();
+                }
+                throw validationError;
+            }
+            return csvObject;
+        } catch (RuntimeException unexpectedException) {
+            throw new CsvEngineException("Error on line " + Arrays.toString(unescapedFields(record)),
+                    unexpectedException);
+        }
+    }
+
+    /**
+     * Evaluate the filter on the current record.
+     *
+     * @return true if the record is accepted.
+     */
+    private boolean isAccepted() {
+        if (filterColumns.length == 0) {
+            return true;
+        }
+        int nbFields = csvReader.getNbFields();
+        try {
+            for (int index = 0; index < filterColumns.length; index++) {
+                CharSequence value = filterColumns[index] < nbFields ? csvReader.getField(filterColumns[index]) : "";
+                if (!filterPredicates[index].test(value == null ? "" : value)) {
+                    return false;
+                }
+            }
+        } catch (RuntimeException unexpectedException) {
+            throw new CsvEngineException("Error filtering line " + Arrays.toString(unescapedFields(readerRecord)),
+                    unexpectedException);
+        }
+        return true;
+    }
+
+    /**
+     * Process of a field.
+     *
+     * @param record          the record.
+     * @param validationError container of validation error.
+     * @param csvObject       object to fill.
+     * @param fieldNumber     number of the field.
+     * @param sampled         true if the line is timed.
+     * @return container of validation error.
+     */
+    private ValidationError processField(Record record, ValidationError validationError, Object csvObject,
+                                         int fieldNumber, boolean sampled) {
+        CsvField csvField = bindingPlan.getCsvField(fieldNumber);
+        CharSequence fieldValue = record.getField(fieldNumber);
+        if (fieldValue != null && fieldValue.length() > 0) {
+            validationError = fillField(record, validationError, csvObject, fieldNumber, csvField, fieldValue,
+                    sampled);
+        } else if (parameters.hasValidation()) {
+            validationError = validateMandatoryField(record, validationError, fieldNumber, csvField);
+        }
+        return validationError;
+    }
+
+    /**
+     * Validation of the mandatory..
+     *
+     * @param record          the record.
+     * @param validationError container of validation errors.
+     * @param fieldNumber     number of the field.
+     * @param csvField        field associated to the column.
+     * @return container of validation error.
+     */
+    private ValidationError validateMandatoryField(Record record, ValidationError validationError, int fieldNumber,
+                                                   CsvField csvField) {
+        if (csvField.isMandatory()) {
+            if (columnMetrics != null) {
+                columnMetrics[fieldNumber].addError();
+            }
+            validationError = addValidationMessage(record, validationError,
+                    bindingPlan.getColumnName(fieldNumber), new ValidateException("The field is mandatory"));
+        }
+        return validationError;
+    }
+
+    /**
+     * Validate the field and fill it.
+     *
+     * @param record          the record.
+     * @param validationError container of validation errors.
+     * @param csvObjects      object to fill.
+     * @param fieldNumber     field number.
+     * @param csvField        field associated to the column.
+     * @param value           value of the field.
+     * @param sampled         true if the line is timed.
+     * @return container of validation errors.
+     */
+    private ValidationError fillField(Record record, ValidationError validationError, Object csvObjects,
+                                      int fieldNumber, CsvField csvField, CharSequence value, boolean sampled) {
+        try {
+            if (parameters.hasValidation() && csvField.hasValidators()) {
+                long start = start(sampled);
+                csvField.validate(value.toString());
+                if (columnMetrics != null) {
+                    columnMetrics[fieldNumber].getValidation().end(start);
+                }
+            }
+            long start = start(sampled);
+            setValeur(csvField, csvObjects, value);
+            if (columnMetrics != null) {
+                columnMetrics[fieldNumber].getAdapter().end(start);
+            }
+        } catch (ValidateException exception) {
+            if (columnMetrics != null) {
+                columnMetrics[fieldNumber].addError();
+            }
+            validationError = addValidationMessage(
+                    record, validationError, bindingPlan.getColumnName(fieldNumber), exception);
+        }
+        return validationError;
+    }
+
+    /**
+     * Add the validation message..
+     *
+     * @param record          the record.
+     * @param validationError current validation error.
+     * @param fieldName       field name.
+     * @param exception       exception corresponding to the validation error.
+     * @return the validation error.
+     */
+    private ValidationError addValidationMessage(Record record, ValidationError validationError, String fieldName,
+                                                 ValidateException exception) {
+        if (validationError == null) {
+            validationError = new ValidationError(constructLine(unescapedFields(record)));
+        }
+        StringBuilder message = new StringBuilder("Validation error on the field ");
+        message.append(fieldName);
+        message.append(" : ");
+        message.append(exception.getMessage());
+        if (exception.getCause() != null) {
+            message.append(" (cause : ");
+            message.append(exception.getCause().getMessage());
+            message.append(')');
+        }
+        validationError.getError().getMessages().add(message.toString());
+        return validationError;
+    }
+
+    /**
+     * Construct an object.
+     *
+     * @param sampled true if the line is timed.
+     * @return constructed object.
+     */
+    private Object constructObject(boolean sampled) {
+        long start = start(sampled);
+        Object csvObject;
+        try {
+            csvObject = csvClass.getConstructor().newInstance((Object[]) null);
+        } catch (Exception exception) {
+            Throwable myException = exception;
+            if (myException instanceof InvocationTargetException) {
+                myException = exception.getCause();
+            }
+            throw new CsvEngineException("Error during instantiation of "
+                    + csvClass.getClazz().getSimpleName(), myException);
+        }
+        if (metrics != null) {
+            metrics.getTiming(ParseMetrics.Phase.INSTANTIATION).end(start);
+        }
+        return csvObject;
+    }
+
+    /**
+     * Read of the next record.
+     *
+     * @return false at the end of the file.
+     */
+    private boolean nextRecord() {
+        try {
+            return csvReader.nextRecord();
+        } catch (IOException e) {
+            throw new CsvEngineException("Error reading a line", e);
+        }
+    }
+
+    /**
+     * @return metrics of the engine, null if they aren't activated.
+     */
+    ParseMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Call the handler on an object, and record its time in the metrics.<br/>
+     * The lists filled by the engine itself ({@link InsertInList}) aren't timed.
+     *
+     * @param <T>     class of the object.
+     * @param metrics metrics of the engine, can be null.
+     * @param handler the handler.
+     * @param object  the object.
+     */
+    static <T> void insertObject(ParseMetrics metrics, InsertObject<T> handler, T object) {
+        if (metrics == null || handler instanceof InsertInList) {
+            handler.insertObject(object);
+            return;
+        }
+        long start = metrics.start();
+        handler.insertObject(object);
+        metrics.getTiming(ParseMetrics.Phase.HANDLER).end(start);
+    }
+
+    /**
+     * Close the reader of the session.
+     */
+    public void close() {
+        try {
+            csvReader.close();
+        } catch (IOException exception) {
+            LOGGER.log(Level.WARNING, "Error closing CsvReader", exception);
+        }
+    }
+}
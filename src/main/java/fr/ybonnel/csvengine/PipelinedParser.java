@@ -0,0 +1,323 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.exception.StopParseException;
+import fr.ybonnel.csvengine.model.Error;
+import fr.ybonnel.csvengine.model.InsertObject;
+import fr.ybonnel.csvengine.model.PipelineParameters;
+import fr.ybonnel.csvengine.validator.ValidationError;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>Internal class of the CsvEngine.</b><br/>
+ * Pipelined parse of a file, in three stages connected by bounded queues :
+ * <ul>
+ * <li>a thread reads and filters the records (the only one to use the reader),</li>
+ * <li>threads bind the records to objects (adapters and validators),</li>
+ * <li>the calling thread gives the objects to the handler, in the order of the file or not.</li>
+ * </ul>
+ * The records are passed by chunks numbered by the reader. The number of chunks in flight is bounded,
+ * so the reader waits if the handler is slower, and the chunks waiting to be reordered are bounded too.<br/><br/>
+ * <i><u>French :</i> Lecture en pipeline d'un fichier, en trois étapes reliées par des files bornées :
+ * un thread lit et filtre les enregistrements, des threads les transforment en objets, et le thread appelant
+ * donne les objets au handler, dans l'ordre du fichier ou non. Le nombre de morceaux en cours est borné,
+ * le reader attend donc si le handler est plus lent.
+ *
+ * @param <T> class associated to the CSV File.
+ * @author ybonnel
+ */
+class PipelinedParser<T> {
+
+    /**
+     * Chunk of records, replaced by their objects (or errors) once bound.
+     */
+    private static final class Chunk {
+        /**
+         * Number of the chunk in the file.
+         */
+        private final long sequence;
+        /**
+         * Fields of the records (String[]), then objects, ValidationError or exceptions.
+         */
+        private final Object[] items;
+        /**
+         * Number of items.
+         */
+        private int size;
+
+        /**
+         * Constructor.
+         *
+         * @param sequence number of the chunk in the file.
+         * @param capacity maximum number of items.
+         */
+        private Chunk(long sequence, int capacity) {
+            this.sequence = sequence;
+            this.items = new Object[capacity];
+        }
+    }
+
+    /**
+     * Marker of the end of a queue.
+     */
+    private static final Chunk END = new Chunk(-1, 0);
+
+    /**
+     * The session of the file.
+     */
+    private final ParseSession session;
+
+    /**
+     * Number of lines in error before stop.
+     */
+    private final int nbLinesWithErrorsToStop;
+
+    /**
+     * Parameters of the pipeline.
+     */
+    private final PipelineParameters pipelineParameters;
+
+    /**
+     * Chunks read, waiting to be bound.
+     */
+    private final BlockingQueue<Chunk> readChunks;
+
+    /**
+     * Chunks bound, waiting to be handled.
+     */
+    private final BlockingQueue<Chunk> boundChunks;
+
+    /**
+     * Chunks in flight (read and not yet handled).
+     */
+    private final Semaphore chunksInFlight;
+
+    /**
+     * Constructor.
+     *
+     * @param session                 the session of the file, closed at the end of the read.
+     * @param nbLinesWithErrorsToStop number of lines in error before stop.
+     * @param pipelineParameters      parameters of the pipeline.
+     */
+    PipelinedParser(ParseSession session, int nbLinesWithErrorsToStop, PipelineParameters pipelineParameters) {
+        this.session = session;
+        this.nbLinesWithErrorsToStop = nbLinesWithErrorsToStop;
+        this.pipelineParameters = pipelineParameters;
+        readChunks = new ArrayBlockingQueue<Chunk>(pipelineParameters.getQueueCapacity());
+        boundChunks = new ArrayBlockingQueue<Chunk>(pipelineParameters.getQueueCapacity());
+        chunksInFlight = new Semaphore(2 * pipelineParameters.getQueueCapacity() + pipelineParameters.getBindThreads());
+    }
+
+    /**
+     * Parse the file.<br/>
+     * The threads of the pipeline are finished, and so the session is closed, when the method returns,
+     * even on an early stop (StopParseException, errors exceeded) : the caller can then close or reuse its reader.
+     *
+     * @param handler the handler call on each row, by the calling thread.
+     * @return the errors occurred.
+     * @throws CsvErrorsExceededException if the number of errors occurred exceed the accepted number.
+     */
+    List<Error> parse(InsertObject<T> handler) throws CsvErrorsExceededException {
+        int bindThreads = pipelineParameters.getBindThreads();
+        ExecutorService threads = Executors.newFixedThreadPool(bindThreads + 1, runnable -> {
+            Thread thread = new Thread(runnable, "csvengine-pipeline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            threads.execute(this::read);
+            for (int count = 0; count < bindThreads; count++) {
+                threads.execute(this::bind);
+            }
+            return handle(handler, bindThreads);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CsvEngineException(exception);
+        } finally {
+            threads.shutdownNow();
+            awaitTermination(threads);
+        }
+    }
+
+    /**
+     * Wait for the end of the threads of the pipeline, the interruption of the calling thread is kept for later.
+     *
+     * @param threads the threads of the pipeline, already stopped.
+     */
+    private static void awaitTermination(ExecutorService threads) {
+        boolean interrupted = false;
+        while (!threads.isTerminated()) {
+            try {
+                threads.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stage of read : read the records by chunks.
+     */
+    private void read() {
+        try {
+            long sequence = 0;
+            boolean endOfFile = false;
+            while (!endOfFile) {
+                chunksInFlight.acquire();
+                Chunk chunk = new Chunk(sequence++, pipelineParameters.getRecordsByChunk());
+                try {
+                    while (chunk.size < chunk.items.length) {
+                        String[] fields = session.nextFields();
+                        if (fields == null) {
+                            endOfFile = true;
+                            break;
+                        }
+                        chunk.items[chunk.size++] = fields;
+                    }
+                } catch (RuntimeException | java.lang.Error exception) {
+                    chunk.items[chunk.size++] = exception;
+                    endOfFile = true;
+                }
+                if (chunk.size > 0) {
+                    readChunks.put(chunk);
+                }
+            }
+            for (int count = 0; count < pipelineParameters.getBindThreads(); count++) {
+                readChunks.put(END);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Stage of bind : transform the records into objects.
+     */
+    private void bind() {
+        try {
+            Chunk chunk = readChunks.take();
+            while (chunk != END) {
+                for (int index = 0; index < chunk.size; index++) {
+                    if (chunk.items[index] instanceof String[]) {
+                        try {
+                            chunk.items[index] = session.bind((String[]) chunk.items[index]);
+                        } catch (ValidationError validationError) {
+                            chunk.items[index] = validationError;
+                        } catch (RuntimeException | java.lang.Error exception) {
+                            chunk.items[index] = exception;
+                        }
+                    }
+                }
+                boundChunks.put(chunk);
+                chunk = readChunks.take();
+            }
+            boundChunks.put(END);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stage of handle : give the objects to the handler.
+     *
+     * @param handler     the handler.
+     * @param bindThreads number of threads of the bind stage.
+     * @return the errors occurred.
+     * @throws CsvErrorsExceededException if the number of errors occurred exceed the accepted number.
+     * @throws InterruptedException       if the thread is interrupted.
+     */
+    private List<Error> handle(InsertObject<T> handler, int bindThreads)
+            throws CsvErrorsExceededException, InterruptedException {
+        List<Error> errors = new ArrayList<Error>();
+        Map<Long, Chunk> waitingChunks = new HashMap<Long, Chunk>();
+        long nextSequence = 0;
+        int nbEnds = 0;
+        while (nbEnds < bindThreads) {
+            Chunk chunk = boundChunks.take();
+            if (chunk == END) {
+                nbEnds++;
+            } else if (!pipelineParameters.isOrdered()) {
+                if (!deliver(chunk, handler, errors)) {
+                    return errors;
+                }
+            } else {
+                waitingChunks.put(chunk.sequence, chunk);
+                for (chunk = waitingChunks.remove(nextSequence); chunk != null;
+                     chunk = waitingChunks.remove(nextSequence)) {
+                    nextSequence++;
+                    if (!deliver(chunk, handler, errors)) {
+                        return errors;
+                    }
+                }
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Give the objects of a chunk to the handler.
+     *
+     * @param chunk   the chunk.
+     * @param handler the handler.
+     * @param errors  errors occurred.
+     * @return false if the handler asked to stop the parse.
+     * @throws CsvErrorsExceededException if the number of errors occurred exceed the accepted number.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean deliver(Chunk chunk, InsertObject<T> handler, List<Error> errors)
+            throws CsvErrorsExceededException {
+        chunksInFlight.release();
+        for (int index = 0; index < chunk.size; index++) {
+            Object item = chunk.items[index];
+            if (item instanceof ValidationError) {
+                errors.add(((ValidationError) item).getError());
+                if (nbLinesWithErrorsToStop >= 0 && errors.size() > nbLinesWithErrorsToStop) {
+                    throw new CsvErrorsExceededException(errors);
+                }
+            } else if (item instanceof RuntimeException) {
+                throw (RuntimeException) item;
+            } else if (item instanceof java.lang.Error) {
+                throw (java.lang.Error) item;
+            } else {
+                try {
+                    ParseSession.insertObject(session.getMetrics(), handler, (T) item);
+                } catch (StopParseException stopParseException) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
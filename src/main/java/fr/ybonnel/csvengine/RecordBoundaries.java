@@ -0,0 +1,341 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.factory.NativeByteCsvReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * <b>Internal class of the CsvEngine.</b><br/>
+ * Cut of a file in ranges of records, used to parse the ranges in parallel.<br/>
+ * The file is cut in two passes :
+ * <ul>
+ * <li>each chunk of bytes counts its quotes and finds its first end of line with an even and an odd number of
+ * quotes before it (in parallel),</li>
+ * <li>the parity of the quotes before each chunk gives its first real end of record, even if quoted fields
+ * contain line feeds.</li>
+ * </ul>
+ * Each range can then be read with the header of the file.<br/>
+ * The ends of line are the line feeds, the carriage returns followed by a line feed and the carriage returns
+ * alone, as for {@link fr.ybonnel.csvengine.factory.NativeCsvReader}.<br/>
+ * The cut needs a charset where the quote and the line feed are single bytes which can't be part of an other
+ * character (UTF-8, ISO-8859-*...).<br/><br/>
+ * <i><u>French :</i> Découpage d'un fichier en plages d'enregistrements, utilisé pour lire les plages
+ * en parallèle. Chaque morceau compte ses guillemets et trouve sa première fin de ligne (\n, \r\n ou \r
+ * seul) précédée d'un nombre pair et impair de guillemets, puis la parité des guillemets avant chaque morceau
+ * donne sa première vraie fin d'enregistrement, même si des champs entre guillemets contiennent des sauts
+ * de ligne.
+ *
+ * @author ybonnel
+ */
+final class RecordBoundaries {
+
+    /**
+     * Size of the buffer used to scan the chunks.
+     */
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Quote byte.
+     */
+    private static final byte QUOTE = '"';
+
+    /**
+     * Line feed byte.
+     */
+    private static final byte LINE_FEED = '\n';
+
+    /**
+     * Carriage return byte.
+     */
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    /**
+     * Result of the scan of a chunk.
+     */
+    private static final class ChunkScan {
+        /**
+         * Parity of the number of quotes in the chunk.
+         */
+        private int quoteParity;
+        /**
+         * Position of the last byte of the first end of line preceded by an even (index 0) and an odd (index 1)
+         * number of quotes in the chunk, -1 if none.
+         */
+        private final long[] firstEndOfLine = {-1, -1};
+    }
+
+    /**
+     * Stream of a range of a file, read with positional reads so the channel can be shared.
+     */
+    private static final class ChannelRangeInputStream extends InputStream {
+        /**
+         * The channel.
+         */
+        private final FileChannel channel;
+        /**
+         * Current position.
+         */
+        private long position;
+        /**
+         * End of the range (exclusive).
+         */
+        private final long end;
+
+        /**
+         * Constructor.
+         *
+         * @param channel the channel.
+         * @param start   start of the range.
+         * @param end     end of the range (exclusive).
+         */
+        private ChannelRangeInputStream(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] oneByte = new byte[1];
+            return read(oneByte, 0, 1) < 0 ? -1 : oneByte[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            int nbRead = channel.read(ByteBuffer.wrap(bytes, offset, (int) Math.min(length, end - position)),
+                    position);
+            if (nbRead > 0) {
+                position += nbRead;
+            }
+            return nbRead;
+        }
+    }
+
+    /**
+     * Bytes of the header.
+     */
+    private final byte[] header;
+
+    /**
+     * Start of each range, followed by the size of the file.
+     */
+    private final long[] bounds;
+
+    /**
+     * Constructor.
+     *
+     * @param header bytes of the header.
+     * @param bounds start of each range, followed by the size of the file.
+     */
+    private RecordBoundaries(byte[] header, long[] bounds) {
+        this.header = header;
+        this.bounds = bounds;
+    }
+
+    /**
+     * Used to know if a file in a charset can be cut on its bytes.
+     *
+     * @param charset the charset.
+     * @return true if the quote and the line feed are single bytes which can't be part of an other character.
+     */
+    static boolean isSplittable(Charset charset) {
+        return NativeByteCsvReader.isAsciiCompatible(charset);
+    }
+
+    /**
+     * Cut a file in ranges of records.
+     *
+     * @param channel   the file.
+     * @param executor  pool used to scan the chunks.
+     * @param chunkSize size of the chunks : each range starts at the first record of a chunk.
+     * @return the boundaries of the ranges.
+     * @throws IOException          error reading the file.
+     * @throws InterruptedException if the thread is interrupted.
+     */
+    static RecordBoundaries scan(final FileChannel channel, ExecutorService executor, long chunkSize)
+            throws IOException, InterruptedException {
+        final long size = channel.size();
+        List<Callable<ChunkScan>> scans = new ArrayList<Callable<ChunkScan>>();
+        for (long start = 0; start < size; start += chunkSize) {
+            final long chunkStart = start;
+            final long chunkEnd = Math.min(size, start + chunkSize);
+            scans.add(() -> scanChunk(channel, chunkStart, chunkEnd));
+        }
+        List<Long> recordStarts = new ArrayList<Long>();
+        int parity = 0;
+        for (Future<ChunkScan> scan : executor.invokeAll(scans)) {
+            ChunkScan chunkScan;
+            try {
+                chunkScan = scan.get();
+            } catch (ExecutionException exception) {
+                Throwable cause = exception.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof java.lang.Error) {
+                    throw (java.lang.Error) cause;
+                }
+                throw new CsvEngineException(cause);
+            }
+            long endOfLine = chunkScan.firstEndOfLine[parity];
+            if (endOfLine >= 0 && endOfLine + 1 < size) {
+                recordStarts.add(endOfLine + 1);
+            }
+            parity ^= chunkScan.quoteParity;
+        }
+        long[] bounds = new long[recordStarts.size() + 1];
+        for (int index = 0; index < recordStarts.size(); index++) {
+            bounds[index] = recordStarts.get(index);
+        }
+        bounds[recordStarts.size()] = size;
+        byte[] header = new byte[recordStarts.isEmpty() ? 0 : (int) bounds[0]];
+        ByteBuffer headerBuffer = ByteBuffer.wrap(header);
+        int nbRead = 0;
+        while (headerBuffer.hasRemaining() && nbRead >= 0) {
+            nbRead = channel.read(headerBuffer, headerBuffer.position());
+        }
+        return new RecordBoundaries(header, bounds);
+    }
+
+    /**
+     * Scan a chunk.
+     *
+     * @param channel the file.
+     * @param start   start of the chunk.
+     * @param end     end of the chunk (exclusive).
+     * @return the result of the scan.
+     * @throws IOException error reading the file.
+     */
+    private static ChunkScan scanChunk(FileChannel channel, long start, long end) throws IOException {
+        ChunkScan chunkScan = new ChunkScan();
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        byte[] bytes = buffer.array();
+        int parity = 0;
+        // Carriage return waiting for the next byte to know if it ends the line, -1 if none.
+        long carriageReturn = -1;
+        int carriageReturnParity = 0;
+        long position = start;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(bytes.length, end - position));
+            int nbRead = channel.read(buffer, position);
+            if (nbRead < 0) {
+                break;
+            }
+            for (int index = 0; index < nbRead; index++) {
+                byte oneByte = bytes[index];
+                if (carriageReturn >= 0 && oneByte != LINE_FEED) {
+                    endOfLine(chunkScan, carriageReturnParity, carriageReturn);
+                }
+                carriageReturn = -1;
+                if (oneByte == QUOTE) {
+                    parity ^= 1;
+                } else if (oneByte == LINE_FEED) {
+                    endOfLine(chunkScan, parity, position + index);
+                } else if (oneByte == CARRIAGE_RETURN) {
+                    carriageReturn = position + index;
+                    carriageReturnParity = parity;
+                }
+            }
+            position += nbRead;
+        }
+        if (carriageReturn >= 0) {
+            ByteBuffer next = ByteBuffer.allocate(1);
+            if (channel.read(next, end) <= 0 || next.get(0) != LINE_FEED) {
+                endOfLine(chunkScan, carriageReturnParity, carriageReturn);
+            }
+        }
+        chunkScan.quoteParity = parity;
+        return chunkScan;
+    }
+
+    /**
+     * Keep an end of line if it is the first one of the chunk for its parity of quotes.
+     *
+     * @param chunkScan result of the scan of the chunk.
+     * @param parity    parity of the quotes before the end of line.
+     * @param position  position of the last byte of the end of line.
+     */
+    private static void endOfLine(ChunkScan chunkScan, int parity, long position) {
+        if (chunkScan.firstEndOfLine[parity] < 0) {
+            chunkScan.firstEndOfLine[parity] = position;
+        }
+    }
+
+    /**
+     * @return number of ranges of records (0 if the file has no record after its header).
+     */
+    int getNbRanges() {
+        return bounds.length - 1;
+    }
+
+    /**
+     * Get the number of bytes of consecutive ranges.
+     *
+     * @param fromRange first range.
+     * @param toRange   last range (exclusive).
+     * @return the number of bytes.
+     */
+    long getSize(int fromRange, int toRange) {
+        return bounds[toRange] - bounds[fromRange];
+    }
+
+    /**
+     * Open a stream on consecutive ranges, preceded by the header of the file.
+     *
+     * @param channel   the file.
+     * @param fromRange first range.
+     * @param toRange   last range (exclusive).
+     * @return the stream of bytes.
+     */
+    InputStream openRanges(FileChannel channel, int fromRange, int toRange) {
+        return new SequenceInputStream(new ByteArrayInputStream(header),
+                new ChannelRangeInputStream(channel, bounds[fromRange], bounds[toRange]));
+    }
+
+    /**
+     * Open a stream on a whole file, without cutting it.
+     *
+     * @param channel the file.
+     * @return the stream of bytes.
+     * @throws IOException error reading the file.
+     */
+    static InputStream openFile(FileChannel channel) throws IOException {
+        return new ChannelRangeInputStream(channel, 0, channel.size());
+    }
+}
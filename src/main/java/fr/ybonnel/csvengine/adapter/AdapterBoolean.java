@@ -32,7 +32,7 @@ package fr.ybonnel.csvengine.adapter;
  * @author ybonnel
  * 
  */
-public class AdapterBoolean extends AdapterCsv<Boolean> {
+public class AdapterBoolean extends AdapterCsv<Boolean> implements BooleanAdapterCsv {
 
 	/**
 	 * Transform a string into Boolean.
@@ -45,6 +45,17 @@ public class AdapterBoolean extends AdapterCsv<Boolean> {
 		return Integer.parseInt(string) == 1;
 	}
 
+	/**
+	 * Transform a sequence of characters into boolean, without boxing.
+	 * 
+	 * @param value
+	 *            the characters to transform.
+	 * @return true if value = "1".
+	 */
+	public boolean parseBoolean(CharSequence value) {
+		return NumberParser.parseInt(value) == 1;
+	}
+
 	/**
 	 * Transform a Boolean into String.
 	 * 
@@ -49,6 +49,17 @@ public class AdapterDate extends AdapterCsv<Date> {
      */
     private SimpleDateFormat format;
 
+    /**
+     * Copies of the SimpleDateFormat by thread (SimpleDateFormat isn't thread-safe
+     * and the adapter is shared by all the threads using the engine).
+     */
+    private final ThreadLocal<SimpleDateFormat> formatByThread = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            return (SimpleDateFormat) format.clone();
+        }
+    };
+
     /*
       * (non-Javadoc)
       *
@@ -76,7 +87,7 @@ public class AdapterDate extends AdapterCsv<Date> {
     @Override
     public Date parse(String string) throws ValidateException {
         try {
-            return format.parse(string);
+            return formatByThread.get().parse(string);
         } catch (ParseException e) {
             throw new ValidateException(
                     "A date haven't the good format, (expected format : " + format.toPattern() + ")", e);
@@ -90,7 +101,7 @@ public class AdapterDate extends AdapterCsv<Date> {
       */
     @Override
     public String toString(Date object) {
-        return format.format(object);
+        return formatByThread.get().format(object);
     }
 
 }
@@ -17,12 +17,12 @@
 package fr.ybonnel.csvengine.adapter;
 
 /**
- * Adapter for Double<br/><br/>
- * <i><u>French :</i> Adapteur pour les Double.
+ * Adapter for Double, the double fields are parsed without boxing.<br/><br/>
+ * <i><u>French :</i> Adapteur pour les Double, les champs double sont lus sans boxing.
  *
  * @author ybonnel
  */
-public class AdapterDouble extends AdapterCsv<Double> {
+public class AdapterDouble extends AdapterCsv<Double> implements DoubleAdapterCsv {
 
 
     /**
@@ -35,6 +35,16 @@ public class AdapterDouble extends AdapterCsv<Double> {
         return Double.valueOf(string);
     }
 
+    /**
+     * Transform a sequence of characters into double.
+     *
+     * @param value the characters to transform.
+     * @return the double transformed.
+     */
+    public double parseDouble(CharSequence value) {
+        return NumberParser.parseDouble(value);
+    }
+
     /**
      * Transform a Double into String.
      *
@@ -0,0 +1,44 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.adapter;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+
+/**
+ * Adapter for java.time.Instant, ISO format (yyyy-MM-ddTHH:mm:ssZ) by default.<br/>
+ * The parameters are described in {@link AdapterTemporal}, a format without zone
+ * needs the parameter {@link AdapterTemporal#PARAM_ZONE}.<br/><br/>
+ * <i><u>French :</i> Adapteur pour les java.time.Instant, format ISO (yyyy-MM-ddTHH:mm:ssZ) par défaut.<br/>
+ * Les paramètres sont décrits dans {@link AdapterTemporal}, un format sans zone
+ * nécessite le paramètre {@link AdapterTemporal#PARAM_ZONE}.
+ *
+ * @author ybonnel
+ */
+public class AdapterInstant extends AdapterTemporal<Instant> {
+
+    @Override
+    protected DateTimeFormatter getIsoFormatter() {
+        return DateTimeFormatter.ISO_INSTANT;
+    }
+
+    @Override
+    protected TemporalQuery<Instant> getQuery() {
+        return Instant::from;
+    }
+}
@@ -17,13 +17,13 @@
 package fr.ybonnel.csvengine.adapter;
 
 /**
- * Adapter for Integer<br/><br/>
- * <i><u>French :</i> Adapteur pour les Integer.
+ * Adapter for Integer, the int fields are parsed without boxing.<br/><br/>
+ * <i><u>French :</i> Adapteur pour les Integer, les champs int sont lus sans boxing.
  * 
  * @author ybonnel
  * 
  */
-public class AdapterInteger extends AdapterCsv<Integer> {
+public class AdapterInteger extends AdapterCsv<Integer> implements IntAdapterCsv {
 
     /**
      * Transform a String into Integer.
@@ -35,6 +35,16 @@ public class AdapterInteger extends AdapterCsv<Integer> {
 		return Integer.valueOf(string);
 	}
 
+    /**
+     * Transform a sequence of characters into int.
+     *
+     * @param value the characters to transform.
+     * @return the int transformed.
+     */
+	public int parseInt(CharSequence value) {
+		return NumberParser.parseInt(value);
+	}
+
     /**
      * Transform an Integer into String.
      *
@@ -0,0 +1,128 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.adapter;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import java.util.Map;
+
+import fr.ybonnel.csvengine.exception.InvalidParamException;
+import fr.ybonnel.csvengine.validator.ValidateException;
+
+/**
+ * Adapter for java.time.LocalDate, ISO format (yyyy-MM-dd) by default.<br/>
+ * The parameters are described in {@link AdapterTemporal}.<br/>
+ * Without parameter, the ISO dates are parsed directly without the DateTimeFormatter.<br/><br/>
+ * <i><u>French :</i> Adapteur pour les java.time.LocalDate, format ISO (yyyy-MM-dd) par défaut.<br/>
+ * Les paramètres sont décrits dans {@link AdapterTemporal}.<br/>
+ * Sans paramètre, les dates ISO sont lues directement sans le DateTimeFormatter.
+ *
+ * @author ybonnel
+ */
+public class AdapterLocalDate extends AdapterTemporal<LocalDate> {
+
+    /**
+     * Length of an ISO date.
+     */
+    private static final int ISO_LENGTH = 10;
+
+    /**
+     * Position of the month in an ISO date.
+     */
+    private static final int MONTH_POSITION = 5;
+
+    /**
+     * Position of the day in an ISO date.
+     */
+    private static final int DAY_POSITION = 8;
+
+    /**
+     * Ten.
+     */
+    private static final int TEN = 10;
+
+    /**
+     * True if the format is the ISO one.
+     */
+    private boolean isoFormat = true;
+
+    @Override
+    protected DateTimeFormatter getIsoFormatter() {
+        return DateTimeFormatter.ISO_LOCAL_DATE;
+    }
+
+    @Override
+    protected TemporalQuery<LocalDate> getQuery() {
+        return LocalDate::from;
+    }
+
+    /*
+      * (non-Javadoc)
+      *
+      * @see AdapterTemporal#addParams(java.util.Map)
+      */
+    @Override
+    public void addParams(Map<String, String> params) throws InvalidParamException {
+        super.addParams(params);
+        isoFormat = !params.containsKey(PARAM_FORMAT) && !params.containsKey(PARAM_ZONE);
+    }
+
+    /*
+      * (non-Javadoc)
+      *
+      * @see AdapterTemporal#parse(java.lang.String)
+      */
+    @Override
+    public LocalDate parse(String string) throws ValidateException {
+        if (isoFormat && string.length() == ISO_LENGTH
+                && string.charAt(MONTH_POSITION - 1) == '-' && string.charAt(DAY_POSITION - 1) == '-') {
+            int year = parseDigits(string, 0, MONTH_POSITION - 1);
+            int month = parseDigits(string, MONTH_POSITION, DAY_POSITION - 1);
+            int day = parseDigits(string, DAY_POSITION, ISO_LENGTH);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                try {
+                    return LocalDate.of(year, month, day);
+                } catch (DateTimeException exception) {
+                    throw new ValidateException("The date " + string + " doesn't exist", exception);
+                }
+            }
+        }
+        return super.parse(string);
+    }
+
+    /**
+     * Parse digits.
+     *
+     * @param string the string.
+     * @param start  start of the digits.
+     * @param end    end (exclusive) of the digits.
+     * @return the number, -1 if a character isn't a digit.
+     */
+    private static int parseDigits(String string, int start, int end) {
+        int result = 0;
+        for (int index = start; index < end; index++) {
+            char car = string.charAt(index);
+            if (car < '0' || car > '9') {
+                return -1;
+            }
+            result = result * TEN + (car - '0');
+        }
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.adapter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+
+/**
+ * Adapter for java.time.LocalDateTime, ISO format (yyyy-MM-ddTHH:mm:ss) by default.<br/>
+ * The parameters are described in {@link AdapterTemporal}.<br/><br/>
+ * <i><u>French :</i> Adapteur pour les java.time.LocalDateTime, format ISO (yyyy-MM-ddTHH:mm:ss) par défaut.<br/>
+ * Les paramètres sont décrits dans {@link AdapterTemporal}.
+ *
+ * @author ybonnel
+ */
+public class AdapterLocalDateTime extends AdapterTemporal<LocalDateTime> {
+
+    @Override
+    protected DateTimeFormatter getIsoFormatter() {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    }
+
+    @Override
+    protected TemporalQuery<LocalDateTime> getQuery() {
+        return LocalDateTime::from;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.adapter;
+
+/**
+ * Adapter for Long, the long fields are parsed without boxing.<br/><br/>
+ * <i><u>French :</i> Adapteur pour les Long, les champs long sont lus sans boxing.
+ *
+ * @author ybonnel
+ */
+public class AdapterLong extends AdapterCsv<Long> implements LongAdapterCsv {
+
+    /**
+     * Transform a String into Long.
+     *
+     * @param string the string to transform.
+     * @return the Long transformed.
+     */
+    public Long parse(String string) {
+        return Long.valueOf(string);
+    }
+
+    /**
+     * Transform a sequence of characters into long.
+     *
+     * @param value the characters to transform.
+     * @return the long transformed.
+     */
+    public long parseLong(CharSequence value) {
+        return NumberParser.parseLong(value);
+    }
+
+    /**
+     * Transform a Long into String.
+     *
+     * @param object Long to transform.
+     * @return the resulting string.
+     */
+    public String toString(Long object) {
+        return object.toString();
+    }
+}
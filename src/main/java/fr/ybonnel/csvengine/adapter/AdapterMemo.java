@@ -0,0 +1,196 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.adapter;
+
+import java.util.Date;
+import java.util.concurrent.atomic.LongAdder;
+
+import fr.ybonnel.csvengine.validator.ValidateException;
+
+/**
+ * Adapter which memorizes the last values parsed by an other adapter.<br/>
+ * Useful for the columns with few distinct values which are costly to parse (dates, times...).<br/>
+ * The adapter is activated on a column with the parameter {@link AdapterMemo#PARAM_MEMO_SIZE} in
+ * {@link fr.ybonnel.csvengine.annotation.CsvColumn#params()}, which contains the number of values to keep.<br/>
+ * The memo is a bounded table indexed by the hash of the string : a new value evicts the value with the
+ * same index. The values returned are shared between the objects (except java.util.Date which are copied),
+ * so it must be used with immutable values.<br/>
+ * The number of hits and misses are available to know if the memo is useful.<br/><br/>
+ * <i><u>French :</i> Adapteur qui mémorise les dernières valeurs lues par un autre adapteur.<br/>
+ * Utile pour les colonnes avec peu de valeurs distinctes coûteuses à lire (dates, heures...).<br/>
+ * L'adapteur est activé sur une colonne avec le paramètre {@link AdapterMemo#PARAM_MEMO_SIZE} dans
+ * {@link fr.ybonnel.csvengine.annotation.CsvColumn#params()}, qui contient le nombre de valeurs à garder.<br/>
+ * Le mémo est une table bornée indexée par le hash de la chaîne : une nouvelle valeur remplace la valeur de
+ * même index. Les valeurs retournées sont partagées entre les objets (sauf les java.util.Date qui sont copiées),
+ * il doit donc être utilisé avec des valeurs immuables.<br/>
+ * Les nombres de succès et d'échecs sont disponibles pour savoir si le mémo est utile.
+ *
+ * @param <T> class of the values.
+ * @author ybonnel
+ */
+public class AdapterMemo<T> extends AdapterCsv<T> {
+
+    /**
+     * Parameter of the column which contains the number of values to keep.
+     */
+    public static final String PARAM_MEMO_SIZE = "memoSize";
+
+    /**
+     * Maximum number of values.
+     */
+    private static final int MAX_SIZE = 1 << 20;
+
+    /**
+     * Entry of the memo, immutable so it can be shared without synchronization.
+     *
+     * @param <T> class of the value.
+     */
+    private static final class Entry<T> {
+        /**
+         * The string parsed.
+         */
+        private final String string;
+        /**
+         * The value.
+         */
+        private final T value;
+
+        /**
+         * Constructor.
+         *
+         * @param string the string parsed.
+         * @param value  the value.
+         */
+        private Entry(String string, T value) {
+            this.string = string;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The adapter memorized.
+     */
+    private final AdapterCsv<T> adapter;
+
+    /**
+     * Entries of the memo.
+     */
+    private final Entry<T>[] entries;
+
+    /**
+     * Mask to get the index of an entry.
+     */
+    private final int mask;
+
+    /**
+     * Number of values found in the memo.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Number of values not found in the memo.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param adapter the adapter to memorize.
+     * @param size    number of values to keep (rounded to the next power of two).
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public AdapterMemo(AdapterCsv<T> adapter, int size) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("The size of the memo must be between 1 and " + MAX_SIZE);
+        }
+        this.adapter = adapter;
+        int capacity = Integer.highestOneBit(size);
+        if (capacity < size) {
+            capacity <<= 1;
+        }
+        entries = new Entry[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Transform a String into T, using the memo if the string has already been parsed.
+     *
+     * @param string the string to transform.
+     * @return the object transformed.
+     * @throws ValidateException if the adapter memorized throws it.
+     */
+    @Override
+    public T parse(String string) throws ValidateException {
+        int hash = string.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+        Entry<T> entry = entries[index];
+        if (entry != null && entry.string.equals(string)) {
+            hits.increment();
+            return copy(entry.value);
+        }
+        misses.increment();
+        T value = adapter.parse(string);
+        entries[index] = new Entry<T>(string, value);
+        return copy(value);
+    }
+
+    /**
+     * Copy the mutable values which can be returned by the standard adapters.
+     *
+     * @param value the value.
+     * @return the value to return.
+     */
+    @SuppressWarnings("unchecked")
+    private T copy(T value) {
+        if (value instanceof Date) {
+            return (T) ((Date) value).clone();
+        }
+        return value;
+    }
+
+    /**
+     * Transform a T into String, delegated to the adapter memorized.
+     *
+     * @param object object to transform.
+     * @return the resulting string.
+     */
+    @Override
+    public String toString(T object) {
+        return adapter.toString(object);
+    }
+
+    /**
+     * @return the adapter memorized.
+     */
+    public AdapterCsv<T> getAdapter() {
+        return adapter;
+    }
+
+    /**
+     * @return number of values found in the memo.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of values not found in the memo.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.adapter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import fr.ybonnel.csvengine.exception.InvalidParamException;
+
+/**
+ * Adapter for String which returns a canonical instance for each distinct value.<br/>
+ * Useful for the columns with few distinct values (countries, status...) : all the objects share the same
+ * instances of String, which saves memory when many objects are kept and speeds up the equality checks.<br/>
+ * <br/>
+ * Parameter : {@link AdapterStringDictionary#PARAM_MAX_SIZE} contain the maximum number of values in the
+ * dictionary (optional, {@link AdapterStringDictionary#DEFAULT_MAX_SIZE} by default). When the dictionary
+ * is full, the new values are returned as is.<br/>
+ * The parameter have to be passed with {@link fr.ybonnel.csvengine.annotation.CsvColumn#params()}.
+ * Unlike the other adapters, an instance (and so a dictionary) is created for each column : a column with
+ * many distinct values can't fill the dictionary of the other columns.
+ * <br/><br/>
+ * <i><u>French :</i> Adapteur de String qui retourne une instance canonique pour chaque valeur distincte.<br/>
+ * Utile pour les colonnes avec peu de valeurs distinctes (pays, statuts...) : tous les objets partagent les
+ * mêmes instances de String, ce qui économise de la mémoire quand beaucoup d'objets sont gardés et accélère
+ * les tests d'égalité.<br/>
+ * <br/>
+ * Paramètre : {@link AdapterStringDictionary#PARAM_MAX_SIZE} contient le nombre maximum de valeurs du
+ * dictionnaire (optionnel, {@link AdapterStringDictionary#DEFAULT_MAX_SIZE} par défaut). Quand le dictionnaire
+ * est plein, les nouvelles valeurs sont retournées telles quelles.<br/>
+ * Le paramètre est à fournir via {@link fr.ybonnel.csvengine.annotation.CsvColumn#params()}.
+ * Contrairement aux autres adapteurs, une instance (et donc un dictionnaire) est créée pour chaque colonne :
+ * une colonne avec beaucoup de valeurs distinctes ne peut pas remplir le dictionnaire des autres colonnes.
+ *
+ * @author ybonnel
+ */
+public class AdapterStringDictionary extends AdapterCsv<String> {
+
+    /**
+     * Parameter for the maximum number of values in the dictionary.
+     */
+    public static final String PARAM_MAX_SIZE = "maxSize";
+
+    /**
+     * Default maximum number of values in the dictionary.
+     */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    /**
+     * Maximum number of values in the dictionary.
+     */
+    private int maxSize = DEFAULT_MAX_SIZE;
+
+    /**
+     * The dictionary, each value is associated to itself.
+     */
+    private final ConcurrentMap<String, String> dictionary = new ConcurrentHashMap<String, String>();
+
+    /*
+      * (non-Javadoc)
+      *
+      * @see AdapterCsv#addParams(java.util.Map)
+      */
+    @Override
+    public void addParams(Map<String, String> params) throws InvalidParamException {
+        super.addParams(params);
+        if (params.containsKey(PARAM_MAX_SIZE)) {
+            try {
+                maxSize = Integer.parseInt(params.get(PARAM_MAX_SIZE));
+            } catch (NumberFormatException exception) {
+                throw new InvalidParamException("The parameter \"" + PARAM_MAX_SIZE
+                        + "\" haven't the good format : " + params.get(PARAM_MAX_SIZE), exception);
+            }
+            if (maxSize <= 0) {
+                throw new InvalidParamException("The parameter \"" + PARAM_MAX_SIZE
+                        + "\" must be positive : " + maxSize);
+            }
+        }
+    }
+
+    /**
+     * Transform a String into its canonical instance.
+     *
+     * @param string the string to transform.
+     * @return the canonical instance, or the string itself if the dictionary is full.
+     */
+    @Override
+    public String parse(String string) {
+        String canonical = dictionary.get(string);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (dictionary.size() >= maxSize) {
+            return string;
+        }
+        canonical = dictionary.putIfAbsent(string, string);
+        return canonical == null ? string : canonical;
+    }
+
+    /**
+     * Transform a String into String.
+     *
+     * @param object String to transform.
+     * @return the resulting string.
+     */
+    @Override
+    public String toString(String object) {
+        return object;
+    }
+
+    /**
+     * @return number of values in the dictionary.
+     */
+    public int getSize() {
+        return dictionary.size();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.adapter;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.Map;
+
+import fr.ybonnel.csvengine.exception.InvalidParamException;
+import fr.ybonnel.csvengine.validator.ValidateException;
+
+/**
+ * Class to extend for the adapters of java.time classes.<br/>
+ * <br/>
+ * Parameters (passed with {@link fr.ybonnel.csvengine.annotation.CsvColumn#params()}) :
+ * <ul>
+ * <li>{@link AdapterTemporal#PARAM_FORMAT} contain the format (see {@link DateTimeFormatter#ofPattern(String)}),
+ * the ISO format of the class is used by default.</li>
+ * <li>{@link AdapterTemporal#PARAM_ZONE} contain the zone of the format (see {@link ZoneId#of(String)}),
+ * optional.</li>
+ * </ul>
+ * The DateTimeFormatter is immutable, so one adapter can be used by many threads.<br/><br/>
+ * <p/>
+ * <i><u>French :</i> Classe à étendre pour les adapteurs des classes de java.time.<br/>
+ * <br/>
+ * Paramètres (à fournir via {@link fr.ybonnel.csvengine.annotation.CsvColumn#params()}) :
+ * <ul>
+ * <li>{@link AdapterTemporal#PARAM_FORMAT} contient le format, le format ISO de la classe est utilisé
+ * par défaut.</li>
+ * <li>{@link AdapterTemporal#PARAM_ZONE} contient la zone du format, optionnel.</li>
+ * </ul>
+ * Le DateTimeFormatter est immuable, un adapteur peut donc être utilisé par plusieurs threads.
+ *
+ * @param <T> the java.time class.
+ * @author ybonnel
+ */
+public abstract class AdapterTemporal<T extends TemporalAccessor> extends AdapterCsv<T> {
+
+    /**
+     * Parameter for the format.
+     */
+    public static final String PARAM_FORMAT = "format";
+
+    /**
+     * Parameter for the zone.
+     */
+    public static final String PARAM_ZONE = "zone";
+
+    /**
+     * Formatter used for parse and format.
+     */
+    private DateTimeFormatter formatter;
+
+    /**
+     * Description of the format for the messages of errors.
+     */
+    private String formatDescription;
+
+    /**
+     * @return the ISO formatter used when there is no format parameter.
+     */
+    protected abstract DateTimeFormatter getIsoFormatter();
+
+    /**
+     * @return the query which construct the T from the parsed value.
+     */
+    protected abstract TemporalQuery<T> getQuery();
+
+    /**
+     * @return the formatter used.
+     */
+    protected DateTimeFormatter getFormatter() {
+        if (formatter == null) {
+            formatter = getIsoFormatter();
+            formatDescription = formatter.toString();
+        }
+        return formatter;
+    }
+
+    /*
+      * (non-Javadoc)
+      *
+      * @see AdapterCsv#addParams(java.util.Map)
+      */
+    @Override
+    public void addParams(Map<String, String> params) throws InvalidParamException {
+        super.addParams(params);
+        DateTimeFormatter newFormatter = getIsoFormatter();
+        String newDescription = newFormatter.toString();
+        if (params.containsKey(PARAM_FORMAT)) {
+            try {
+                newFormatter = DateTimeFormatter.ofPattern(params.get(PARAM_FORMAT));
+                newDescription = params.get(PARAM_FORMAT);
+            } catch (IllegalArgumentException exception) {
+                throw new InvalidParamException("The parameter \"" + PARAM_FORMAT + "\" haven't the good format : "
+                        + params.get(PARAM_FORMAT), exception);
+            }
+        }
+        if (params.containsKey(PARAM_ZONE)) {
+            try {
+                newFormatter = newFormatter.withZone(ZoneId.of(params.get(PARAM_ZONE)));
+            } catch (RuntimeException exception) {
+                throw new InvalidParamException("The parameter \"" + PARAM_ZONE + "\" haven't the good format : "
+                        + params.get(PARAM_ZONE), exception);
+            }
+        }
+        formatter = newFormatter;
+        formatDescription = newDescription;
+    }
+
+    /*
+      * (non-Javadoc)
+      *
+      * @see AdapterCsv#parse(java.lang.String)
+      */
+    @Override
+    public T parse(String string) throws ValidateException {
+        try {
+            return getFormatter().parse(string, getQuery());
+        } catch (DateTimeParseException exception) {
+            throw new ValidateException(
+                    "A date haven't the good format, (expected format : " + formatDescription + ")", exception);
+        }
+    }
+
+    /*
+      * (non-Javadoc)
+      *
+      * @see AdapterCsv#toString(java.lang.Object)
+      */
+    @Override
+    public String toString(T object) {
+        return getFormatter().format(object);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.adapter;
+
+import fr.ybonnel.csvengine.validator.ValidateException;
+
+/**
+ * Adapter able to parse a value of a boolean field without boxing.<br/>
+ * When the field associated to a column is a boolean and its adapter implements this interface,
+ * the engine uses {@link #parseBoolean(CharSequence)} and sets the field with a primitive setter.<br/><br/>
+ * <i><u>French :</i> Adapteur capable de lire la valeur d'un champ boolean sans boxing.<br/>
+ * Quand le champ associé à une colonne est un boolean et que son adapteur implémente cette interface,
+ * le moteur utilise {@link #parseBoolean(CharSequence)} et affecte le champ avec un setter primitif.
+ *
+ * @author ybonnel
+ */
+public interface BooleanAdapterCsv {
+
+    /**
+     * Transform a sequence of characters into boolean.
+     *
+     * @param value the characters to transform.
+     * @return the boolean transformed.
+     * @throws ValidateException can be throw if the value haven't good format.
+     */
+    boolean parseBoolean(CharSequence value) throws ValidateException;
+}
@@ -0,0 +1,41 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.adapter;
+
+import fr.ybonnel.csvengine.validator.ValidateException;
+
+/**
+ * Adapter able to parse a value of a long field without boxing.<br/>
+ * When the field associated to a column is a long and its adapter implements this interface,
+ * the engine uses {@link #parseLong(CharSequence)} and sets the field with a primitive setter.<br/><br/>
+ * <i><u>French :</i> Adapteur capable de lire la valeur d'un champ long sans boxing.<br/>
+ * Quand le champ associé à une colonne est un long et que son adapteur implémente cette interface,
+ * le moteur utilise {@link #parseLong(CharSequence)} et affecte le champ avec un setter primitif.
+ *
+ * @author ybonnel
+ */
+public interface LongAdapterCsv {
+
+    /**
+     * Transform a sequence of characters into long.
+     *
+     * @param value the characters to transform.
+     * @return the long transformed.
+     * @throws ValidateException can be throw if the value haven't good format.
+     */
+    long parseLong(CharSequence value) throws ValidateException;
+}
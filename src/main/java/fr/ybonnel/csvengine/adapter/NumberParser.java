@@ -0,0 +1,167 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.adapter;
+
+/**
+ * Parse the numbers directly from a sequence of characters, without creating a String.<br/>
+ * The rules are the ones of {@link Long#parseLong(String)} and {@link Double#parseDouble(String)}
+ * (the uncommon forms of double, like exponents, are delegated to Double).<br/><br/>
+ * <i><u>French :</i> Lit les nombres directement depuis une séquence de caractères, sans créer de String.<br/>
+ * Les règles sont celles de {@link Long#parseLong(String)} et {@link Double#parseDouble(String)}
+ * (les formes rares de double, comme les exposants, sont déléguées à Double).
+ *
+ * @author ybonnel
+ */
+final class NumberParser {
+
+    /**
+     * Radix of the numbers.
+     */
+    private static final int RADIX = 10;
+
+    /**
+     * Maximum number of digits of a double parsed without Double : the mantissa stays lower than 2^53,
+     * so it is exact in a double, as the powers of ten used.
+     */
+    private static final int MAX_DOUBLE_DIGITS = 15;
+
+    /**
+     * Powers of ten, exact in double.
+     */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    /**
+     * Utility class.
+     */
+    private NumberParser() {
+    }
+
+    /**
+     * Parse an int.
+     *
+     * @param value the characters to parse.
+     * @return the int.
+     * @throws NumberFormatException if the value isn't an int.
+     */
+    static int parseInt(CharSequence value) {
+        long result = parseLong(value);
+        if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+            throw numberFormatException(value);
+        }
+        return (int) result;
+    }
+
+    /**
+     * Parse a long.
+     *
+     * @param value the characters to parse.
+     * @return the long.
+     * @throws NumberFormatException if the value isn't a long.
+     */
+    static long parseLong(CharSequence value) {
+        int length = value.length();
+        if (length == 0) {
+            throw numberFormatException(value);
+        }
+        int index = 0;
+        boolean negative = false;
+        char first = value.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index++;
+            if (length == 1) {
+                throw numberFormatException(value);
+            }
+        }
+        // Accumulated negatively, as Long.parseLong, to accept Long.MIN_VALUE.
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMin = limit / RADIX;
+        long result = 0;
+        for (; index < length; index++) {
+            char car = value.charAt(index);
+            if (car >= 0x80) {
+                // Long.parseLong accepts the Unicode digits (Arabic-Indic...).
+                return Long.parseLong(value.toString());
+            }
+            int digit = car - '0';
+            if (digit < 0 || digit >= RADIX || result < multiplyMin) {
+                throw numberFormatException(value);
+            }
+            result *= RADIX;
+            if (result < limit + digit) {
+                throw numberFormatException(value);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parse a double.<br/>
+     * The simple decimal numbers (sign, at most 15 digits and a dot) are computed from their digits,
+     * which gives the same correctly rounded result than Double. The others are delegated to Double.
+     *
+     * @param value the characters to parse.
+     * @return the double.
+     * @throws NumberFormatException if the value isn't a double.
+     */
+    static double parseDouble(CharSequence value) {
+        int length = value.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            index++;
+        }
+        long mantissa = 0;
+        int nbDigits = 0;
+        int nbDecimals = 0;
+        boolean dot = false;
+        for (; index < length; index++) {
+            char car = value.charAt(index);
+            if (car >= '0' && car <= '9') {
+                if (nbDigits == MAX_DOUBLE_DIGITS) {
+                    return Double.parseDouble(value.toString());
+                }
+                mantissa = mantissa * RADIX + (car - '0');
+                nbDigits++;
+                if (dot) {
+                    nbDecimals++;
+                }
+            } else if (car == '.' && !dot) {
+                dot = true;
+            } else {
+                return Double.parseDouble(value.toString());
+            }
+        }
+        if (nbDigits == 0) {
+            return Double.parseDouble(value.toString());
+        }
+        double result = mantissa / POWERS_OF_TEN[nbDecimals];
+        return negative ? -result : result;
+    }
+
+    /**
+     * @param value the value which isn't a number.
+     * @return the exception to throw.
+     */
+    private static NumberFormatException numberFormatException(CharSequence value) {
+        return new NumberFormatException("For input string: \"" + value + "\"");
+    }
+}
@@ -37,4 +37,64 @@ public abstract class AbstractCsvReader implements Closeable {
 	 */
 	public abstract String[] readLine() throws IOException;
 
+	/**
+	 * Fields of the current record, when the record API is implemented by {@link #readLine()}.
+	 */
+	private String[] currentFields;
+
+	/**
+	 * Select the columns used by the engine, called once the header is read.<br/>
+	 * The reader can then skip the other columns without parsing them : their value returned by
+	 * {@link #getField(int)} can be the raw characters of the file. This implementation ignores the selection.
+	 * 
+	 * @param selectedColumns
+	 *            for each column, true if the column is used (the columns after the end of the array
+	 *            are not used).
+	 */
+	public void selectColumns(boolean[] selectedColumns) {
+	}
+
+	/**
+	 * Used to know if the values of the columns not selected are the raw characters of the file, with their
+	 * quotes. This implementation ignores the selection, so it returns false.
+	 * 
+	 * @return true if the reader skips the columns not selected by {@link #selectColumns(boolean[])}.
+	 */
+	public boolean skipsUnselectedColumns() {
+		return false;
+	}
+
+	/**
+	 * Read the next record, its fields are then available by {@link #getField(int)}.<br/>
+	 * This implementation uses {@link #readLine()}, the readers able to expose their internal buffer
+	 * override this method, {@link #getNbFields()} and {@link #getField(int)} to avoid creating Strings.
+	 * 
+	 * @return false if the end of the file is reached.
+	 * @throws IOException
+	 *             error reading the record.
+	 */
+	public boolean nextRecord() throws IOException {
+		currentFields = readLine();
+		return currentFields != null;
+	}
+
+	/**
+	 * @return number of fields of the current record.
+	 */
+	public int getNbFields() {
+		return currentFields.length;
+	}
+
+	/**
+	 * Get a field of the current record.<br/>
+	 * The characters returned can be a view over the buffer of the reader : they are only valid until the
+	 * next call to {@link #getField(int)} or {@link #nextRecord()}, call toString() to keep them.
+	 * 
+	 * @param fieldNumber
+	 *            number of the field.
+	 * @return the characters of the field.
+	 */
+	public CharSequence getField(int fieldNumber) {
+		return currentFields[fieldNumber];
+	}
 }
@@ -0,0 +1,84 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+/**
+ * Reusable view over a range of a buffer of characters, used to expose the fields of a reader without copy.<br/>
+ * <br/>
+ * <i><u>French :</i> Vue réutilisable sur une partie d'un buffer de caractères, utilisée pour exposer
+ * les champs d'un reader sans copie.
+ *
+ * @author ybonnel
+ */
+final class BufferSequence implements CharSequence {
+
+    /**
+     * The buffer.
+     */
+    private char[] buffer;
+
+    /**
+     * Start of the view in the buffer.
+     */
+    private int offset;
+
+    /**
+     * Length of the view.
+     */
+    private int length;
+
+    /**
+     * Point the view to a new range.
+     *
+     * @param newBuffer the buffer.
+     * @param newOffset start of the range.
+     * @param newLength length of the range.
+     * @return this view.
+     */
+    BufferSequence wrap(char[] newBuffer, int newOffset, int newLength) {
+        this.buffer = newBuffer;
+        this.offset = newOffset;
+        this.length = newLength;
+        return this;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index : " + index + ", length : " + length);
+        }
+        return buffer[offset + index];
+    }
+
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Start : " + start + ", end : " + end + ", length : " + length);
+        }
+        return new String(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        if (length == 0) {
+            return "";
+        }
+        return new String(buffer, offset, length);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+/**
+ * Search of the special bytes of a CSV File in a buffer, used by {@link NativeByteCsvReader}.<br/>
+ * The scalar implementation reads one byte at a time, an implementation based on the Vector API compares
+ * many bytes at once when it is available ({@link ByteScanners}).<br/><br/>
+ * <i><u>French :</i> Recherche des octets spéciaux d'un fichier CSV dans un buffer, utilisée par
+ * {@link NativeByteCsvReader}. L'implémentation scalaire lit un octet à la fois, une implémentation basée sur
+ * l'API Vector compare plusieurs octets à la fois lorsqu'elle est disponible.
+ *
+ * @author ybonnel
+ */
+interface ByteScanner {
+
+    /**
+     * Find the first byte ending an unquoted field : the separator, a line feed or a carriage return.
+     *
+     * @param bytes     the buffer.
+     * @param from      start of the search.
+     * @param to        end of the search (exclusive).
+     * @param separator the separator.
+     * @return index of the first byte ending the field, or <code>to</code> if there isn't any.
+     */
+    int indexOfEndOfField(byte[] bytes, int from, int to, byte separator);
+
+    /**
+     * Find the first quote.
+     *
+     * @param bytes the buffer.
+     * @param from  start of the search.
+     * @param to    end of the search (exclusive).
+     * @return index of the first quote, or <code>to</code> if there isn't any.
+     */
+    int indexOfQuote(byte[] bytes, int from, int to);
+}
@@ -0,0 +1,85 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Choice of the scanner of special bytes.<br/>
+ * The scanner based on the Vector API (<code>jdk.incubator.vector</code>) is used when the system property
+ * <code>csvengine.vector</code> is <code>true</code> : it is only in the jars built with the profile
+ * <code>vector</code>, and only works if the JVM is started with <code>--add-modules jdk.incubator.vector</code>,
+ * the scalar scanner is used otherwise. Its gain depends on the processor and on the length of the fields,
+ * so measure it with the benchmarks before enabling it.<br/><br/>
+ * <i><u>French :</i> Choix de la recherche des octets spéciaux. La recherche basée sur l'API Vector est utilisée
+ * quand la propriété système <code>csvengine.vector</code> vaut <code>true</code> : elle n'est présente que dans
+ * les jars construits avec le profil <code>vector</code>, et ne fonctionne que si la JVM est lancée avec
+ * <code>--add-modules jdk.incubator.vector</code>, la recherche scalaire est utilisée sinon.
+ *
+ * @author ybonnel
+ */
+final class ByteScanners {
+
+    /**
+     * Name of the system property used to enable the Vector API.
+     */
+    static final String VECTOR_PROPERTY = "csvengine.vector";
+
+    /**
+     * Name of the scanner based on the Vector API.
+     */
+    private static final String VECTOR_SCANNER = "fr.ybonnel.csvengine.factory.VectorByteScanner";
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ByteScanners.class.getSimpleName());
+
+    /**
+     * The scalar scanner.
+     */
+    static final ByteScanner SCALAR = new ScalarByteScanner();
+
+    /**
+     * The scanner used by default.
+     */
+    static final ByteScanner DEFAULT = Boolean.getBoolean(VECTOR_PROPERTY) ? vectorOrScalar() : SCALAR;
+
+    /**
+     * Private constructor.
+     */
+    private ByteScanners() {
+    }
+
+    /**
+     * @return the scanner based on the Vector API, or the scalar scanner if it isn't available.
+     */
+    static ByteScanner vectorOrScalar() {
+        try {
+            ByteScanner scanner = (ByteScanner) Class.forName(VECTOR_SCANNER).getDeclaredConstructor().newInstance();
+            // Check the scanner once, the classes of the module are only linked at the first use.
+            scanner.indexOfEndOfField(new byte[1], 0, 1, (byte) ',');
+            return scanner;
+        } catch (ClassNotFoundException exception) {
+            return SCALAR;
+        } catch (Exception | LinkageError exception) {
+            LOGGER.log(Level.FINE, "Vector API unavailable, the scalar scanner is used", exception);
+            return SCALAR;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reusable view over a range of a buffer of ASCII bytes, used to expose the fields of a byte reader
+ * without decoding them.<br/>
+ * <br/>
+ * <i><u>French :</i> Vue réutilisable sur une partie d'un buffer d'octets ASCII, utilisée pour exposer
+ * les champs d'un reader d'octets sans les décoder.
+ *
+ * @author ybonnel
+ */
+final class ByteSequence implements CharSequence {
+
+    /**
+     * The buffer.
+     */
+    private byte[] buffer;
+
+    /**
+     * Start of the view in the buffer.
+     */
+    private int offset;
+
+    /**
+     * Length of the view.
+     */
+    private int length;
+
+    /**
+     * Point the view to a new range.
+     *
+     * @param newBuffer the buffer.
+     * @param newOffset start of the range.
+     * @param newLength length of the range, all the bytes of the range must be ASCII.
+     * @return this view.
+     */
+    ByteSequence wrap(byte[] newBuffer, int newOffset, int newLength) {
+        this.buffer = newBuffer;
+        this.offset = newOffset;
+        this.length = newLength;
+        return this;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index : " + index + ", length : " + length);
+        }
+        return (char) buffer[offset + index];
+    }
+
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Start : " + start + ", end : " + end + ", length : " + length);
+        }
+        return new String(buffer, offset + start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        if (length == 0) {
+            return "";
+        }
+        return new String(buffer, offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -16,8 +16,12 @@
  */
 package fr.ybonnel.csvengine.factory;
 
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.Charset;
 
 /**
  * Factory which provide {@link AbstractCsvReader} and {@link AbstractCsvWriter}.<br/>
@@ -54,4 +58,20 @@ public interface CsvManagerFactory {
      */
 	AbstractCsvReader createReaderCsv(Reader reader, char separator);
 
+    /**
+     * CsvReader creation on a stream of bytes.<br/>
+     * By default the stream is decoded by an InputStreamReader.
+     *
+     * @param inputStream
+     *            stream which represent the CSV File.
+     * @param charset
+     *            charset of the CSV File.
+     * @param separator
+     *            separator of fields.
+     * @return the CsvReader.
+     */
+	default AbstractCsvReader createReaderCsv(InputStream inputStream, Charset charset, char separator) {
+		return createReaderCsv(new BufferedReader(new InputStreamReader(inputStream, charset)), separator);
+	}
+
 }
@@ -16,12 +16,17 @@
  */
 package fr.ybonnel.csvengine.factory;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.Charset;
 
 /**
- * Default factory. Provied implementations based on opencsv.<br/><br/>
- * <i><u>French :</i> Factory par défaut. Fournit des implémentations à base d'opencsv.
+ * Default factory. Provied the native reader {@link NativeCsvReader} (or {@link NativeByteCsvReader} for a stream
+ * in an ASCII compatible charset) and a writer based on opencsv.<br/><br/>
+ * <i><u>French :</i> Factory par défaut. Fournit le reader natif {@link NativeCsvReader}
+ * et un writer à base d'opencsv.
  * 
  * @author ybonnel
  * 
@@ -35,10 +40,29 @@ public class DefaultCsvManagerFactory implements CsvManagerFactory {
 	 *            reader which represent the CSV File.
 	 * @param separator
 	 *            separator of fields.
-	 * @return CsvReader based on OpenCsv {@link OpenCsvReader}.
+	 * @return the native CsvReader {@link NativeCsvReader}.
 	 */
 	public AbstractCsvReader createReaderCsv(Reader reader, char separator) {
-		return new OpenCsvReader(reader, separator);
+		return new NativeCsvReader(reader, separator);
+	}
+
+	/**
+     * CsvReader creation on a stream of bytes.
+	 * 
+	 * @param inputStream
+	 *            stream which represent the CSV File.
+	 * @param charset
+	 *            charset of the CSV File.
+	 * @param separator
+	 *            separator of fields.
+	 * @return the byte CsvReader {@link NativeByteCsvReader} if the charset is ASCII compatible,
+	 *         the native CsvReader {@link NativeCsvReader} else.
+	 */
+	public AbstractCsvReader createReaderCsv(InputStream inputStream, Charset charset, char separator) {
+		if (separator < 0x80 && NativeByteCsvReader.isAsciiCompatible(charset)) {
+			return new NativeByteCsvReader(inputStream, charset, separator);
+		}
+		return new NativeCsvReader(new InputStreamReader(inputStream, charset), separator);
 	}
 
 	/**
@@ -0,0 +1,146 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Stream of the bytes of a local file mapped in memory, without decoding : used with
+ * {@link NativeByteCsvReader}, the records are tokenized on the bytes copied from the mapping.<br/>
+ * The file is mapped by sequential windows, so files bigger than 2 GB can be read.
+ * The mappings are released by the garbage collector, after {@link #close()}.<br/><br/>
+ * <i><u>French :</i> Flux des octets d'un fichier local projeté en mémoire, sans décodage : utilisé avec
+ * {@link NativeByteCsvReader}, les enregistrements sont découpés sur les octets copiés depuis la projection.<br/>
+ * Le fichier est projeté par fenêtres successives, les fichiers de plus de 2 Go peuvent donc être lus.
+ *
+ * @author ybonnel
+ */
+public class MappedFileInputStream extends InputStream {
+
+    /**
+     * The file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Size of the file.
+     */
+    private final long size;
+
+    /**
+     * Size of the windows.
+     */
+    private final int windowSize;
+
+    /**
+     * Current window, null before the first read.
+     */
+    private MappedByteBuffer window;
+
+    /**
+     * Position in the file of the end of the current window.
+     */
+    private long windowEnd;
+
+    /**
+     * Constructor.
+     *
+     * @param path the file.
+     * @throws IOException error opening the file.
+     */
+    public MappedFileInputStream(Path path) throws IOException {
+        this(path, MappedFileReader.DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path       the file.
+     * @param windowSize size of the windows mapped.
+     * @throws IOException error opening the file.
+     */
+    public MappedFileInputStream(Path path, int windowSize) throws IOException {
+        super();
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("The size of the windows must be positive");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!nextWindow()) {
+            return -1;
+        }
+        return window.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!nextWindow()) {
+            return -1;
+        }
+        int nbRead = Math.min(length, window.remaining());
+        window.get(bytes, offset, nbRead);
+        return nbRead;
+    }
+
+    @Override
+    public int available() {
+        return window == null ? 0 : window.remaining();
+    }
+
+    /**
+     * Map the next window if the current one is read.
+     *
+     * @return false at the end of the file.
+     * @throws IOException error mapping the file.
+     */
+    private boolean nextWindow() throws IOException {
+        if (window != null && window.hasRemaining()) {
+            return true;
+        }
+        if (windowEnd >= size) {
+            return false;
+        }
+        long start = windowEnd;
+        windowEnd = Math.min(size, start + windowSize);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, windowEnd - start);
+        return true;
+    }
+
+    /**
+     * Close the file.
+     *
+     * @throws IOException input/output error.
+     */
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reader of a local file mapped in memory : the bytes are decoded from the mapping directly into the buffer
+ * of the caller, without the copies of an InputStreamReader and a BufferedReader.<br/>
+ * The file is mapped by sequential windows, so files bigger than 2 GB can be read. A character cut
+ * by the end of a window is decoded from the start of the next window.
+ * The mappings are released by the garbage collector, after {@link #close()}.<br/><br/>
+ * <i><u>French :</i> Reader d'un fichier local projeté en mémoire : les octets sont décodés depuis la projection
+ * directement dans le buffer de l'appelant, sans les copies d'un InputStreamReader et d'un BufferedReader.<br/>
+ * Le fichier est projeté par fenêtres successives, les fichiers de plus de 2 Go peuvent donc être lus.
+ * Un caractère coupé par la fin d'une fenêtre est décodé depuis le début de la fenêtre suivante.
+ *
+ * @author ybonnel
+ */
+public class MappedFileReader extends Reader {
+
+    /**
+     * Default size of the windows.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 256 * 1024 * 1024;
+
+    /**
+     * Minimum size of the windows : a surrogate pair takes 4 bytes in UTF-8, when the encoder announces 3 bytes
+     * per character.
+     */
+    public static final int MIN_WINDOW_SIZE = 4;
+
+    /**
+     * The file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Size of the file.
+     */
+    private final long size;
+
+    /**
+     * Size of the windows.
+     */
+    private final int windowSize;
+
+    /**
+     * Decoder of the charset.
+     */
+    private final CharsetDecoder decoder;
+
+    /**
+     * Current window, null before the first read.
+     */
+    private MappedByteBuffer window;
+
+    /**
+     * Position in the file of the start of the current window.
+     */
+    private long windowStart;
+
+    /**
+     * Low surrogate decoded but not yet returned, -1 if none.
+     */
+    private int pendingChar = -1;
+
+    /**
+     * True when the bytes of the file are all decoded, and the decoder must be flushed.
+     */
+    private boolean flushing;
+
+    /**
+     * True when the end of the file is reached.
+     */
+    private boolean finished;
+
+    /**
+     * Constructor.
+     *
+     * @param path    the file.
+     * @param charset charset of the file.
+     * @throws IOException error opening the file.
+     */
+    public MappedFileReader(Path path, Charset charset) throws IOException {
+        this(path, charset, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path       the file.
+     * @param charset    charset of the file.
+     * @param windowSize size of the windows mapped, at least {@link #MIN_WINDOW_SIZE} and the biggest character
+     *                   of the charset.
+     * @throws IOException error opening the file.
+     */
+    public MappedFileReader(Path path, Charset charset, int windowSize) throws IOException {
+        super();
+        if (windowSize < MIN_WINDOW_SIZE || windowSize < charset.newEncoder().maxBytesPerChar()) {
+            throw new IllegalArgumentException("The windows are too small for the charset " + charset);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.finished = size == 0;
+    }
+
+    @Override
+    public int read(char[] chars, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        CharBuffer out = CharBuffer.wrap(chars, offset, length);
+        if (pendingChar >= 0) {
+            out.put((char) pendingChar);
+            pendingChar = -1;
+        }
+        while (out.position() == offset && !finished) {
+            if (flushing) {
+                finished = decoder.flush(out).isUnderflow();
+            } else {
+                if (window == null) {
+                    map(0, windowSize);
+                }
+                boolean lastWindow = windowStart + window.limit() == size;
+                CoderResult result = decoder.decode(window, out, lastWindow);
+                if (result.isOverflow() && out.position() == offset) {
+                    decodeSurrogatePair(out, lastWindow);
+                } else if (result.isUnderflow()) {
+                    if (lastWindow) {
+                        flushing = true;
+                    } else if (window.position() == 0) {
+                        // No character fits in the window : it is mapped again, bigger, instead of looping.
+                        map(windowStart, 2L * window.limit());
+                    } else {
+                        map(windowStart + window.position(), windowSize);
+                    }
+                }
+            }
+        }
+        int nbRead = out.position() - offset;
+        return nbRead == 0 && finished ? -1 : nbRead;
+    }
+
+    /**
+     * Decode a surrogate pair when there is room for only one character.
+     *
+     * @param out        the buffer of the caller.
+     * @param lastWindow true if the window is the last one of the file.
+     */
+    private void decodeSurrogatePair(CharBuffer out, boolean lastWindow) {
+        CharBuffer pair = CharBuffer.allocate(2);
+        decoder.decode(window, pair, lastWindow);
+        pair.flip();
+        out.put(pair.get());
+        if (pair.hasRemaining()) {
+            pendingChar = pair.get();
+        }
+    }
+
+    /**
+     * Map the window starting at a position.
+     *
+     * @param start  position of the window in the file.
+     * @param length size of the window, reduced at the end of the file.
+     * @throws IOException error mapping the file.
+     */
+    private void map(long start, long length) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                Math.min(Math.min(length, Integer.MAX_VALUE), size - start));
+    }
+
+    /**
+     * Close the file.
+     *
+     * @throws IOException input/output error.
+     */
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
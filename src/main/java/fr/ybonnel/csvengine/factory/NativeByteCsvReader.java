@@ -0,0 +1,551 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CsvReader following the RFC 4180 which tokenizes the raw bytes of the file, without any CharsetDecoder.<br/>
+ * It needs an ASCII compatible charset ({@link #isAsciiCompatible(Charset)}) : the separators, the quotes
+ * and the line breaks are then single bytes which can't be part of an other character, so the records are
+ * found on the bytes. Only the fields asked are decoded : with {@link #getField(int)}, an ASCII field is a view
+ * over the buffer, the other fields are decoded with the charset.<br/>
+ * The special bytes are found by a {@link ByteScanner}, which can be vectorized ({@link ByteScanners}).<br/>
+ * The rules are the ones of {@link NativeCsvReader}.<br/><br/>
+ * <i><u>French :</i> Reader de CSV respectant la RFC 4180 qui découpe directement les octets du fichier,
+ * sans CharsetDecoder.<br/>
+ * Il nécessite un charset compatible ASCII : les séparateurs, les guillemets et les sauts de ligne sont alors
+ * des octets seuls qui ne peuvent pas faire partie d'un autre caractère, les enregistrements sont donc trouvés
+ * sur les octets. Seuls les champs demandés sont décodés : avec {@link #getField(int)}, un champ ASCII est une vue
+ * sur le buffer, les autres champs sont décodés avec le charset.
+ *
+ * @author ybonnel
+ */
+public class NativeByteCsvReader extends AbstractCsvReader {
+
+    /**
+     * Default size of the buffer.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 16384;
+
+    /**
+     * Default number of fields by record (grows if necessary).
+     */
+    private static final int DEFAULT_NB_FIELDS = 16;
+
+    /**
+     * Quote byte.
+     */
+    private static final byte QUOTE = '"';
+
+    /**
+     * Line feed byte.
+     */
+    private static final byte LINE_FEED = '\n';
+
+    /**
+     * Carriage return byte.
+     */
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    /**
+     * Stream which represent the CSV File.
+     */
+    private final InputStream inputStream;
+
+    /**
+     * Charset of the file.
+     */
+    private final Charset charset;
+
+    /**
+     * Separator of fields.
+     */
+    private final byte separator;
+
+    /**
+     * Buffer of bytes.
+     */
+    private byte[] buffer;
+
+    /**
+     * Position in the buffer of the record currently read.
+     */
+    private int recordStart;
+
+    /**
+     * End of the valid bytes in the buffer.
+     */
+    private int limit;
+
+    /**
+     * True when the end of the stream has been reached.
+     */
+    private boolean endOfStream;
+
+    /**
+     * Position in the buffer of the last record read, offsets of fields are relative to it.
+     */
+    private int fieldsBase;
+
+    /**
+     * Start offsets of the fields of the last record read.
+     */
+    private int[] fieldsStart = new int[DEFAULT_NB_FIELDS];
+
+    /**
+     * End offsets (exclusive) of the fields of the last record read.
+     */
+    private int[] fieldsEnd = new int[DEFAULT_NB_FIELDS];
+
+    /**
+     * Number of fields of the last record read.
+     */
+    private int nbFields;
+
+    /**
+     * View over the buffer returned by {@link #getField(int)} for the ASCII fields.
+     */
+    private final ByteSequence fieldView = new ByteSequence();
+
+    /**
+     * Columns selected by {@link #selectColumns(boolean[])}, null if all the columns are selected.
+     */
+    private boolean[] selectedColumns;
+
+    /**
+     * Scanner of the special bytes.
+     */
+    private final ByteScanner scanner;
+
+    /**
+     * Constructor.
+     *
+     * @param inputStream
+     *            stream which represent the CSV File.
+     * @param charset
+     *            charset of the file, must be ASCII compatible.
+     * @param separator
+     *            separator of fields, must be an ASCII character.
+     */
+    public NativeByteCsvReader(InputStream inputStream, Charset charset, char separator) {
+        this(inputStream, charset, separator, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param inputStream
+     *            stream which represent the CSV File.
+     * @param charset
+     *            charset of the file, must be ASCII compatible.
+     * @param separator
+     *            separator of fields, must be an ASCII character.
+     * @param bufferSize
+     *            initial size of the buffer.
+     */
+    public NativeByteCsvReader(InputStream inputStream, Charset charset, char separator, int bufferSize) {
+        this(inputStream, charset, separator, bufferSize, ByteScanners.DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param inputStream
+     *            stream which represent the CSV File.
+     * @param charset
+     *            charset of the file, must be ASCII compatible.
+     * @param separator
+     *            separator of fields, must be an ASCII character.
+     * @param bufferSize
+     *            initial size of the buffer.
+     * @param scanner
+     *            scanner of the special bytes.
+     */
+    NativeByteCsvReader(InputStream inputStream, Charset charset, char separator, int bufferSize,
+                        ByteScanner scanner) {
+        super();
+        if (separator == QUOTE || separator == LINE_FEED || separator == CARRIAGE_RETURN || separator >= 0x80) {
+            throw new IllegalArgumentException("The separator must be an ASCII character, except quote or line break");
+        }
+        if (!isAsciiCompatible(charset)) {
+            throw new IllegalArgumentException("The charset " + charset + " isn't ASCII compatible");
+        }
+        this.inputStream = inputStream;
+        this.charset = charset;
+        this.separator = (byte) separator;
+        this.buffer = new byte[Math.max(bufferSize, 1)];
+        this.scanner = scanner;
+    }
+
+    /**
+     * Used to know if the records of a file in a charset can be found on its bytes.
+     *
+     * @param charset the charset.
+     * @return true if the ASCII characters are single bytes which can't be part of an other character
+     *         (UTF-8, ISO-8859-*, windows-125*...).
+     */
+    public static boolean isAsciiCompatible(Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)
+                || StandardCharsets.ISO_8859_1.equals(charset)) {
+            return true;
+        }
+        if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1) {
+            return false;
+        }
+        String ascii = "\t\n\r ,;|\"az09";
+        byte[] bytes = ascii.getBytes(charset);
+        if (bytes.length != ascii.length()) {
+            return false;
+        }
+        for (int index = 0; index < bytes.length; index++) {
+            if (bytes[index] != ascii.charAt(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String[] readLine() throws IOException {
+        if (!nextRecord()) {
+            return null;
+        }
+        String[] fields = new String[nbFields];
+        for (int fieldNumber = 0; fieldNumber < nbFields; fieldNumber++) {
+            fields[fieldNumber] = getField(fieldNumber).toString();
+        }
+        return fields;
+    }
+
+    /**
+     * Select the columns to parse : the other columns are only skipped, their quotes are kept
+     * and their value is the raw characters of the file.
+     *
+     * @param selectedColumns for each column, true if the column is used.
+     */
+    @Override
+    public void selectColumns(boolean[] selectedColumns) {
+        this.selectedColumns = selectedColumns.clone();
+    }
+
+    /**
+     * @return true : the columns not selected are skipped, their value is raw.
+     */
+    @Override
+    public boolean skipsUnselectedColumns() {
+        return true;
+    }
+
+    /**
+     * Get a field of the last record read : an ASCII field is a view over the buffer, without copy,
+     * the other fields are decoded in a String.<br/>
+     * The view is reused : it is only valid until the next call to this method or {@link #nextRecord()}.
+     *
+     * @param fieldNumber number of the field.
+     * @return the characters of the field.
+     */
+    @Override
+    public CharSequence getField(int fieldNumber) {
+        int start = fieldsBase + fieldsStart[fieldNumber];
+        int length = fieldsEnd[fieldNumber] - fieldsStart[fieldNumber];
+        if (isAscii(start, start + length)) {
+            return fieldView.wrap(buffer, start, length);
+        }
+        return new String(buffer, start, length, charset);
+    }
+
+    /**
+     * @param start start of a range of the buffer.
+     * @param end   end of the range (exclusive).
+     * @return true if all the bytes of the range are ASCII.
+     */
+    private boolean isAscii(int start, int end) {
+        int bits = 0;
+        for (int index = start; index < end; index++) {
+            bits |= buffer[index];
+        }
+        return bits >= 0;
+    }
+
+    /**
+     * @return number of fields of the last record read.
+     */
+    @Override
+    public int getNbFields() {
+        return nbFields;
+    }
+
+    /**
+     * Read the next record, the fields are then available by {@link #getField(int)}.
+     *
+     * @return false if the end of the file is reached.
+     * @throws IOException error reading the stream.
+     */
+    @Override
+    public boolean nextRecord() throws IOException {
+        nbFields = 0;
+        if (!skipEmptyLines()) {
+            return false;
+        }
+        int offset = 0;
+        while (true) {
+            int fieldStart;
+            int fieldEnd;
+            if (!isSelected(nbFields)) {
+                fieldStart = offset;
+                offset = skipField(offset);
+                fieldEnd = offset;
+            } else if (isAvailable(offset) && buffer[recordStart + offset] == QUOTE) {
+                offset++;
+                fieldStart = offset;
+                int write = offset;
+                boolean inQuotes = true;
+                while (isAvailable(offset)) {
+                    if (inQuotes) {
+                        int runStart = recordStart + offset;
+                        int runLength = scanner.indexOfQuote(buffer, runStart, limit) - runStart;
+                        if (runLength > 0) {
+                            if (write != offset) {
+                                System.arraycopy(buffer, runStart, buffer, recordStart + write, runLength);
+                            }
+                            write += runLength;
+                            offset += runLength;
+                            continue;
+                        }
+                    }
+                    byte oneByte = buffer[recordStart + offset];
+                    if (inQuotes) {
+                        if (isAvailable(offset + 1) && buffer[recordStart + offset + 1] == QUOTE) {
+                            buffer[recordStart + write++] = QUOTE;
+                            offset += 2;
+                        } else {
+                            inQuotes = false;
+                            offset++;
+                        }
+                    } else if (isEndOfField(oneByte)) {
+                        break;
+                    } else {
+                        buffer[recordStart + write++] = oneByte;
+                        offset++;
+                    }
+                }
+                fieldEnd = write;
+            } else {
+                fieldStart = offset;
+                offset = findEndOfField(offset);
+                fieldEnd = offset;
+            }
+            addField(fieldStart, fieldEnd);
+            if (!isAvailable(offset)) {
+                return endRecord(offset);
+            }
+            byte oneByte = buffer[recordStart + offset++];
+            if (oneByte != separator) {
+                if (oneByte == CARRIAGE_RETURN && isAvailable(offset) && buffer[recordStart + offset] == LINE_FEED) {
+                    offset++;
+                }
+                return endRecord(offset);
+            }
+        }
+    }
+
+    /**
+     * Find the end of an unquoted field.
+     *
+     * @param start start offset of the field.
+     * @return offset of the separator or line break ending the field, or of the end of the file.
+     * @throws IOException error reading the stream.
+     */
+    private int findEndOfField(int start) throws IOException {
+        int offset = start;
+        while (isAvailable(offset)) {
+            int index = scanner.indexOfEndOfField(buffer, recordStart + offset, limit, separator);
+            offset = index - recordStart;
+            if (index < limit) {
+                break;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * @param column position of a column.
+     * @return true if the column is selected.
+     */
+    private boolean isSelected(int column) {
+        return selectedColumns == null || column < selectedColumns.length && selectedColumns[column];
+    }
+
+    /**
+     * Skip a field without unescaping it.
+     *
+     * @param start start offset of the field.
+     * @return end offset (exclusive) of the field.
+     * @throws IOException error reading the stream.
+     */
+    private int skipField(int start) throws IOException {
+        int offset = start;
+        boolean inQuotes = isAvailable(offset) && buffer[recordStart + offset] == QUOTE;
+        if (!inQuotes) {
+            return findEndOfField(offset);
+        }
+        offset++;
+        while (isAvailable(offset)) {
+            byte oneByte = buffer[recordStart + offset];
+            if (inQuotes && oneByte == QUOTE) {
+                if (isAvailable(offset + 1) && buffer[recordStart + offset + 1] == QUOTE) {
+                    offset++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (!inQuotes && isEndOfField(oneByte)) {
+                break;
+            }
+            offset++;
+        }
+        return offset;
+    }
+
+    /**
+     * Skip the empty lines before a record.
+     *
+     * @return false if the end of the file is reached.
+     * @throws IOException error reading the stream.
+     */
+    private boolean skipEmptyLines() throws IOException {
+        while (isAvailable(0)) {
+            byte oneByte = buffer[recordStart];
+            if (oneByte != LINE_FEED && oneByte != CARRIAGE_RETURN) {
+                return true;
+            }
+            recordStart++;
+        }
+        return false;
+    }
+
+    /**
+     * @param oneByte a byte.
+     * @return true if the byte ends a field.
+     */
+    private boolean isEndOfField(byte oneByte) {
+        return oneByte == separator || oneByte == LINE_FEED || oneByte == CARRIAGE_RETURN;
+    }
+
+    /**
+     * Add a field to the current record.
+     *
+     * @param start start offset of the field.
+     * @param end   end offset (exclusive) of the field.
+     */
+    private void addField(int start, int end) {
+        if (nbFields == fieldsStart.length) {
+            fieldsStart = grow(fieldsStart);
+            fieldsEnd = grow(fieldsEnd);
+        }
+        fieldsStart[nbFields] = start;
+        fieldsEnd[nbFields] = end;
+        nbFields++;
+    }
+
+    /**
+     * End the current record.
+     *
+     * @param length length of the record in the buffer (line break included).
+     * @return always true.
+     */
+    private boolean endRecord(int length) {
+        fieldsBase = recordStart;
+        recordStart += length;
+        return true;
+    }
+
+    /**
+     * Used to know if a byte of the current record is available, fill the buffer if necessary.
+     *
+     * @param offset offset of the byte from the start of the current record.
+     * @return false if the end of the file is reached.
+     * @throws IOException error reading the stream.
+     */
+    private boolean isAvailable(int offset) throws IOException {
+        while (recordStart + offset >= limit) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fill the buffer : the current record is moved at the start of the buffer,
+     * and the buffer grows if the record fill it.
+     *
+     * @return false if the end of the file is reached.
+     * @throws IOException error reading the stream.
+     */
+    private boolean fill() throws IOException {
+        if (endOfStream) {
+            return false;
+        }
+        int length = limit - recordStart;
+        if (recordStart > 0) {
+            System.arraycopy(buffer, recordStart, buffer, 0, length);
+            recordStart = 0;
+            limit = length;
+        }
+        if (limit == buffer.length) {
+            byte[] newBuffer = new byte[buffer.length * 2];
+            System.arraycopy(buffer, 0, newBuffer, 0, limit);
+            buffer = newBuffer;
+        }
+        int nbRead;
+        do {
+            nbRead = inputStream.read(buffer, limit, buffer.length - limit);
+        } while (nbRead == 0);
+        if (nbRead < 0) {
+            endOfStream = true;
+            return false;
+        }
+        limit += nbRead;
+        return true;
+    }
+
+    /**
+     * Double the size of an array.
+     *
+     * @param array the array.
+     * @return the new array.
+     */
+    private static int[] grow(int[] array) {
+        int[] newArray = new int[array.length * 2];
+        System.arraycopy(array, 0, newArray, 0, array.length);
+        return newArray;
+    }
+
+    /**
+     * Close the stream.
+     *
+     * @throws IOException
+     *             input/output error.
+     */
+    public void close() throws IOException {
+        inputStream.close();
+    }
+}
@@ -0,0 +1,443 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * CsvReader following the RFC 4180, without any dependency.<br/>
+ * The reader scans a reusable buffer of characters : a record is always kept contiguous in the buffer
+ * (the buffer grows if a record is bigger than it), quoted fields are unescaped in place and the fields
+ * are only materialized when they are asked : with {@link #getField(int)}, a field is a view over the buffer,
+ * so the adapters can parse it without any String.<br/>
+ * Rules :
+ * <ul>
+ * <li>Fields are separated by the separator, records by "\n", "\r\n" or "\r".</li>
+ * <li>A field can be enclosed by double quotes, it can then contain separators and line breaks.</li>
+ * <li>A double quote inside a quoted field is escaped by another double quote.</li>
+ * <li>Empty lines are ignored.</li>
+ * </ul><br/>
+ * <i><u>French :</i> Reader de CSV respectant la RFC 4180, sans aucune dépendance.<br/>
+ * Le reader parcourt un buffer de caractères réutilisé : un enregistrement est toujours contigu dans le buffer
+ * (le buffer grandit si un enregistrement est plus gros que lui), les champs entre guillemets sont
+ * déséchappés sur place et les champs ne sont matérialisés que lorsqu'on les demande : avec
+ * {@link #getField(int)}, un champ est une vue sur le buffer, les adapteurs peuvent donc le lire sans String.
+ *
+ * @author ybonnel
+ */
+public class NativeCsvReader extends AbstractCsvReader {
+
+    /**
+     * Default size of the buffer.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Default number of fields by record (grows if necessary).
+     */
+    private static final int DEFAULT_NB_FIELDS = 16;
+
+    /**
+     * Quote character.
+     */
+    private static final char QUOTE = '"';
+
+    /**
+     * Reader which represent the CSV File.
+     */
+    private final Reader reader;
+
+    /**
+     * Separator of fields.
+     */
+    private final char separator;
+
+    /**
+     * Buffer of characters.
+     */
+    private char[] buffer;
+
+    /**
+     * Position in the buffer of the record currently read.
+     */
+    private int recordStart;
+
+    /**
+     * End of the valid characters in the buffer.
+     */
+    private int limit;
+
+    /**
+     * True when the end of the reader has been reached.
+     */
+    private boolean endOfStream;
+
+    /**
+     * Position in the buffer of the last record read, offsets of fields are relative to it.
+     */
+    private int fieldsBase;
+
+    /**
+     * Start offsets of the fields of the last record read.
+     */
+    private int[] fieldsStart = new int[DEFAULT_NB_FIELDS];
+
+    /**
+     * End offsets (exclusive) of the fields of the last record read.
+     */
+    private int[] fieldsEnd = new int[DEFAULT_NB_FIELDS];
+
+    /**
+     * Number of fields of the last record read.
+     */
+    private int nbFields;
+
+    /**
+     * View over the buffer returned by {@link #getField(int)}.
+     */
+    private final BufferSequence fieldView = new BufferSequence();
+
+    /**
+     * Columns selected by {@link #selectColumns(boolean[])}, null if all the columns are selected.
+     */
+    private boolean[] selectedColumns;
+
+    /**
+     * Constructor.
+     *
+     * @param reader
+     *            reader which represent the CSV File.
+     * @param separator
+     *            separator of fields.
+     */
+    public NativeCsvReader(Reader reader, char separator) {
+        this(reader, separator, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param reader
+     *            reader which represent the CSV File.
+     * @param separator
+     *            separator of fields.
+     * @param bufferSize
+     *            initial size of the buffer.
+     */
+    public NativeCsvReader(Reader reader, char separator, int bufferSize) {
+        super();
+        if (separator == QUOTE || separator == '\n' || separator == '\r') {
+            throw new IllegalArgumentException("The separator can't be a quote or a line break");
+        }
+        this.reader = reader;
+        this.separator = separator;
+        this.buffer = new char[Math.max(bufferSize, 1)];
+    }
+
+    @Override
+    public String[] readLine() throws IOException {
+        if (!nextRecord()) {
+            return null;
+        }
+        String[] fields = new String[nbFields];
+        for (int fieldNumber = 0; fieldNumber < nbFields; fieldNumber++) {
+            fields[fieldNumber] = getFieldAsString(fieldNumber);
+        }
+        return fields;
+    }
+
+    /**
+     * Select the columns to parse : the other columns are only skipped, their quotes are kept
+     * and their value is the raw characters of the file.
+     *
+     * @param selectedColumns for each column, true if the column is used.
+     */
+    @Override
+    public void selectColumns(boolean[] selectedColumns) {
+        this.selectedColumns = selectedColumns.clone();
+    }
+
+    /**
+     * @return true : the columns not selected are skipped, their value is raw.
+     */
+    @Override
+    public boolean skipsUnselectedColumns() {
+        return true;
+    }
+
+    /**
+     * Get a field of the last record read as a view over the buffer, without copy.<br/>
+     * The view is reused : it is only valid until the next call to this method or {@link #nextRecord()}.
+     *
+     * @param fieldNumber number of the field.
+     * @return the characters of the field.
+     */
+    @Override
+    public CharSequence getField(int fieldNumber) {
+        return fieldView.wrap(buffer, fieldsBase + fieldsStart[fieldNumber],
+                fieldsEnd[fieldNumber] - fieldsStart[fieldNumber]);
+    }
+
+    /**
+     * Get a field of the last record read as a String.
+     *
+     * @param fieldNumber number of the field.
+     * @return the value of the field.
+     */
+    private String getFieldAsString(int fieldNumber) {
+        int length = fieldsEnd[fieldNumber] - fieldsStart[fieldNumber];
+        if (length == 0) {
+            return "";
+        }
+        return new String(buffer, fieldsBase + fieldsStart[fieldNumber], length);
+    }
+
+    /**
+     * @return number of fields of the last record read.
+     */
+    @Override
+    public int getNbFields() {
+        return nbFields;
+    }
+
+    /**
+     * Read the next record, the fields are then available by {@link #getField(int)}.
+     *
+     * @return false if the end of the file is reached.
+     * @throws IOException error reading the reader.
+     */
+    @Override
+    public boolean nextRecord() throws IOException {
+        nbFields = 0;
+        if (!skipEmptyLines()) {
+            return false;
+        }
+        int offset = 0;
+        while (true) {
+            int fieldStart;
+            int fieldEnd;
+            if (!isSelected(nbFields)) {
+                fieldStart = offset;
+                offset = skipField(offset);
+                fieldEnd = offset;
+            } else if (isAvailable(offset) && buffer[recordStart + offset] == QUOTE) {
+                offset++;
+                fieldStart = offset;
+                int write = offset;
+                boolean inQuotes = true;
+                while (isAvailable(offset)) {
+                    char car = buffer[recordStart + offset];
+                    if (inQuotes && car == QUOTE) {
+                        if (isAvailable(offset + 1) && buffer[recordStart + offset + 1] == QUOTE) {
+                            buffer[recordStart + write++] = QUOTE;
+                            offset += 2;
+                        } else {
+                            inQuotes = false;
+                            offset++;
+                        }
+                    } else if (!inQuotes && isEndOfField(car)) {
+                        break;
+                    } else {
+                        buffer[recordStart + write++] = car;
+                        offset++;
+                    }
+                }
+                fieldEnd = write;
+            } else {
+                fieldStart = offset;
+                while (isAvailable(offset) && !isEndOfField(buffer[recordStart + offset])) {
+                    offset++;
+                }
+                fieldEnd = offset;
+            }
+            addField(fieldStart, fieldEnd);
+            if (!isAvailable(offset)) {
+                return endRecord(offset);
+            }
+            char car = buffer[recordStart + offset++];
+            if (car != separator) {
+                if (car == '\r' && isAvailable(offset) && buffer[recordStart + offset] == '\n') {
+                    offset++;
+                }
+                return endRecord(offset);
+            }
+        }
+    }
+
+    /**
+     * @param column position of a column.
+     * @return true if the column is selected.
+     */
+    private boolean isSelected(int column) {
+        return selectedColumns == null || column < selectedColumns.length && selectedColumns[column];
+    }
+
+    /**
+     * Skip a field without unescaping it.
+     *
+     * @param start start offset of the field.
+     * @return end offset (exclusive) of the field.
+     * @throws IOException error reading the reader.
+     */
+    private int skipField(int start) throws IOException {
+        int offset = start;
+        boolean inQuotes = isAvailable(offset) && buffer[recordStart + offset] == QUOTE;
+        if (inQuotes) {
+            offset++;
+        }
+        while (isAvailable(offset)) {
+            char car = buffer[recordStart + offset];
+            if (inQuotes && car == QUOTE) {
+                if (isAvailable(offset + 1) && buffer[recordStart + offset + 1] == QUOTE) {
+                    offset++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (!inQuotes && isEndOfField(car)) {
+                break;
+            }
+            offset++;
+        }
+        return offset;
+    }
+
+    /**
+     * Skip the empty lines before a record.
+     *
+     * @return false if the end of the file is reached.
+     * @throws IOException error reading the reader.
+     */
+    private boolean skipEmptyLines() throws IOException {
+        while (isAvailable(0)) {
+            char car = buffer[recordStart];
+            if (car != '\n' && car != '\r') {
+                return true;
+            }
+            recordStart++;
+        }
+        return false;
+    }
+
+    /**
+     * @param car a character.
+     * @return true if the character ends a field.
+     */
+    private boolean isEndOfField(char car) {
+        return car == separator || car == '\n' || car == '\r';
+    }
+
+    /**
+     * Add a field to the current record.
+     *
+     * @param start start offset of the field.
+     * @param end   end offset (exclusive) of the field.
+     */
+    private void addField(int start, int end) {
+        if (nbFields == fieldsStart.length) {
+            fieldsStart = grow(fieldsStart);
+            fieldsEnd = grow(fieldsEnd);
+        }
+        fieldsStart[nbFields] = start;
+        fieldsEnd[nbFields] = end;
+        nbFields++;
+    }
+
+    /**
+     * End the current record.
+     *
+     * @param length length of the record in the buffer (line break included).
+     * @return always true.
+     */
+    private boolean endRecord(int length) {
+        fieldsBase = recordStart;
+        recordStart += length;
+        return true;
+    }
+
+    /**
+     * Used to know if a character of the current record is available, fill the buffer if necessary.
+     *
+     * @param offset offset of the character from the start of the current record.
+     * @return false if the end of the file is reached.
+     * @throws IOException error reading the reader.
+     */
+    private boolean isAvailable(int offset) throws IOException {
+        while (recordStart + offset >= limit) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fill the buffer : the current record is moved at the start of the buffer,
+     * and the buffer grows if the record fill it.
+     *
+     * @return false if the end of the file is reached.
+     * @throws IOException error reading the reader.
+     */
+    private boolean fill() throws IOException {
+        if (endOfStream) {
+            return false;
+        }
+        int length = limit - recordStart;
+        if (recordStart > 0) {
+            System.arraycopy(buffer, recordStart, buffer, 0, length);
+            recordStart = 0;
+            limit = length;
+        }
+        if (limit == buffer.length) {
+            char[] newBuffer = new char[buffer.length * 2];
+            System.arraycopy(buffer, 0, newBuffer, 0, limit);
+            buffer = newBuffer;
+        }
+        int nbRead;
+        do {
+            nbRead = reader.read(buffer, limit, buffer.length - limit);
+        } while (nbRead == 0);
+        if (nbRead < 0) {
+            endOfStream = true;
+            return false;
+        }
+        limit += nbRead;
+        return true;
+    }
+
+    /**
+     * Double the size of an array.
+     *
+     * @param array the array.
+     * @return the new array.
+     */
+    private static int[] grow(int[] array) {
+        int[] newArray = new int[array.length * 2];
+        System.arraycopy(array, 0, newArray, 0, array.length);
+        return newArray;
+    }
+
+    /**
+     * Close the reader.
+     *
+     * @throws IOException
+     *             input/output error.
+     */
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+/**
+ * Scanner of the special bytes reading one byte at a time.<br/><br/>
+ * <i><u>French :</i> Recherche des octets spéciaux lisant un octet à la fois.
+ *
+ * @author ybonnel
+ */
+final class ScalarByteScanner implements ByteScanner {
+
+    public int indexOfEndOfField(byte[] bytes, int from, int to, byte separator) {
+        for (int index = from; index < to; index++) {
+            byte oneByte = bytes[index];
+            if (oneByte == separator || oneByte == '\n' || oneByte == '\r') {
+                return index;
+            }
+        }
+        return to;
+    }
+
+    public int indexOfQuote(byte[] bytes, int from, int to) {
+        for (int index = from; index < to; index++) {
+            if (bytes[index] == '"') {
+                return index;
+            }
+        }
+        return to;
+    }
+}
@@ -0,0 +1,696 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.generator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import fr.ybonnel.csvengine.CsvEngine;
+import fr.ybonnel.csvengine.adapter.AdapterCsv;
+import fr.ybonnel.csvengine.adapter.AdapterDate;
+import fr.ybonnel.csvengine.adapter.AdapterInstant;
+import fr.ybonnel.csvengine.adapter.AdapterLocalDate;
+import fr.ybonnel.csvengine.adapter.AdapterLocalDateTime;
+import fr.ybonnel.csvengine.adapter.AdapterMemo;
+import fr.ybonnel.csvengine.adapter.AdapterOffsetDateTime;
+import fr.ybonnel.csvengine.adapter.AdapterTime;
+import fr.ybonnel.csvengine.adapter.BooleanAdapterCsv;
+import fr.ybonnel.csvengine.adapter.DoubleAdapterCsv;
+import fr.ybonnel.csvengine.adapter.IntAdapterCsv;
+import fr.ybonnel.csvengine.adapter.LongAdapterCsv;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+
+/**
+ * Generator of synthetic CSV Files for a class managed by the engine.<br/>
+ * The columns, their order and the separator are the ones of the class, the values are generated according
+ * to the adapters (numbers, booleans, dates...), the other columns are texts of lower case letters.
+ * A column can have its own {@link ValueGenerator}, for example to respect its validators.<br/>
+ * The file is generated from a seed : two generations with the same seed and the same parameters give
+ * the same characters, so the benchmarks and the tests can use big files without storing them.<br/>
+ * The shape of the file is controlled by :
+ * <ul>
+ * <li>the quoting ratio : part of the values enclosed by quotes, a quoted text contains the separator
+ * and an escaped quote.</li>
+ * <li>the line break ratio : part of the generated texts containing a line break (they are always quoted).</li>
+ * <li>the null ratio : part of the values of the columns not mandatory which are empty.</li>
+ * <li>the error ratio : part of the lines in error, a line in error has a value which can't be parsed,
+ * or an empty mandatory column.</li>
+ * <li>the cardinality : number of distinct values of a column, unlimited by default.</li>
+ * </ul>
+ * Example : {@code new CsvGenerator<CsvObject>(engine, CsvObject.class, 42).setErrorRatio(0.01)
+ * .writeFile(path, charset, 4L * 1024 * 1024 * 1024);}<br/><br/>
+ * <i><u>French :</i> Générateur de fichiers CSV synthétiques pour une classe gérée par le moteur.<br/>
+ * Les colonnes, leur ordre et le séparateur sont ceux de la classe, les valeurs sont générées en fonction
+ * des adapteurs (nombres, booléens, dates...), les autres colonnes sont des textes en lettres minuscules.
+ * Une colonne peut avoir son propre {@link ValueGenerator}, par exemple pour respecter ses validateurs.<br/>
+ * Le fichier est généré à partir d'une graine : deux générations avec la même graine et les mêmes paramètres
+ * donnent les mêmes caractères, les benchmarks et les tests peuvent donc utiliser de gros fichiers sans
+ * les stocker.<br/>
+ * La forme du fichier est contrôlée par la proportion de valeurs entre guillemets, de textes avec un retour
+ * à la ligne, de valeurs vides, de lignes en erreur et par la cardinalité des colonnes.
+ *
+ * @param <T> class associated to the CSV File.
+ * @author ybonnel
+ */
+public class CsvGenerator<T> {
+
+    /**
+     * Value written in a column in error : it can't be parsed by the adapters of the engine.
+     */
+    private static final String ERROR_VALUE = "x:#error#";
+
+    /**
+     * Size of the chunks of characters written or read.
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * Number of minutes in a day.
+     */
+    private static final int MINUTES_BY_DAY = 24 * 60;
+
+    /**
+     * Upper bound of the generated dates : 2033-05-18, in seconds since the epoch.
+     */
+    private static final int MAX_EPOCH_SECOND = 2000000000;
+
+    /**
+     * Upper bound of the generated offsets, in hours.
+     */
+    private static final int MAX_OFFSET_HOURS = 12;
+
+    /**
+     * Minimum length of the generated texts.
+     */
+    private static final int MIN_TEXT_LENGTH = 3;
+
+    /**
+     * Maximum length of the generated texts.
+     */
+    private static final int MAX_TEXT_LENGTH = 12;
+
+    /**
+     * Multiplier used to derive the seeds of the values of a column with a cardinality.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Generator of the texts.
+     */
+    private static final ValueGenerator TEXT_GENERATOR = CsvGenerator::generateText;
+
+    /**
+     * Seed of the generation.
+     */
+    private final long seed;
+
+    /**
+     * Separator of the fields.
+     */
+    private final char separator;
+
+    /**
+     * True if the header is written.
+     */
+    private final boolean writeHeader;
+
+    /**
+     * Names of the columns, in the order of the file.
+     */
+    private final String[] columnNames;
+
+    /**
+     * For each column, true if the column is mandatory.
+     */
+    private final boolean[] mandatory;
+
+    /**
+     * For each column, true if the column contains texts.
+     */
+    private final boolean[] texts;
+
+    /**
+     * Generator of each column.
+     */
+    private final ValueGenerator[] generators;
+
+    /**
+     * Number of distinct values of each column, 0 if unlimited.
+     */
+    private final int[] cardinalities;
+
+    /**
+     * Columns which can be put in error.
+     */
+    private final int[] columnsForErrors;
+
+    /**
+     * Part of the values enclosed by quotes.
+     */
+    private double quotingRatio;
+
+    /**
+     * Part of the texts containing a line break.
+     */
+    private double lineBreakRatio;
+
+    /**
+     * Part of the values of the columns not mandatory which are empty.
+     */
+    private double nullRatio;
+
+    /**
+     * Part of the lines in error.
+     */
+    private double errorRatio;
+
+    /**
+     * Constructor.
+     *
+     * @param engine engine managing the class.
+     * @param clazz  class associated to the CSV File.
+     * @param seed   seed of the generation.
+     */
+    public CsvGenerator(CsvEngine engine, Class<T> clazz, long seed) {
+        this.seed = seed;
+        this.separator = engine.getSeparator(clazz);
+        this.writeHeader = !engine.getParameters().getSkipHeader();
+        List<String> names = engine.getColumnNames(clazz);
+        int nbColumns = names.size();
+        columnNames = names.toArray(new String[nbColumns]);
+        mandatory = new boolean[nbColumns];
+        texts = new boolean[nbColumns];
+        generators = new ValueGenerator[nbColumns];
+        cardinalities = new int[nbColumns];
+        int nbColumnsForErrors = 0;
+        for (int column = 0; column < nbColumns; column++) {
+            mandatory[column] = isMandatory(clazz, columnNames[column]);
+            generators[column] = typedGenerator(engine.getAdapter(clazz, columnNames[column]));
+            texts[column] = generators[column] == null;
+            if (texts[column]) {
+                generators[column] = TEXT_GENERATOR;
+            }
+            if (mandatory[column] || !texts[column]) {
+                nbColumnsForErrors++;
+            }
+        }
+        columnsForErrors = new int[nbColumnsForErrors];
+        int index = 0;
+        for (int column = 0; column < nbColumns; column++) {
+            if (mandatory[column] || !texts[column]) {
+                columnsForErrors[index++] = column;
+            }
+        }
+    }
+
+    /**
+     * Read the annotation of a column to know if it's mandatory.
+     *
+     * @param clazz      class associated to the CSV File.
+     * @param columnName name of the column.
+     * @return true if the column is mandatory.
+     */
+    private static boolean isMandatory(Class<?> clazz, String columnName) {
+        for (Field field : clazz.getDeclaredFields()) {
+            CsvColumn csvColumn = field.getAnnotation(CsvColumn.class);
+            if (csvColumn != null && csvColumn.value().equals(columnName)) {
+                return csvColumn.mandatory();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Create the generator of the values of an adapter of the engine.
+     *
+     * @param adapter the adapter of the column.
+     * @return the generator, null if the adapter isn't known (the column then contains texts).
+     */
+    @SuppressWarnings("unchecked")
+    private static ValueGenerator typedGenerator(AdapterCsv<?> adapter) {
+        final AdapterCsv<Object> columnAdapter = (AdapterCsv<Object>) adapter;
+        AdapterCsv<?> baseAdapter = adapter;
+        if (adapter instanceof AdapterMemo) {
+            baseAdapter = ((AdapterMemo<?>) adapter).getAdapter();
+        }
+        if (baseAdapter instanceof IntAdapterCsv) {
+            return random -> columnAdapter.toString(random.nextInt());
+        }
+        if (baseAdapter instanceof LongAdapterCsv) {
+            return random -> columnAdapter.toString(random.nextLong());
+        }
+        if (baseAdapter instanceof DoubleAdapterCsv) {
+            return random -> columnAdapter.toString(random.nextInt(100000000) / 100.0);
+        }
+        if (baseAdapter instanceof BooleanAdapterCsv) {
+            return random -> columnAdapter.toString(random.nextBoolean());
+        }
+        if (baseAdapter instanceof AdapterTime) {
+            return random -> columnAdapter.toString(random.nextInt(MINUTES_BY_DAY));
+        }
+        if (baseAdapter instanceof AdapterDate) {
+            return random -> columnAdapter.toString(new Date(1000L * random.nextInt(MAX_EPOCH_SECOND)));
+        }
+        if (baseAdapter instanceof AdapterLocalDate) {
+            return random -> columnAdapter.toString(
+                    LocalDate.ofEpochDay(random.nextInt(MAX_EPOCH_SECOND / MINUTES_BY_DAY / 60)));
+        }
+        if (baseAdapter instanceof AdapterLocalDateTime) {
+            return random -> columnAdapter.toString(
+                    LocalDateTime.ofEpochSecond(random.nextInt(MAX_EPOCH_SECOND), 0, ZoneOffset.UTC));
+        }
+        if (baseAdapter instanceof AdapterInstant) {
+            return random -> columnAdapter.toString(Instant.ofEpochSecond(random.nextInt(MAX_EPOCH_SECOND)));
+        }
+        if (baseAdapter instanceof AdapterOffsetDateTime) {
+            return random -> columnAdapter.toString(OffsetDateTime.of(
+                    LocalDateTime.ofEpochSecond(random.nextInt(MAX_EPOCH_SECOND), 0, ZoneOffset.UTC),
+                    ZoneOffset.ofHours(random.nextInt(-MAX_OFFSET_HOURS, MAX_OFFSET_HOURS + 1))));
+        }
+        return null;
+    }
+
+    /**
+     * Generate a text of lower case letters.
+     *
+     * @param random the random generator.
+     * @return the text.
+     */
+    private static String generateText(SplittableRandom random) {
+        char[] text = new char[random.nextInt(MIN_TEXT_LENGTH, MAX_TEXT_LENGTH + 1)];
+        for (int index = 0; index < text.length; index++) {
+            text[index] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(text);
+    }
+
+    /**
+     * Check a ratio.
+     *
+     * @param ratio the ratio.
+     * @param name  name of the ratio for the message.
+     * @return the ratio.
+     */
+    private static double checkRatio(double ratio, String name) {
+        if (!(ratio >= 0 && ratio <= 1)) {
+            throw new IllegalArgumentException("The " + name + " ratio must be between 0 and 1");
+        }
+        return ratio;
+    }
+
+    /**
+     * Part of the values enclosed by quotes, 0 by default.
+     *
+     * @param quotingRatio ratio between 0 and 1.
+     * @return this generator.
+     */
+    public CsvGenerator<T> setQuotingRatio(double quotingRatio) {
+        this.quotingRatio = checkRatio(quotingRatio, "quoting");
+        return this;
+    }
+
+    /**
+     * Part of the texts containing a line break, 0 by default.
+     *
+     * @param lineBreakRatio ratio between 0 and 1.
+     * @return this generator.
+     */
+    public CsvGenerator<T> setLineBreakRatio(double lineBreakRatio) {
+        this.lineBreakRatio = checkRatio(lineBreakRatio, "line break");
+        return this;
+    }
+
+    /**
+     * Part of the values of the columns not mandatory which are empty, 0 by default.
+     *
+     * @param nullRatio ratio between 0 and 1.
+     * @return this generator.
+     */
+    public CsvGenerator<T> setNullRatio(double nullRatio) {
+        this.nullRatio = checkRatio(nullRatio, "null");
+        return this;
+    }
+
+    /**
+     * Part of the lines in error, 0 by default.<br/>
+     * A line in error has a value which can't be parsed in a column with a known adapter,
+     * or an empty mandatory column.
+     *
+     * @param errorRatio ratio between 0 and 1.
+     * @return this generator.
+     */
+    public CsvGenerator<T> setErrorRatio(double errorRatio) {
+        checkRatio(errorRatio, "error");
+        if (errorRatio > 0 && columnsForErrors.length == 0) {
+            throw new IllegalArgumentException(
+                    "No column can be in error : all the columns are texts and none is mandatory");
+        }
+        this.errorRatio = errorRatio;
+        return this;
+    }
+
+    /**
+     * Number of distinct values of all the columns, unlimited (0) by default.
+     *
+     * @param cardinality number of distinct values, 0 for unlimited.
+     * @return this generator.
+     */
+    public CsvGenerator<T> setCardinality(int cardinality) {
+        for (int column = 0; column < columnNames.length; column++) {
+            setCardinality(column, cardinality);
+        }
+        return this;
+    }
+
+    /**
+     * Number of distinct values of a column, unlimited (0) by default.
+     *
+     * @param columnName  name of the column.
+     * @param cardinality number of distinct values, 0 for unlimited.
+     * @return this generator.
+     */
+    public CsvGenerator<T> setCardinality(String columnName, int cardinality) {
+        setCardinality(getColumn(columnName), cardinality);
+        return this;
+    }
+
+    /**
+     * Number of distinct values of a column.
+     *
+     * @param column      position of the column.
+     * @param cardinality number of distinct values, 0 for unlimited.
+     */
+    private void setCardinality(int column, int cardinality) {
+        if (cardinality < 0) {
+            throw new IllegalArgumentException("The cardinality can't be negative");
+        }
+        cardinalities[column] = cardinality;
+    }
+
+    /**
+     * Replace the generator of a column.<br/>
+     * The values of the generator are written as they are : they are only enclosed by quotes
+     * (by the quoting ratio or if they contain a separator, a quote or a line break).
+     *
+     * @param columnName name of the column.
+     * @param generator  generator of the values.
+     * @return this generator.
+     */
+    public CsvGenerator<T> setValueGenerator(String columnName, ValueGenerator generator) {
+        generators[getColumn(columnName)] = generator;
+        return this;
+    }
+
+    /**
+     * Get the position of a column.
+     *
+     * @param columnName name of the column.
+     * @return the position of the column.
+     */
+    private int getColumn(String columnName) {
+        for (int column = 0; column < columnNames.length; column++) {
+            if (columnNames[column].equals(columnName)) {
+                return column;
+            }
+        }
+        throw new CsvEngineException("The column " + columnName + " doesn't exist");
+    }
+
+    /**
+     * Create a Reader over a generated CSV File : the lines are generated while they are read,
+     * the file is never entirely in memory.
+     *
+     * @param nbLines number of lines, header excluded.
+     * @return the reader.
+     */
+    public Reader reader(long nbLines) {
+        return new GeneratedReader(nbLines);
+    }
+
+    /**
+     * Write a generated CSV File with a number of lines.
+     *
+     * @param writer  writer representing the CSV File, not closed.
+     * @param nbLines number of lines, header excluded.
+     * @return number of characters written.
+     */
+    public long writeLines(Writer writer, long nbLines) {
+        return write(writer, nbLines, Long.MAX_VALUE)[1];
+    }
+
+    /**
+     * Write a generated CSV File with a size : lines are written until the size is reached.
+     *
+     * @param writer writer representing the CSV File, not closed.
+     * @param size   minimum number of characters.
+     * @return number of lines written, header excluded.
+     */
+    public long writeSize(Writer writer, long size) {
+        return write(writer, Long.MAX_VALUE, size)[0];
+    }
+
+    /**
+     * Write a generated CSV File with a size in a file : lines are written until the size is reached.
+     *
+     * @param path    path of the file, replaced if it exists.
+     * @param charset charset of the file.
+     * @param size    minimum number of characters.
+     * @return number of lines written, header excluded.
+     */
+    public long writeFile(Path path, Charset charset, long size) {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, charset)) {
+            return writeSize(writer, size);
+        } catch (IOException exception) {
+            throw new CsvEngineException(exception);
+        }
+    }
+
+    /**
+     * Write a generated CSV File, until the number of lines or the size is reached.
+     *
+     * @param writer  writer representing the CSV File.
+     * @param nbLines maximum number of lines.
+     * @param size    minimum number of characters.
+     * @return number of lines written and number of characters written.
+     */
+    private long[] write(Writer writer, long nbLines, long size) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder chunk = new StringBuilder(2 * CHUNK_SIZE);
+        if (writeHeader) {
+            appendHeader(chunk);
+        }
+        long nbLinesWritten = 0;
+        long nbCharacters = 0;
+        try {
+            while (nbLinesWritten < nbLines && nbCharacters + chunk.length() < size) {
+                appendLine(chunk, random);
+                nbLinesWritten++;
+                if (chunk.length() >= CHUNK_SIZE) {
+                    writer.append(chunk);
+                    nbCharacters += chunk.length();
+                    chunk.setLength(0);
+                }
+            }
+            writer.append(chunk);
+            nbCharacters += chunk.length();
+            writer.flush();
+        } catch (IOException exception) {
+            throw new CsvEngineException(exception);
+        }
+        return new long[] {nbLinesWritten, nbCharacters};
+    }
+
+    /**
+     * Append the header.
+     *
+     * @param chunk characters to write.
+     */
+    private void appendHeader(StringBuilder chunk) {
+        for (int column = 0; column < columnNames.length; column++) {
+            if (column > 0) {
+                chunk.append(separator);
+            }
+            appendValue(chunk, columnNames[column], false);
+        }
+        chunk.append('\n');
+    }
+
+    /**
+     * Append a generated line.
+     *
+     * @param chunk  characters to write.
+     * @param random the random generator.
+     */
+    private void appendLine(StringBuilder chunk, SplittableRandom random) {
+        int columnInError = -1;
+        if (errorRatio > 0 && random.nextDouble() < errorRatio) {
+            columnInError = columnsForErrors[random.nextInt(columnsForErrors.length)];
+        }
+        for (int column = 0; column < columnNames.length; column++) {
+            if (column > 0) {
+                chunk.append(separator);
+            }
+            if (column == columnInError) {
+                if (texts[column]) {
+                    continue;
+                }
+                chunk.append(ERROR_VALUE);
+            } else if (!mandatory[column] && nullRatio > 0 && random.nextDouble() < nullRatio) {
+                continue;
+            } else {
+                appendGeneratedValue(chunk, column, random);
+            }
+        }
+        chunk.append('\n');
+    }
+
+    /**
+     * Append a generated value of a column.
+     *
+     * @param chunk  characters to write.
+     * @param column position of the column.
+     * @param random the random generator.
+     */
+    private void appendGeneratedValue(StringBuilder chunk, int column, SplittableRandom random) {
+        String value;
+        if (cardinalities[column] > 0) {
+            long key = random.nextInt(cardinalities[column]);
+            value = generators[column].generate(
+                    new SplittableRandom(seed + (column + 1) * GOLDEN_GAMMA + key * GOLDEN_GAMMA * GOLDEN_GAMMA));
+        } else {
+            value = generators[column].generate(random);
+        }
+        boolean generatedText = generators[column] == TEXT_GENERATOR;
+        boolean lineBreak = generatedText && lineBreakRatio > 0 && random.nextDouble() < lineBreakRatio;
+        boolean quoted = quotingRatio > 0 && random.nextDouble() < quotingRatio;
+        if (generatedText && value.length() > 1 && (lineBreak || quoted)) {
+            int middle = value.length() / 2;
+            value = value.substring(0, middle) + (lineBreak ? "\n" : separator + " \"") + value.substring(middle);
+        }
+        appendValue(chunk, value, quoted);
+    }
+
+    /**
+     * Append a value, enclosed by quotes if it's asked or necessary.
+     *
+     * @param chunk  characters to write.
+     * @param value  the value.
+     * @param quoted true to enclose the value by quotes.
+     */
+    private void appendValue(StringBuilder chunk, String value, boolean quoted) {
+        boolean needQuotes = quoted;
+        for (int index = 0; !needQuotes && index < value.length(); index++) {
+            char car = value.charAt(index);
+            needQuotes = car == separator || car == '"' || car == '\n' || car == '\r';
+        }
+        if (!needQuotes) {
+            chunk.append(value);
+            return;
+        }
+        chunk.append('"');
+        for (int index = 0; index < value.length(); index++) {
+            char car = value.charAt(index);
+            if (car == '"') {
+                chunk.append('"');
+            }
+            chunk.append(car);
+        }
+        chunk.append('"');
+    }
+
+    /**
+     * Reader generating the lines while they are read.
+     */
+    private final class GeneratedReader extends Reader {
+
+        /**
+         * The random generator.
+         */
+        private final SplittableRandom random = new SplittableRandom(seed);
+
+        /**
+         * Characters generated and not yet read.
+         */
+        private final StringBuilder chunk = new StringBuilder(2 * CHUNK_SIZE);
+
+        /**
+         * Position of the next character to read in the chunk.
+         */
+        private int position;
+
+        /**
+         * Number of lines still to generate.
+         */
+        private long remainingLines;
+
+        /**
+         * Constructor.
+         *
+         * @param nbLines number of lines, header excluded.
+         */
+        private GeneratedReader(long nbLines) {
+            remainingLines = nbLines;
+            if (writeHeader) {
+                appendHeader(chunk);
+            }
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position == chunk.length()) {
+                chunk.setLength(0);
+                position = 0;
+                while (remainingLines > 0 && chunk.length() < CHUNK_SIZE) {
+                    appendLine(chunk, random);
+                    remainingLines--;
+                }
+                if (chunk.length() == 0) {
+                    return -1;
+                }
+            }
+            int nbRead = Math.min(length, chunk.length() - position);
+            chunk.getChars(position, position + nbRead, buffer, offset);
+            position += nbRead;
+            return nbRead;
+        }
+
+        @Override
+        public void close() {
+            remainingLines = 0;
+            chunk.setLength(0);
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generator of the values of a column, as they are written in the CSV File.<br/>
+ * The generator must only use the random generator it receives, so the values are reproducible.<br/><br/>
+ * <i><u>French :</i> Générateur des valeurs d'une colonne, telles qu'elles sont écrites dans le fichier CSV.<br/>
+ * Le générateur ne doit utiliser que le générateur aléatoire qu'il reçoit, les valeurs sont ainsi reproductibles.
+ *
+ * @author ybonnel
+ */
+public interface ValueGenerator {
+
+    /**
+     * Generate a value.
+     *
+     * @param random the random generator.
+     * @return the value, not escaped.
+     */
+    String generate(SplittableRandom random);
+}
@@ -0,0 +1,30 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+/**
+ * Package containing the generator of synthetic CSV Files, used to benchmark and test the engine
+ * on big files without storing them.<br/>
+ * The {@linkplain CsvGenerator} writes the columns of a class managed by the engine, with values
+ * adapted to their adapters, and controls the shape of the file : quoting, line breaks, empty values,
+ * lines in error and cardinality of the values.<br/><br/>
+ *
+ * <i><u>French :</i> Package contenant le générateur de fichiers CSV synthétiques, utilisé pour mesurer et
+ * tester le moteur sur de gros fichiers sans les stocker.<br/>
+ * Le {@linkplain CsvGenerator} écrit les colonnes d'une classe gérée par le moteur, avec des valeurs adaptées
+ * à leurs adapteurs, et contrôle la forme du fichier : guillemets, retours à la ligne, valeurs vides,
+ * lignes en erreur et cardinalité des valeurs.
+ */
+package fr.ybonnel.csvengine.generator;
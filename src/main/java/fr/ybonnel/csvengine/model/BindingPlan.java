@@ -0,0 +1,142 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.model;
+
+/**
+ * <b>Internal class of the CsvEngine.</b><br/>
+ * Binding between the columns of a CSV File (read in its header) and the fields of the associated class.<br/>
+ * The plan is computed once per file, so the CsvField of a column is found by its position,
+ * and only the bound columns are processed.<br/><br/>
+ * <i><u>French :</i> Association entre les colonnes d'un fichier CSV (lues dans son entête)
+ * et les champs de la classe associée.<br/>
+ * Le plan est calculé une fois par fichier, le CsvField d'une colonne est donc trouvé par sa position,
+ * et seules les colonnes associées sont traitées.
+ *
+ * @author ybonnel
+ */
+public class BindingPlan {
+
+    /**
+     * Names of the columns.
+     */
+    private final String[] columnNames;
+
+    /**
+     * CsvField by position of column, null if the column isn't mapped.
+     */
+    private final CsvField[] csvFields;
+
+    /**
+     * Positions of the columns associated to a field, in ascending order.
+     */
+    private final int[] boundColumns;
+
+    /**
+     * Constructor.
+     *
+     * @param csvClass the class associated to the CSV File.
+     * @param header   names of the columns of the CSV File.
+     */
+    public BindingPlan(CsvClass csvClass, String[] header) {
+        columnNames = header.clone();
+        csvFields = new CsvField[header.length];
+        int nbBoundColumns = 0;
+        for (int column = 0; column < header.length; column++) {
+            csvFields[column] = csvClass.getCsvField(header[column]);
+            if (csvFields[column] != null) {
+                nbBoundColumns++;
+            }
+        }
+        boundColumns = new int[nbBoundColumns];
+        int index = 0;
+        for (int column = 0; column < header.length; column++) {
+            if (csvFields[column] != null) {
+                boundColumns[index++] = column;
+            }
+        }
+    }
+
+    /**
+     * @return number of columns in the header.
+     */
+    public int getNbColumns() {
+        return columnNames.length;
+    }
+
+    /**
+     * @return number of columns associated to a field.
+     */
+    public int getNbBoundColumns() {
+        return boundColumns.length;
+    }
+
+    /**
+     * Get the position of a column associated to a field.
+     *
+     * @param index index of the bound column, between 0 and {@link #getNbBoundColumns()} (exclusive).
+     * @return the position of the column in the CSV File.
+     */
+    public int getBoundColumn(int index) {
+        return boundColumns[index];
+    }
+
+    /**
+     * @return for each column of the header, true if the column is associated to a field.
+     */
+    public boolean[] getSelectedColumns() {
+        boolean[] selectedColumns = new boolean[csvFields.length];
+        for (int column : boundColumns) {
+            selectedColumns[column] = true;
+        }
+        return selectedColumns;
+    }
+
+    /**
+     * Get the position of a column.
+     *
+     * @param columnName name of the column.
+     * @return the position of the column, -1 if the column isn't in the header.
+     */
+    public int getColumnPosition(String columnName) {
+        for (int column = 0; column < columnNames.length; column++) {
+            if (columnNames[column].equals(columnName)) {
+                return column;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the name of a column.
+     *
+     * @param column position of the column.
+     * @return the name of the column.
+     */
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    /**
+     * Get the CsvField associated with a column.
+     *
+     * @param column position of the column.
+     * @return the field, null if the column isn't mapped.
+     */
+    public CsvField getCsvField(int column) {
+        return csvFields[column];
+    }
+}
@@ -33,11 +33,11 @@ public class ClassWithParamKey<T> {
     /**
      * Parameters of the class.
      */
-    private Parameter[] params;
+    private final Parameter[] params;
     /**
      * The class.
      */
-    private Class<? extends T> clazz;
+    private final Class<? extends T> clazz;
 
     /**
      * Constructor.
@@ -50,6 +50,13 @@ public class ClassWithParamKey<T> {
         this.clazz = clazz;
     }
 
+    /**
+     * @return the class.
+     */
+    public Class<? extends T> getClazz() {
+        return clazz;
+    }
+
     /**
      * Get the parameters into a Map&lt;Name, Value&gt;.
      *
@@ -0,0 +1,46 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.model;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Iterator over the objects of a CSV File, which reads a record only when the next object is asked.<br/>
+ * The lines with validation errors are skipped and kept in {@link #getErrors()}.
+ * The iterator must be closed to close the reader if all the objects aren't read.<br/><br/>
+ * <i><u>French :</i> Itérateur sur les objets d'un fichier CSV, qui ne lit un enregistrement que lorsque
+ * l'objet suivant est demandé.<br/>
+ * Les lignes en erreur de validation sont ignorées et conservées dans {@link #getErrors()}.
+ * L'itérateur doit être fermé pour fermer le reader si tous les objets ne sont pas lus.
+ *
+ * @param <T> class associated to the CSV File.
+ * @author ybonnel
+ */
+public interface CloseableIterator<T> extends Iterator<T>, Closeable {
+
+    /**
+     * @return the errors occurred in the records read until now.
+     */
+    List<Error> getErrors();
+
+    /**
+     * Close the reader.
+     */
+    void close();
+}
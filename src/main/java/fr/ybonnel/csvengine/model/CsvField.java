@@ -16,18 +16,31 @@
  */
 package fr.ybonnel.csvengine.model;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import fr.ybonnel.csvengine.adapter.AdapterCsv;
+import fr.ybonnel.csvengine.adapter.AdapterMemo;
+import fr.ybonnel.csvengine.adapter.AdapterStringDictionary;
+import fr.ybonnel.csvengine.adapter.BooleanAdapterCsv;
+import fr.ybonnel.csvengine.adapter.DoubleAdapterCsv;
+import fr.ybonnel.csvengine.adapter.IntAdapterCsv;
+import fr.ybonnel.csvengine.adapter.LongAdapterCsv;
 import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvParam;
 import fr.ybonnel.csvengine.annotation.CsvValidation;
 import fr.ybonnel.csvengine.annotation.CsvValidations;
 import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.exception.InvalidParamException;
 import fr.ybonnel.csvengine.validator.ValidateException;
 import fr.ybonnel.csvengine.validator.ValidatorCsv;
 
@@ -39,6 +52,33 @@ import fr.ybonnel.csvengine.validator.ValidatorCsv;
  */
 public class CsvField {
 
+    /**
+     * Kind of primitive binding : the primitive fields whose adapter can parse the primitive
+     * are set without boxing.
+     */
+    private enum PrimitiveKind {
+        /**
+         * Not a primitive binding, the value is boxed.
+         */
+        NONE,
+        /**
+         * int field with an {@link IntAdapterCsv}.
+         */
+        INT,
+        /**
+         * long field with a {@link LongAdapterCsv}.
+         */
+        LONG,
+        /**
+         * double field with a {@link DoubleAdapterCsv}.
+         */
+        DOUBLE,
+        /**
+         * boolean field with a {@link BooleanAdapterCsv}.
+         */
+        BOOLEAN
+    }
+
     /**
      * Adapter to use.
      */
@@ -50,22 +90,45 @@ public class CsvField {
     private final List<ValidatorCsv> validators = new ArrayList<ValidatorCsv>();
 
     /**
-     * Map of adapters, this is useful to create just an instance per adapter.
+     * Map of adapters, this is useful to create just an instance per adapter.<br/>
+     * Classes can be scanned by many threads, an adapter is created atomically by computeIfAbsent.
      */
-    private static final Map<ClassWithParamKey<AdapterCsv<?>>, AdapterCsv<?>> MAP_ADAPTERS =
-            new HashMap<ClassWithParamKey<AdapterCsv<?>>, AdapterCsv<?>>();
+    private static final ConcurrentMap<ClassWithParamKey<AdapterCsv<?>>, AdapterCsv<?>> MAP_ADAPTERS =
+            new ConcurrentHashMap<ClassWithParamKey<AdapterCsv<?>>, AdapterCsv<?>>();
 
     /**
-     * Map of validators, this is useful to create just an instance per validator.
+     * Map of validators, this is useful to create just an instance per validator.<br/>
+     * Classes can be scanned by many threads, a validator is created atomically by computeIfAbsent.
      */
-    private static final Map<ClassWithParamKey<ValidatorCsv>, ValidatorCsv> MAP_VALIDATOR =
-            new HashMap<ClassWithParamKey<ValidatorCsv>, ValidatorCsv>();
+    private static final ConcurrentMap<ClassWithParamKey<ValidatorCsv>, ValidatorCsv> MAP_VALIDATOR =
+            new ConcurrentHashMap<ClassWithParamKey<ValidatorCsv>, ValidatorCsv>();
 
     /**
      * Field of the class to map.
      */
     private final Field field;
 
+    /**
+     * Setter of the field, resolved once : (Object target, Object value)void.
+     */
+    private final MethodHandle setter;
+
+    /**
+     * Getter of the field, resolved once : (Object target)Object.
+     */
+    private final MethodHandle getter;
+
+    /**
+     * Kind of primitive binding of the field.
+     */
+    private final PrimitiveKind primitiveKind;
+
+    /**
+     * Setter of the field with its primitive type : (Object target, primitive value)void,
+     * null if the binding isn't primitive.
+     */
+    private final MethodHandle primitiveSetter;
+
     /**
      * True if the column is mandatory.
      */
@@ -82,29 +145,165 @@ public class CsvField {
     public CsvField(CsvColumn column, CsvValidations csvValidations, CsvValidation csvValidation, Field field) {
         this.field = field;
         this.mandatory = column.mandatory();
+        field.setAccessible(true);
+        this.setter = constructSetter(field, Object.class);
+        this.getter = constructGetter(field);
         this.adapter = constructAdapter(column);
+        this.primitiveKind = primitiveKind(field.getType(), adapter);
+        this.primitiveSetter = primitiveKind == PrimitiveKind.NONE ? null : constructSetter(field, field.getType());
         constructValidators(csvValidations, csvValidation);
     }
 
     /**
-     * Construct an adapter (reuse an existing one if the adapter with same parameters already exists).
+     * Find the kind of primitive binding of a field.
+     *
+     * @param type    type of the field.
+     * @param adapter adapter of the column.
+     * @return the kind of binding.
+     */
+    private static PrimitiveKind primitiveKind(Class<?> type, AdapterCsv<?> adapter) {
+        if (type == int.class && adapter instanceof IntAdapterCsv) {
+            return PrimitiveKind.INT;
+        }
+        if (type == long.class && adapter instanceof LongAdapterCsv) {
+            return PrimitiveKind.LONG;
+        }
+        if (type == double.class && adapter instanceof DoubleAdapterCsv) {
+            return PrimitiveKind.DOUBLE;
+        }
+        if (type == boolean.class && adapter instanceof BooleanAdapterCsv) {
+            return PrimitiveKind.BOOLEAN;
+        }
+        return PrimitiveKind.NONE;
+    }
+
+    /**
+     * Resolve the setter of a field.<br/>
+     * Final fields can't be set by a direct method handle, the reflective Field.set (or Field.setInt...)
+     * is then used.
+     *
+     * @param field     the field.
+     * @param valueType type of the value : Object, or the primitive type of the field.
+     * @return the setter with the type (Object, valueType)void.
+     */
+    private static MethodHandle constructSetter(Field field, Class<?> valueType) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            MethodHandle setter;
+            try {
+                setter = lookup.unreflectSetter(field);
+                if (Modifier.isStatic(field.getModifiers())) {
+                    setter = MethodHandles.dropArguments(setter, 0, Object.class);
+                }
+            } catch (IllegalAccessException exception) {
+                setter = lookup.findVirtual(Field.class, reflectiveSetterName(valueType),
+                        MethodType.methodType(void.class, Object.class, valueType)).bindTo(field);
+            }
+            return setter.asType(MethodType.methodType(void.class, Object.class, valueType));
+        } catch (ReflectiveOperationException exception) {
+            throw new CsvEngineException("Error during construction of the setter of " + field.getName(), exception);
+        }
+    }
+
+    /**
+     * Name of the method of Field which sets a value of a type.
+     *
+     * @param valueType type of the value.
+     * @return "set" for Object, "setInt" for int...
+     */
+    private static String reflectiveSetterName(Class<?> valueType) {
+        if (!valueType.isPrimitive()) {
+            return "set";
+        }
+        String typeName = valueType.getName();
+        return "set" + Character.toUpperCase(typeName.charAt(0)) + typeName.substring(1);
+    }
+
+    /**
+     * Resolve the getter of a field.
+     *
+     * @param field the field.
+     * @return the getter with the type (Object)Object.
+     */
+    private static MethodHandle constructGetter(Field field) {
+        try {
+            MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return getter.asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException exception) {
+            throw new CsvEngineException("Error during construction of the getter of " + field.getName(), exception);
+        }
+    }
+
+    /**
+     * Construct an adapter (reuse an existing one if the adapter with same parameters already exists).<br/>
+     * A {@link AdapterStringDictionary} is never reused : its dictionary is bounded per column.<br/>
+     * If the column has the parameter {@link AdapterMemo#PARAM_MEMO_SIZE}, the adapter is memorized.
      *
      * @param column annotation of the field.
      * @return the adapter constructed.
      */
     private static AdapterCsv<?> constructAdapter(CsvColumn column) {
-        ClassWithParamKey<AdapterCsv<?>> key = new ClassWithParamKey<AdapterCsv<?>>(column.params(), column.adapter());
-        if (!MAP_ADAPTERS.containsKey(key)) {
-            try {
-                Constructor<? extends AdapterCsv<?>> constructor = column.adapter().getConstructor((Class<?>[]) null);
-                AdapterCsv<?> adapter = constructor.newInstance((Object[]) null);
-                adapter.addParams(key.getMapParams());
-                MAP_ADAPTERS.put(key, adapter);
-            } catch (Exception exception) {
-                throw new CsvEngineException(exception);
+        List<CsvParam> adapterParams = new ArrayList<CsvParam>();
+        String memoSize = null;
+        for (CsvParam param : column.params()) {
+            if (AdapterMemo.PARAM_MEMO_SIZE.equals(param.name())) {
+                memoSize = param.value();
+            } else {
+                adapterParams.add(param);
+            }
+        }
+        ClassWithParamKey<AdapterCsv<?>> key = new ClassWithParamKey<AdapterCsv<?>>(
+                adapterParams.toArray(new CsvParam[adapterParams.size()]), column.adapter());
+        AdapterCsv<?> adapter;
+        if (AdapterStringDictionary.class.equals(column.adapter())) {
+            adapter = newAdapter(key);
+        } else {
+            adapter = MAP_ADAPTERS.get(key);
+            if (adapter == null) {
+                adapter = MAP_ADAPTERS.computeIfAbsent(key, CsvField::newAdapter);
             }
         }
-        return MAP_ADAPTERS.get(key);
+        if (memoSize != null) {
+            adapter = constructMemo(adapter, memoSize);
+        }
+        return adapter;
+    }
+
+    /**
+     * Construct the memo of the adapter of a column (one memo per column).
+     *
+     * @param <T>      class of the values.
+     * @param adapter  the adapter to memorize.
+     * @param memoSize value of the parameter {@link AdapterMemo#PARAM_MEMO_SIZE}.
+     * @return the memo.
+     */
+    private static <T> AdapterCsv<T> constructMemo(AdapterCsv<T> adapter, String memoSize) {
+        try {
+            return new AdapterMemo<T>(adapter, Integer.parseInt(memoSize));
+        } catch (IllegalArgumentException exception) {
+            throw new CsvEngineException(new InvalidParamException("The parameter \""
+                    + AdapterMemo.PARAM_MEMO_SIZE + "\" haven't the good format : " + memoSize, exception));
+        }
+    }
+
+    /**
+     * Create a new adapter.
+     *
+     * @param key class of the adapter with its parameters.
+     * @return the adapter created.
+     */
+    private static AdapterCsv<?> newAdapter(ClassWithParamKey<AdapterCsv<?>> key) {
+        try {
+            Constructor<? extends AdapterCsv<?>> constructor = key.getClazz().getConstructor((Class<?>[]) null);
+            AdapterCsv<?> adapter = constructor.newInstance((Object[]) null);
+            adapter.addParams(key.getMapParams());
+            return adapter;
+        } catch (Exception exception) {
+            throw new CsvEngineException(exception);
+        }
     }
 
     /**
@@ -133,20 +332,30 @@ public class CsvField {
     private static ValidatorCsv constructOneValidator(CsvValidation csvValidation) {
         ClassWithParamKey<ValidatorCsv> key =
                 new ClassWithParamKey<ValidatorCsv>(csvValidation.params(), csvValidation.value());
-        if (!MAP_VALIDATOR.containsKey(key)) {
-            try {
-                Constructor<? extends ValidatorCsv> construteur =
-                        csvValidation.value().getConstructor((Class<?>[]) null);
-                ValidatorCsv validator = construteur.newInstance((Object[]) null);
-                validator.addParams(key.getMapParams());
-                MAP_VALIDATOR.put(key, validator);
-            } catch (Exception exception) {
-                throw new CsvEngineException("Error during construction of Validator "
-                        + csvValidation.value().getSimpleName(),
-                        exception);
-            }
+        ValidatorCsv validator = MAP_VALIDATOR.get(key);
+        if (validator == null) {
+            validator = MAP_VALIDATOR.computeIfAbsent(key, CsvField::newValidator);
+        }
+        return validator;
+    }
+
+    /**
+     * Create a new validator.
+     *
+     * @param key class of the validator with its parameters.
+     * @return the validator created.
+     */
+    private static ValidatorCsv newValidator(ClassWithParamKey<ValidatorCsv> key) {
+        try {
+            Constructor<? extends ValidatorCsv> construteur = key.getClazz().getConstructor((Class<?>[]) null);
+            ValidatorCsv validator = construteur.newInstance((Object[]) null);
+            validator.addParams(key.getMapParams());
+            return validator;
+        } catch (Exception exception) {
+            throw new CsvEngineException("Error during construction of Validator "
+                    + key.getClazz().getSimpleName(),
+                    exception);
         }
-        return MAP_VALIDATOR.get(key);
     }
 
     /**
@@ -156,6 +365,72 @@ public class CsvField {
         return field;
     }
 
+    /**
+     * Set the value of the field in an object.
+     *
+     * @param csvObject the object to fill.
+     * @param value     the value to set.
+     */
+    public void setValue(Object csvObject, Object value) {
+        try {
+            setter.invokeExact(csvObject, value);
+        } catch (RuntimeException | java.lang.Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new CsvEngineException(throwable);
+        }
+    }
+
+    /**
+     * Parse a value with the adapter and set it in the field of an object.<br/>
+     * The primitive fields whose adapter can parse the primitive are set without boxing.
+     *
+     * @param csvObject the object to fill.
+     * @param value     the value to parse.
+     * @throws ValidateException if the value isn't good.
+     */
+    public void parseAndSetValue(Object csvObject, CharSequence value) throws ValidateException {
+        try {
+            switch (primitiveKind) {
+                case INT:
+                    primitiveSetter.invokeExact(csvObject, ((IntAdapterCsv) adapter).parseInt(value));
+                    break;
+                case LONG:
+                    primitiveSetter.invokeExact(csvObject, ((LongAdapterCsv) adapter).parseLong(value));
+                    break;
+                case DOUBLE:
+                    primitiveSetter.invokeExact(csvObject, ((DoubleAdapterCsv) adapter).parseDouble(value));
+                    break;
+                case BOOLEAN:
+                    primitiveSetter.invokeExact(csvObject, ((BooleanAdapterCsv) adapter).parseBoolean(value));
+                    break;
+                default:
+                    setter.invokeExact(csvObject, getAdapterCsv().parse(value.toString()));
+                    break;
+            }
+        } catch (ValidateException | RuntimeException | java.lang.Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new CsvEngineException(throwable);
+        }
+    }
+
+    /**
+     * Get the value of the field in an object.
+     *
+     * @param csvObject the object.
+     * @return the value of the field.
+     */
+    public Object getValue(Object csvObject) {
+        try {
+            return (Object) getter.invokeExact(csvObject);
+        } catch (RuntimeException | java.lang.Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new CsvEngineException(throwable);
+        }
+    }
+
     /**
      * @return field mandatory?
      */
@@ -171,6 +446,20 @@ public class CsvField {
         return (AdapterCsv<Object>) adapter;
     }
 
+    /**
+     * @return validators of the field, shared with the other fields having the same validators.
+     */
+    public List<ValidatorCsv> getValidators() {
+        return Collections.unmodifiableList(validators);
+    }
+
+    /**
+     * @return true if the field has at least one validator.
+     */
+    public boolean hasValidators() {
+        return !validators.isEmpty();
+    }
+
     /**
      * Method which validate the value of a field.
      *
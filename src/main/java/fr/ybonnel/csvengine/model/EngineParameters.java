@@ -45,6 +45,11 @@ public class EngineParameters {
 	 */
 	private boolean skipHeader = false;
 
+	/**
+	 * Metrics of the parses, null if they aren't activated.
+	 */
+	private ParseMetrics metrics;
+
 	/**
      * Creation of builder.
 	 * 
@@ -122,4 +127,22 @@ public class EngineParameters {
 	 */
 	public boolean getSkipHeader() { return this.skipHeader; }
 
+	/**
+	 * @return metrics of the parses, null if they aren't activated.
+	 */
+	public ParseMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Metrics of the parses : timings and counters by phase and by column.<br/>
+	 * Not activated (null) by default.
+	 *
+	 * @param metrics
+	 *            the metrics, null to deactivate them.
+	 */
+	public void setMetrics(ParseMetrics metrics) {
+		this.metrics = metrics;
+	}
+
 }
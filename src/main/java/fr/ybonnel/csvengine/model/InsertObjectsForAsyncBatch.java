@@ -0,0 +1,204 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.model;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.exception.StopParseException;
+
+/**
+ * <b>Internal class of the CsvEngine.</b><br/>
+ * This class is use for the method
+ * {@link fr.ybonnel.csvengine.CsvEngine#parseFileAndHandleBatch(java.io.Reader, Class, InsertBatch, int,
+ * java.util.concurrent.ExecutorService, int)}.<br/>
+ * The batches are handled by an executor while the parse continues. The number of batches in flight is bounded :
+ * the parse waits when it is reached. The first failure of the handler is thrown by the parse.<br/>
+ * The lists are presized, and reused once handled if the handler is a {@link RecyclingInsertBatch}.
+ *
+ * @param <T> class of objects.
+ *
+ * @author ybonnel
+ */
+public class InsertObjectsForAsyncBatch<T> implements InsertObject<T> {
+
+    /**
+     * Handler to transmit each batch of objects.
+     */
+    private final InsertBatch<T> handler;
+
+    /**
+     * Size of a batch.
+     */
+    private final int batchSize;
+
+    /**
+     * Executor of the handler.
+     */
+    private final Executor executor;
+
+    /**
+     * Maximum number of batches in flight.
+     */
+    private final int maxBatchesInFlight;
+
+    /**
+     * Permits of batches in flight.
+     */
+    private final Semaphore batchesInFlight;
+
+    /**
+     * First failure of the handler.
+     */
+    private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+    /**
+     * True if the lists can be reused once handled.
+     */
+    private final boolean recycleLists;
+
+    /**
+     * Lists handled, ready to be reused.
+     */
+    private final Queue<List<T>> freeLists = new ConcurrentLinkedQueue<List<T>>();
+
+    /**
+     * The current list of objects.
+     */
+    private List<T> currentListOfObjects;
+
+    /**
+     * Constructor.
+     * @param handler handler to transmit each batch of objects.
+     * @param batchSize size of a batch.
+     * @param executor executor of the handler.
+     * @param maxBatchesInFlight maximum number of batches in flight.
+     */
+    public InsertObjectsForAsyncBatch(InsertBatch<T> handler, int batchSize, Executor executor,
+                                      int maxBatchesInFlight) {
+        if (maxBatchesInFlight <= 0) {
+            throw new IllegalArgumentException("The number of batches in flight must be positive");
+        }
+        this.handler = handler;
+        this.batchSize = batchSize;
+        this.executor = executor;
+        this.maxBatchesInFlight = maxBatchesInFlight;
+        this.batchesInFlight = new Semaphore(maxBatchesInFlight);
+        this.recycleLists = handler instanceof RecyclingInsertBatch;
+        this.currentListOfObjects = InsertObjectsForBatch.newList(batchSize);
+    }
+
+    /**
+     * @return a list for the next batch : a list already handled if possible.
+     */
+    private List<T> nextList() {
+        List<T> list = recycleLists ? freeLists.poll() : null;
+        return list == null ? InsertObjectsForBatch.<T>newList(batchSize) : list;
+    }
+
+    /**
+     * Add the object into the current list of objects
+     * and transmit the list if necessary to the executor.
+     * @param object one object.
+     */
+    public void insertObject(T object) {
+        currentListOfObjects.add(object);
+        if (currentListOfObjects.size() >= batchSize) {
+            dispatch(currentListOfObjects);
+            currentListOfObjects = nextList();
+        }
+    }
+
+    /**
+     * Transmit the last batch, wait for the end of all the batches and throw the failure of the handler if any.
+     * If the handler stopped the parse, the last batch isn't transmitted.
+     */
+    public void flush() {
+        if (failure.get() instanceof StopParseException) {
+            awaitBatches();
+            return;
+        }
+        if (!currentListOfObjects.isEmpty()) {
+            List<T> lastBatch = currentListOfObjects;
+            currentListOfObjects = nextList();
+            dispatch(lastBatch);
+        }
+        awaitBatches();
+        if (!(failure.get() instanceof StopParseException)) {
+            checkFailure();
+        }
+    }
+
+    /**
+     * Wait for the end of all the batches in flight.
+     */
+    public void awaitBatches() {
+        batchesInFlight.acquireUninterruptibly(maxBatchesInFlight);
+        batchesInFlight.release(maxBatchesInFlight);
+    }
+
+    /**
+     * Transmit a batch to the executor, waiting if the maximum of batches in flight is reached.
+     *
+     * @param batch the batch.
+     */
+    private void dispatch(final List<T> batch) {
+        checkFailure();
+        try {
+            batchesInFlight.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CsvEngineException(exception);
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    handler.handleBatch(batch);
+                    if (recycleLists) {
+                        batch.clear();
+                        freeLists.offer(batch);
+                    }
+                } catch (Throwable throwable) {
+                    failure.compareAndSet(null, throwable);
+                } finally {
+                    batchesInFlight.release();
+                }
+            });
+        } catch (RuntimeException exception) {
+            batchesInFlight.release();
+            throw exception;
+        }
+    }
+
+    /**
+     * Throw the failure of the handler if any : StopParseException is thrown as is to stop the parse.
+     */
+    private void checkFailure() {
+        Throwable throwable = failure.get();
+        if (throwable instanceof StopParseException) {
+            throw (StopParseException) throwable;
+        }
+        if (throwable != null) {
+            throw new CsvEngineException("Error handling a batch", throwable);
+        }
+    }
+}
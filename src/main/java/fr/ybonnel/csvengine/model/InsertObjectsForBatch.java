@@ -22,7 +22,8 @@ import java.util.List;
 /**
  * <b>Internal class of the CsvEngine.</b><br/>
  * This class is use for the method
- * {@link fr.ybonnel.csvengine.CsvEngine#parseFileAndHandleBatch(java.io.Reader, Class, InsertBatch, int)}.
+ * {@link fr.ybonnel.csvengine.CsvEngine#parseFileAndHandleBatch(java.io.Reader, Class, InsertBatch, int)}.<br/>
+ * The lists are presized, and reused if the handler is a {@link RecyclingInsertBatch}.
  *
  * @param <T> class of objects.
  *
@@ -30,6 +31,11 @@ import java.util.List;
  */
 public class InsertObjectsForBatch<T> implements InsertObject<T> {
 
+    /**
+     * Maximum initial capacity of a list, for the huge batch sizes.
+     */
+    static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
     /**
      * Handler to transmit each batch of objects.
      */
@@ -40,10 +46,15 @@ public class InsertObjectsForBatch<T> implements InsertObject<T> {
      */
     private int batchSize;
 
+    /**
+     * True if the list can be reused after the handler.
+     */
+    private final boolean recycleList;
+
     /**
      * The current list of objects.
      */
-    private List<T> currentListOfObjects = new ArrayList<T>();
+    private List<T> currentListOfObjects;
 
     /**
      *
@@ -61,6 +72,19 @@ public class InsertObjectsForBatch<T> implements InsertObject<T> {
     public InsertObjectsForBatch(InsertBatch<T> handler, int batchSize) {
         this.handler = handler;
         this.batchSize = batchSize;
+        this.recycleList = handler instanceof RecyclingInsertBatch;
+        this.currentListOfObjects = newList(batchSize);
+    }
+
+    /**
+     * Create a list presized for a batch.
+     *
+     * @param <T> class of objects.
+     * @param batchSize size of a batch.
+     * @return the list.
+     */
+    static <T> List<T> newList(int batchSize) {
+        return new ArrayList<T>(Math.max(0, Math.min(batchSize, MAX_INITIAL_CAPACITY)));
     }
 
     /**
@@ -72,7 +96,11 @@ public class InsertObjectsForBatch<T> implements InsertObject<T> {
         currentListOfObjects.add(object);
         if (currentListOfObjects.size() >= batchSize) {
             handler.handleBatch(currentListOfObjects);
-            currentListOfObjects = new ArrayList<T>();
+            if (recycleList) {
+                currentListOfObjects.clear();
+            } else {
+                currentListOfObjects = newList(batchSize);
+            }
         }
     }
 }
@@ -81,6 +81,18 @@ public class MotorParametersBuilder {
         return this;
     }
 
+    /**
+     * Activate the metrics of the parses.
+     *
+     * @param metrics
+     *          the metrics, shared by all the parses of the engine.
+     * @return the builder
+     */
+    public MotorParametersBuilder setMetrics(ParseMetrics metrics) {
+        parameters.setMetrics(metrics);
+        return this;
+    }
+
     /**
      * Construct the instance of {@link EngineParameters}.
      *
@@ -0,0 +1,111 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.model;
+
+/**
+ * Parameters of a parallel parse of a file.<br/>
+ * Example : new ParallelParameters().setChunkSize(16 * 1024 * 1024).setOrdered(false).<br/><br/>
+ * <i><u>French :</i> Paramètres d'une lecture parallèle d'un fichier.
+ *
+ * @author ybonnel
+ */
+public class ParallelParameters {
+
+    /**
+     * Default size of a chunk : 8 MB.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * Size in bytes of the chunks of the file.
+     */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    /**
+     * Maximum number of chunks parsed or waiting to be handled.
+     */
+    private int maxChunksInFlight = 2 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * True if the objects are handled in the order of the file.
+     */
+    private boolean ordered = true;
+
+    /**
+     * @return size in bytes of the chunks of the file.
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Size of the chunks, each chunk is parsed by a task of the pool.<br/>
+     * By default {@link #DEFAULT_CHUNK_SIZE}.
+     *
+     * @param chunkSize size in bytes of the chunks.
+     * @return this parameters.
+     */
+    public ParallelParameters setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The size of the chunks must be positive");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * @return maximum number of chunks parsed or waiting to be handled.
+     */
+    public int getMaxChunksInFlight() {
+        return maxChunksInFlight;
+    }
+
+    /**
+     * Maximum number of chunks parsed or waiting to be handled, it bounds the memory used by the objects
+     * not yet handled.<br/>
+     * By default two times the number of processors.
+     *
+     * @param maxChunksInFlight maximum number of chunks.
+     * @return this parameters.
+     */
+    public ParallelParameters setMaxChunksInFlight(int maxChunksInFlight) {
+        if (maxChunksInFlight <= 0) {
+            throw new IllegalArgumentException("The number of chunks in flight must be positive");
+        }
+        this.maxChunksInFlight = maxChunksInFlight;
+        return this;
+    }
+
+    /**
+     * @return true if the objects are handled in the order of the file.
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Handle the objects in the order of the file, or as soon as their chunk is parsed.<br/>
+     * By default the order is kept.
+     *
+     * @param ordered true to keep the order of the file.
+     * @return this parameters.
+     */
+    public ParallelParameters setOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and timings of the parses of an engine, by phase and by column.<br/>
+ * The metrics are activated by {@link MotorParametersBuilder#setMetrics(ParseMetrics)}, they are shared by all
+ * the reads of the engine, including the parallel ones : the counters are {@link LongAdder}, so the threads
+ * don't contend on them.<br/>
+ * The operations are always counted, but only one operation on {@link #getSamplingPeriod()} (chosen at random)
+ * is timed, so the metrics are cheap enough to stay active in production :
+ * {@link Timing#getEstimatedNanos()} extrapolates the time of all the operations.<br/>
+ * Example : {@code EngineParameters.createBuilder().setMetrics(metrics).build()}, then
+ * {@code metrics.getTiming(ParseMetrics.Phase.ADAPTER).getEstimatedNanos()}.<br/><br/>
+ * <i><u>French :</i> Compteurs et temps des lectures d'un moteur, par phase et par colonne.<br/>
+ * Les métriques sont activées par {@link MotorParametersBuilder#setMetrics(ParseMetrics)}, elles sont partagées
+ * par toutes les lectures du moteur, y compris les lectures parallèles : les compteurs sont des
+ * {@link LongAdder}, les threads ne se disputent donc pas ces compteurs.<br/>
+ * Les opérations sont toujours comptées, mais seule une opération sur {@link #getSamplingPeriod()} (choisie au
+ * hasard) est chronométrée, les métriques sont ainsi assez légères pour rester actives en production :
+ * {@link Timing#getEstimatedNanos()} extrapole le temps de toutes les opérations.
+ *
+ * @author ybonnel
+ */
+public class ParseMetrics {
+
+    /**
+     * Phases of a parse.
+     */
+    public enum Phase {
+        /**
+         * Read of a record by the CsvReader (tokenizing and filter of the rows).
+         */
+        READ,
+        /**
+         * Instantiation of the object by the constructor of the class.
+         */
+        INSTANTIATION,
+        /**
+         * Parse of the values by the adapters, all columns.
+         */
+        ADAPTER,
+        /**
+         * Validation of the values by the validators, all columns.
+         */
+        VALIDATION,
+        /**
+         * Call of the handler on an object (only for the reads with an handler).
+         */
+        HANDLER
+    }
+
+    /**
+     * Count and time of an operation.
+     */
+    public static final class Timing {
+
+        /**
+         * Number of operations.
+         */
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * Number of operations timed.
+         */
+        private final LongAdder sampledCount = new LongAdder();
+
+        /**
+         * Time of the operations timed, in nanoseconds.
+         */
+        private final LongAdder nanos = new LongAdder();
+
+        /**
+         * Private constructor.
+         */
+        private Timing() {
+        }
+
+        /**
+         * <b>Used by the engine.</b><br/>
+         * Record the end of an operation.
+         *
+         * @param start value of {@link ParseMetrics#start()} at the start of the operation.
+         */
+        public void end(long start) {
+            count.increment();
+            if (start != NOT_SAMPLED) {
+                sampledCount.increment();
+                nanos.add(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Add the counters of another timing.
+         *
+         * @param timing the other timing.
+         */
+        private void add(Timing timing) {
+            count.add(timing.count.sum());
+            sampledCount.add(timing.sampledCount.sum());
+            nanos.add(timing.nanos.sum());
+        }
+
+        /**
+         * @return number of operations.
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * @return number of operations timed.
+         */
+        public long getSampledCount() {
+            return sampledCount.sum();
+        }
+
+        /**
+         * @return time of the operations timed, in nanoseconds.
+         */
+        public long getSampledNanos() {
+            return nanos.sum();
+        }
+
+        /**
+         * @return estimated time of all the operations, in nanoseconds.
+         */
+        public long getEstimatedNanos() {
+            long sampled = sampledCount.sum();
+            if (sampled == 0) {
+                return 0;
+            }
+            return (long) ((double) nanos.sum() * count.sum() / sampled);
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + getCount() + ", sampled=" + getSampledCount() + ", estimatedNanos="
+                    + getEstimatedNanos();
+        }
+    }
+
+    /**
+     * Metrics of a column.
+     */
+    public static final class ColumnMetrics {
+
+        /**
+         * Timing of the adapter.
+         */
+        private final Timing adapter = new Timing();
+
+        /**
+         * Timing of the validators.
+         */
+        private final Timing validation = new Timing();
+
+        /**
+         * Number of values in error.
+         */
+        private final LongAdder errors = new LongAdder();
+
+        /**
+         * Private constructor.
+         */
+        private ColumnMetrics() {
+        }
+
+        /**
+         * @return timing of the adapter of the column.
+         */
+        public Timing getAdapter() {
+            return adapter;
+        }
+
+        /**
+         * @return timing of the validators of the column.
+         */
+        public Timing getValidation() {
+            return validation;
+        }
+
+        /**
+         * <b>Used by the engine.</b><br/>
+         * Count a value in error.
+         */
+        public void addError() {
+            errors.increment();
+        }
+
+        /**
+         * @return number of values in error (adapter, validator or missing mandatory value).
+         */
+        public long getNbErrors() {
+            return errors.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "adapter(" + adapter + "), validation(" + validation + "), errors=" + getNbErrors();
+        }
+    }
+
+    /**
+     * Value of {@link #start()} for an operation not timed.
+     */
+    public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    /**
+     * Default sampling period : one operation on 16 is timed.
+     */
+    public static final int DEFAULT_SAMPLING_PERIOD = 16;
+
+    /**
+     * One operation on samplingPeriod is timed.
+     */
+    private final int samplingPeriod;
+
+    /**
+     * Timing by phase.
+     */
+    private final Timing[] timings = new Timing[Phase.values().length];
+
+    /**
+     * Metrics by name of column.
+     */
+    private final ConcurrentMap<String, ColumnMetrics> columns = new ConcurrentHashMap<String, ColumnMetrics>();
+
+    /**
+     * Number of lines in error.
+     */
+    private final LongAdder linesInError = new LongAdder();
+
+    /**
+     * Constructor with the sampling period {@link #DEFAULT_SAMPLING_PERIOD}.
+     */
+    public ParseMetrics() {
+        this(DEFAULT_SAMPLING_PERIOD);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param samplingPeriod one operation on samplingPeriod is timed, 1 to time all the operations.
+     */
+    public ParseMetrics(int samplingPeriod) {
+        if (samplingPeriod <= 0) {
+            throw new IllegalArgumentException("The sampling period must be positive");
+        }
+        this.samplingPeriod = samplingPeriod;
+        for (int index = 0; index < timings.length; index++) {
+            timings[index] = new Timing();
+        }
+    }
+
+    /**
+     * @return one operation on samplingPeriod is timed.
+     */
+    public int getSamplingPeriod() {
+        return samplingPeriod;
+    }
+
+    /**
+     * <b>Used by the engine.</b><br/>
+     * Start an operation : the operation is timed or not according to the sampling period.
+     *
+     * @return the current time if the operation is timed, {@link #NOT_SAMPLED} otherwise.
+     */
+    public long start() {
+        if (samplingPeriod == 1 || ThreadLocalRandom.current().nextInt(samplingPeriod) == 0) {
+            return System.nanoTime();
+        }
+        return NOT_SAMPLED;
+    }
+
+    /**
+     * Get the timing of a phase.<br/>
+     * The timings of the phases {@link Phase#ADAPTER} and {@link Phase#VALIDATION} are the sums of the columns,
+     * computed at each call.
+     *
+     * @param phase the phase.
+     * @return the timing.
+     */
+    public Timing getTiming(Phase phase) {
+        if (phase == Phase.ADAPTER || phase == Phase.VALIDATION) {
+            Timing sum = new Timing();
+            for (ColumnMetrics column : columns.values()) {
+                sum.add(phase == Phase.ADAPTER ? column.adapter : column.validation);
+            }
+            return sum;
+        }
+        return timings[phase.ordinal()];
+    }
+
+    /**
+     * Get the metrics of a column, they are created at the first call.
+     *
+     * @param columnName name of the column.
+     * @return the metrics of the column.
+     */
+    public ColumnMetrics getColumn(String columnName) {
+        ColumnMetrics column = columns.get(columnName);
+        if (column == null) {
+            column = columns.computeIfAbsent(columnName, name -> new ColumnMetrics());
+        }
+        return column;
+    }
+
+    /**
+     * @return names of the columns with metrics.
+     */
+    public List<String> getColumnNames() {
+        return new ArrayList<String>(columns.keySet());
+    }
+
+    /**
+     * <b>Used by the engine.</b><br/>
+     * Count a line in error.
+     */
+    public void addLineInError() {
+        linesInError.increment();
+    }
+
+    /**
+     * @return number of lines in error.
+     */
+    public long getNbLinesInError() {
+        return linesInError.sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ParseMetrics[");
+        for (Phase phase : Phase.values()) {
+            builder.append(phase).append('(').append(getTiming(phase)).append("), ");
+        }
+        builder.append("linesInError=").append(getNbLinesInError());
+        for (String columnName : getColumnNames()) {
+            builder.append(", ").append(columnName).append('(').append(getColumn(columnName)).append(')');
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.model;
+
+/**
+ * Parameters of a pipelined parse : a thread reads the records, threads bind them to objects,
+ * and the calling thread gives the objects to the handler.<br/>
+ * Example : new PipelineParameters().setBindThreads(4).setOrdered(false).<br/><br/>
+ * <i><u>French :</i> Paramètres d'une lecture en pipeline : un thread lit les enregistrements, des threads
+ * les transforment en objets, et le thread appelant donne les objets au handler.
+ *
+ * @author ybonnel
+ */
+public class PipelineParameters {
+
+    /**
+     * Default number of records by chunk.
+     */
+    public static final int DEFAULT_RECORDS_BY_CHUNK = 256;
+
+    /**
+     * Default capacity of the queues.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+    /**
+     * Number of threads which bind the records.
+     */
+    private int bindThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
+
+    /**
+     * Number of records passed together between the stages.
+     */
+    private int recordsByChunk = DEFAULT_RECORDS_BY_CHUNK;
+
+    /**
+     * Capacity of the queues between the stages, in chunks.
+     */
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    /**
+     * True if the objects are handled in the order of the file.
+     */
+    private boolean ordered = true;
+
+    /**
+     * @return number of threads which bind the records.
+     */
+    public int getBindThreads() {
+        return bindThreads;
+    }
+
+    /**
+     * Number of threads which bind the records to objects (adapters and validators).<br/>
+     * By default the number of processors minus two (the reader and the handler), at least one.
+     *
+     * @param bindThreads number of threads.
+     * @return this parameters.
+     */
+    public PipelineParameters setBindThreads(int bindThreads) {
+        if (bindThreads <= 0) {
+            throw new IllegalArgumentException("The number of threads must be positive");
+        }
+        this.bindThreads = bindThreads;
+        return this;
+    }
+
+    /**
+     * @return number of records passed together between the stages.
+     */
+    public int getRecordsByChunk() {
+        return recordsByChunk;
+    }
+
+    /**
+     * Number of records passed together between the stages, to reduce the cost of the queues.<br/>
+     * By default {@link #DEFAULT_RECORDS_BY_CHUNK}.
+     *
+     * @param recordsByChunk number of records.
+     * @return this parameters.
+     */
+    public PipelineParameters setRecordsByChunk(int recordsByChunk) {
+        if (recordsByChunk <= 0) {
+            throw new IllegalArgumentException("The number of records by chunk must be positive");
+        }
+        this.recordsByChunk = recordsByChunk;
+        return this;
+    }
+
+    /**
+     * @return capacity of the queues between the stages, in chunks.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Capacity of the queues between the stages, in chunks : the reader waits when the queues are full,
+     * so the memory used is bounded even if the handler is slow.<br/>
+     * By default {@link #DEFAULT_QUEUE_CAPACITY}.
+     *
+     * @param queueCapacity capacity of the queues.
+     * @return this parameters.
+     */
+    public PipelineParameters setQueueCapacity(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the queues must be positive");
+        }
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * @return true if the objects are handled in the order of the file.
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Handle the objects in the order of the file, or as soon as they are bound.<br/>
+     * By default the order is kept.
+     *
+     * @param ordered true to keep the order of the file.
+     * @return this parameters.
+     */
+    public PipelineParameters setOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+}
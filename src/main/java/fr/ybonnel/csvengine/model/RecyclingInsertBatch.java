@@ -0,0 +1,32 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.model;
+
+/**
+ * Handler for batch which doesn't keep the list of objects after {@link #handleBatch(java.util.List)} :
+ * the engine can then clear and reuse the list for an other batch, the lists are presized
+ * and no list is allocated by batch.<br/><br/>
+ * <i><u>French :</i> Traitement par lot qui ne garde pas la liste d'objets après
+ * {@link #handleBatch(java.util.List)} : le moteur peut alors vider et réutiliser la liste pour un autre lot,
+ * les listes sont pré-dimensionnées et aucune liste n'est allouée par lot.
+ *
+ * @param <T> class to handle.
+ *
+ * @author ybonnel
+ */
+public interface RecyclingInsertBatch<T> extends InsertBatch<T> {
+}
@@ -0,0 +1,99 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Filter of the rows of a CSV File, evaluated on the raw values of the columns before the construction of
+ * the object : the rows rejected are neither constructed, adapted or validated.<br/>
+ * A row is kept if all the predicates accept it. The columns filtered don't need to be mapped by the class.<br/>
+ * Example : new RowFilter().addEquals("status", "ACTIVE").<br/><br/>
+ * <i><u>French :</i> Filtre des lignes d'un fichier CSV, évalué sur les valeurs brutes des colonnes avant
+ * la construction de l'objet : les lignes rejetées ne sont ni construites, ni adaptées, ni validées.<br/>
+ * Une ligne est gardée si tous les prédicats l'acceptent. Les colonnes filtrées n'ont pas besoin d'être
+ * associées à la classe.
+ *
+ * @author ybonnel
+ */
+public class RowFilter {
+
+    /**
+     * Names of the columns filtered.
+     */
+    private final List<String> columnNames = new ArrayList<String>();
+
+    /**
+     * Predicates on the values of the columns.
+     */
+    private final List<Predicate<CharSequence>> predicates = new ArrayList<Predicate<CharSequence>>();
+
+    /**
+     * Add a predicate on the value of a column.<br/>
+     * The value is only valid during the call (it can be a view over the buffer of the reader),
+     * call toString() to keep it. An empty field has an empty value.
+     *
+     * @param columnName name of the column.
+     * @param predicate  predicate on the value.
+     * @return this filter.
+     */
+    public RowFilter add(String columnName, Predicate<CharSequence> predicate) {
+        columnNames.add(columnName);
+        predicates.add(predicate);
+        return this;
+    }
+
+    /**
+     * Keep only the rows where the column has a value.
+     *
+     * @param columnName name of the column.
+     * @param value      the value expected.
+     * @return this filter.
+     */
+    public RowFilter addEquals(String columnName, final String value) {
+        return add(columnName, fieldValue -> value.contentEquals(fieldValue));
+    }
+
+    /**
+     * @return number of predicates.
+     */
+    public int getNbPredicates() {
+        return predicates.size();
+    }
+
+    /**
+     * Get the name of the column of a predicate.
+     *
+     * @param index index of the predicate.
+     * @return the name of the column.
+     */
+    public String getColumnName(int index) {
+        return columnNames.get(index);
+    }
+
+    /**
+     * Get a predicate.
+     *
+     * @param index index of the predicate.
+     * @return the predicate.
+     */
+    public Predicate<CharSequence> getPredicate(int index) {
+        return predicates.get(index);
+    }
+}
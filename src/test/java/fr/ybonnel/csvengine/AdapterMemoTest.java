@@ -0,0 +1,101 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+
+import fr.ybonnel.csvengine.adapter.AdapterDate;
+import fr.ybonnel.csvengine.adapter.AdapterLocalDate;
+import fr.ybonnel.csvengine.adapter.AdapterMemo;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvFile;
+import fr.ybonnel.csvengine.annotation.CsvParam;
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.exception.InvalidParamException;
+import org.junit.Test;
+
+/**
+ * Test of {@link AdapterMemo}.
+ */
+public class AdapterMemoTest {
+
+	@CsvFile
+	public static class MemoObject {
+
+		@CsvColumn(value = "date", adapter = AdapterDate.class,
+				params = { @CsvParam(name = AdapterDate.PARAM_FORMAT, value = "dd/MM/yyyy"),
+						@CsvParam(name = AdapterMemo.PARAM_MEMO_SIZE, value = "16") })
+		public Date date;
+
+		@CsvColumn(value = "localDate", adapter = AdapterLocalDate.class,
+				params = { @CsvParam(name = AdapterMemo.PARAM_MEMO_SIZE, value = "16") })
+		public LocalDate localDate;
+	}
+
+	@CsvFile
+	public static class WrongMemoObject {
+
+		@CsvColumn(value = "localDate", adapter = AdapterLocalDate.class,
+				params = { @CsvParam(name = AdapterMemo.PARAM_MEMO_SIZE, value = "0") })
+		public LocalDate localDate;
+	}
+
+	@Test
+	public void testMemo() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(MemoObject.class);
+		List<MemoObject> objects = engine.parseInputStream(new StringStream("date,localDate\n"
+				+ "21/12/2012,2012-12-21\n22/12/2012,2012-12-22\n21/12/2012,2012-12-21\n21/12/2012,2012-12-22\n"),
+				MemoObject.class).getObjects();
+
+		assertEquals(4, objects.size());
+		SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy");
+		assertEquals("21/12/2012", format.format(objects.get(0).date));
+		assertEquals("22/12/2012", format.format(objects.get(1).date));
+		assertEquals("21/12/2012", format.format(objects.get(3).date));
+		assertEquals(objects.get(0).date, objects.get(2).date);
+		assertNotSame(objects.get(0).date, objects.get(2).date);
+		assertEquals(LocalDate.of(2012, 12, 22), objects.get(3).localDate);
+
+		AdapterMemo<?> dateMemo = (AdapterMemo<?>) engine.getAdapter(MemoObject.class, "date");
+		assertEquals(2, dateMemo.getHits());
+		assertEquals(2, dateMemo.getMisses());
+		assertTrue(dateMemo.getAdapter() instanceof AdapterDate);
+		AdapterMemo<?> localDateMemo = (AdapterMemo<?>) engine.getAdapter(MemoObject.class, "localDate");
+		assertEquals(2, localDateMemo.getHits());
+		assertEquals(2, localDateMemo.getMisses());
+	}
+
+	@Test
+	public void testWrongMemoSize() {
+		try {
+			new CsvEngine(WrongMemoObject.class);
+			fail("An exception must be throw");
+		} catch (CsvEngineException exception) {
+			assertEquals(InvalidParamException.class, exception.getCause().getClass());
+			assertTrue(exception.getCause().getMessage().contains(AdapterMemo.PARAM_MEMO_SIZE));
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import fr.ybonnel.csvengine.adapter.AdapterStringDictionary;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvFile;
+import fr.ybonnel.csvengine.annotation.CsvParam;
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.exception.InvalidParamException;
+import org.junit.Test;
+
+/**
+ * Test of {@link AdapterStringDictionary}.
+ */
+public class AdapterStringDictionaryTest {
+
+	@CsvFile
+	public static class DictionaryObject {
+
+		@CsvColumn(value = "country", adapter = AdapterStringDictionary.class,
+				params = @CsvParam(name = AdapterStringDictionary.PARAM_MAX_SIZE, value = "2"))
+		public String country;
+	}
+
+	@CsvFile
+	public static class TwoColumnsObject {
+
+		@CsvColumn(value = "id", adapter = AdapterStringDictionary.class,
+				params = @CsvParam(name = AdapterStringDictionary.PARAM_MAX_SIZE, value = "2"))
+		public String id;
+
+		@CsvColumn(value = "country", adapter = AdapterStringDictionary.class,
+				params = @CsvParam(name = AdapterStringDictionary.PARAM_MAX_SIZE, value = "2"))
+		public String country;
+	}
+
+	@CsvFile
+	public static class WrongDictionaryObject {
+
+		@CsvColumn(value = "country", adapter = AdapterStringDictionary.class,
+				params = @CsvParam(name = AdapterStringDictionary.PARAM_MAX_SIZE, value = "none"))
+		public String country;
+	}
+
+	@Test
+	public void testDictionary() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(DictionaryObject.class);
+		List<DictionaryObject> objects = engine.parseInputStream(new StringStream("country\n"
+				+ "France\nSpain\nFrance\nItaly\nSpain\nItaly\n"), DictionaryObject.class).getObjects();
+
+		assertEquals(6, objects.size());
+		assertEquals("France", objects.get(0).country);
+		assertSame(objects.get(0).country, objects.get(2).country);
+		assertSame(objects.get(1).country, objects.get(4).country);
+		assertEquals(objects.get(3).country, objects.get(5).country);
+		assertNotSame(objects.get(3).country, objects.get(5).country);
+
+		AdapterStringDictionary adapter =
+				(AdapterStringDictionary) engine.getAdapter(DictionaryObject.class, "country");
+		assertTrue(adapter.getSize() <= 2);
+	}
+
+	@Test
+	public void testDictionaryPerColumn() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(TwoColumnsObject.class, DictionaryObject.class);
+		List<TwoColumnsObject> objects = engine.parseInputStream(new StringStream("id,country\n"
+				+ "1,France\n2,Spain\n3,France\n4,Spain\n5,France\n"), TwoColumnsObject.class).getObjects();
+
+		assertEquals(5, objects.size());
+		assertSame(objects.get(0).country, objects.get(2).country);
+		assertSame(objects.get(0).country, objects.get(4).country);
+		assertSame(objects.get(1).country, objects.get(3).country);
+
+		AdapterStringDictionary idAdapter =
+				(AdapterStringDictionary) engine.getAdapter(TwoColumnsObject.class, "id");
+		AdapterStringDictionary countryAdapter =
+				(AdapterStringDictionary) engine.getAdapter(TwoColumnsObject.class, "country");
+		assertNotSame(idAdapter, countryAdapter);
+		assertNotSame(countryAdapter, engine.getAdapter(DictionaryObject.class, "country"));
+		assertEquals(2, idAdapter.getSize());
+		assertEquals(2, countryAdapter.getSize());
+	}
+
+	@Test
+	public void testWrongMaxSize() {
+		try {
+			new CsvEngine(WrongDictionaryObject.class);
+			fail("An exception must be throw");
+		} catch (CsvEngineException exception) {
+			assertEquals(InvalidParamException.class, exception.getCause().getClass());
+		}
+	}
+}
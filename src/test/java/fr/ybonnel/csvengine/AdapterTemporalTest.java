@@ -0,0 +1,146 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+import fr.ybonnel.csvengine.adapter.AdapterInstant;
+import fr.ybonnel.csvengine.adapter.AdapterLocalDate;
+import fr.ybonnel.csvengine.adapter.AdapterLocalDateTime;
+import fr.ybonnel.csvengine.adapter.AdapterOffsetDateTime;
+import fr.ybonnel.csvengine.adapter.AdapterTemporal;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvFile;
+import fr.ybonnel.csvengine.annotation.CsvParam;
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.exception.InvalidParamException;
+import fr.ybonnel.csvengine.model.Result;
+import org.junit.Test;
+
+/**
+ * Test of the java.time adapters.
+ */
+public class AdapterTemporalTest {
+
+	@CsvFile
+	public static class IsoObject {
+
+		@CsvColumn(value = "localDate", order = 0, adapter = AdapterLocalDate.class)
+		public LocalDate localDate;
+
+		@CsvColumn(value = "localDateTime", order = 1, adapter = AdapterLocalDateTime.class)
+		public LocalDateTime localDateTime;
+
+		@CsvColumn(value = "offsetDateTime", order = 2, adapter = AdapterOffsetDateTime.class)
+		public OffsetDateTime offsetDateTime;
+
+		@CsvColumn(value = "instant", order = 3, adapter = AdapterInstant.class)
+		public Instant instant;
+	}
+
+	@CsvFile
+	public static class FormatObject {
+
+		@CsvColumn(value = "localDate", order = 0, adapter = AdapterLocalDate.class,
+				params = { @CsvParam(name = AdapterTemporal.PARAM_FORMAT, value = "dd/MM/yyyy") })
+		public LocalDate localDate;
+
+		@CsvColumn(value = "instant", order = 1, adapter = AdapterInstant.class,
+				params = { @CsvParam(name = AdapterTemporal.PARAM_FORMAT, value = "dd/MM/yyyy HH:mm"),
+						@CsvParam(name = AdapterTemporal.PARAM_ZONE, value = "UTC") })
+		public Instant instant;
+	}
+
+	@CsvFile
+	public static class WrongFormatObject {
+
+		@CsvColumn(value = "localDate", adapter = AdapterLocalDate.class,
+				params = { @CsvParam(name = AdapterTemporal.PARAM_FORMAT, value = "dd/MM/yyyy{") })
+		public LocalDate localDate;
+	}
+
+	@Test
+	public void testIsoFormats() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(IsoObject.class);
+		Result<IsoObject> result = engine.parseInputStream(new StringStream(
+				"localDate,localDateTime,offsetDateTime,instant\n"
+						+ "2012-12-21,2012-12-21T10:15:30,2012-12-21T10:15:30+01:00,2012-12-21T10:15:30Z\n"),
+				IsoObject.class);
+		IsoObject object = result.getObjects().get(0);
+		assertEquals(LocalDate.of(2012, 12, 21), object.localDate);
+		assertEquals(LocalDateTime.of(2012, 12, 21, 10, 15, 30), object.localDateTime);
+		assertEquals(OffsetDateTime.of(2012, 12, 21, 10, 15, 30, 0, ZoneOffset.ofHours(1)), object.offsetDateTime);
+		assertEquals(OffsetDateTime.of(2012, 12, 21, 10, 15, 30, 0, ZoneOffset.UTC).toInstant(), object.instant);
+
+		StringWriter writer = new StringWriter();
+		engine.writeFile(writer, Collections.singletonList(object), IsoObject.class);
+		assertEquals("\"localDate\",\"localDateTime\",\"offsetDateTime\",\"instant\"\n"
+				+ "\"2012-12-21\",\"2012-12-21T10:15:30\",\"2012-12-21T10:15:30+01:00\",\"2012-12-21T10:15:30Z\"\n",
+				writer.toString());
+	}
+
+	@Test
+	public void testCustomFormats() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(FormatObject.class);
+		Result<FormatObject> result = engine.parseInputStream(
+				new StringStream("localDate,instant\n21/12/2012,21/12/2012 10:15\n"), FormatObject.class);
+		FormatObject object = result.getObjects().get(0);
+		assertEquals(LocalDate.of(2012, 12, 21), object.localDate);
+		assertEquals(OffsetDateTime.of(2012, 12, 21, 10, 15, 0, 0, ZoneOffset.UTC).toInstant(), object.instant);
+	}
+
+	@Test
+	public void testInvalidValues() {
+		CsvEngine engine = new CsvEngine(FormatObject.class, IsoObject.class);
+		try {
+			engine.parseInputStream(new StringStream("localDate,instant\n2012-12-21,\n"), FormatObject.class);
+			fail("An exception must be throw");
+		} catch (CsvErrorsExceededException exception) {
+			String message = exception.getErrors().get(0).getMessages().get(0);
+			assertTrue(message, message.contains("dd/MM/yyyy"));
+		}
+		try {
+			engine.parseInputStream(new StringStream("localDate\n2012-02-30\n"), IsoObject.class);
+			fail("An exception must be throw");
+		} catch (CsvErrorsExceededException exception) {
+			String message = exception.getErrors().get(0).getMessages().get(0);
+			assertTrue(message, message.contains("2012-02-30"));
+		}
+	}
+
+	@Test
+	public void testWrongFormat() {
+		try {
+			new CsvEngine(WrongFormatObject.class);
+			fail("An exception must be throw");
+		} catch (CsvEngineException exception) {
+			assertEquals(InvalidParamException.class, exception.getCause().getClass());
+			assertTrue(exception.getCause().getMessage().contains("dd/MM/yyyy{"));
+		}
+	}
+}
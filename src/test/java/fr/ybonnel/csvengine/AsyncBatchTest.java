@@ -0,0 +1,137 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvFile;
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.model.InsertBatch;
+import fr.ybonnel.csvengine.model.RecyclingInsertBatch;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test of the asynchronous handle of batches.
+ */
+public class AsyncBatchTest {
+
+	@CsvFile
+	public static class LineObject {
+
+		@CsvColumn("line")
+		public String line;
+	}
+
+	private static final String CONTENT;
+
+	static {
+		StringBuilder content = new StringBuilder("line\n");
+		for (int line = 0; line < 1005; line++) {
+			content.append("line").append(line).append('\n');
+		}
+		CONTENT = content.toString();
+	}
+
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void testAsyncBatches() throws CsvErrorsExceededException {
+		final AtomicInteger nbObjects = new AtomicInteger();
+		final AtomicInteger nbBatches = new AtomicInteger();
+		final AtomicInteger inFlight = new AtomicInteger();
+		final AtomicInteger maxInFlight = new AtomicInteger();
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		engine.parseFileAndHandleBatch(new StringReader(CONTENT), LineObject.class, new InsertBatch<LineObject>() {
+			public void handleBatch(List<LineObject> objects) {
+				int current = inFlight.incrementAndGet();
+				maxInFlight.set(Math.max(maxInFlight.get(), current));
+				try {
+					Thread.sleep(5);
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				}
+				nbObjects.addAndGet(objects.size());
+				nbBatches.incrementAndGet();
+				inFlight.decrementAndGet();
+			}
+		}, 100, executor, 2);
+		assertEquals(1005, nbObjects.get());
+		assertEquals(11, nbBatches.get());
+		assertTrue(maxInFlight.get() <= 2);
+	}
+
+	@Test
+	public void testRecyclingAsyncBatches() throws CsvErrorsExceededException {
+		final AtomicInteger nbObjects = new AtomicInteger();
+		final Set<List<LineObject>> lists = Collections.newSetFromMap(
+				new IdentityHashMap<List<LineObject>, Boolean>());
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		engine.parseFileAndHandleBatch(new StringReader(CONTENT), LineObject.class,
+				new RecyclingInsertBatch<LineObject>() {
+					public void handleBatch(List<LineObject> objects) {
+						synchronized (lists) {
+							lists.add(objects);
+						}
+						nbObjects.addAndGet(objects.size());
+					}
+				}, 100, executor, 2);
+		assertEquals(1005, nbObjects.get());
+		assertTrue(lists.size() <= 3);
+	}
+
+	@Test
+	public void testFailure() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		final IllegalStateException failure = new IllegalStateException("database down");
+		try {
+			engine.parseFileAndHandleBatch(new StringReader(CONTENT), LineObject.class,
+					new InsertBatch<LineObject>() {
+						public void handleBatch(List<LineObject> objects) {
+							throw failure;
+						}
+					}, 100, executor, 2);
+			fail("An exception must be throw");
+		} catch (CsvEngineException exception) {
+			assertEquals(failure, exception.getCause());
+		}
+	}
+}
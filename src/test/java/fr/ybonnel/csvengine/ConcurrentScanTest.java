@@ -0,0 +1,108 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import fr.ybonnel.csvengine.adapter.AdapterDate;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvParam;
+import fr.ybonnel.csvengine.annotation.CsvValidation;
+import fr.ybonnel.csvengine.annotation.CsvValidations;
+import fr.ybonnel.csvengine.model.CsvField;
+import fr.ybonnel.csvengine.validator.ValidatorSize;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test of the scan of classes by many threads : one adapter and one validator are created per type
+ * and parameters.
+ */
+public class ConcurrentScanTest {
+
+	private static final int NB_THREADS = 16;
+
+	private static final int NB_SCANS = 50;
+
+	public static class FirstObject {
+		@CsvValidation(value = ValidatorSize.class,
+				params = @CsvParam(name = ValidatorSize.PARAM_MAX_SIZE, value = "4217"))
+		@CsvColumn(value = "date", adapter = AdapterDate.class,
+				params = @CsvParam(name = AdapterDate.PARAM_FORMAT, value = "yyyy/dd/MM HH"))
+		public String date;
+	}
+
+	public static class SecondObject {
+		@CsvValidation(value = ValidatorSize.class,
+				params = @CsvParam(name = ValidatorSize.PARAM_MAX_SIZE, value = "4217"))
+		@CsvColumn(value = "otherDate", adapter = AdapterDate.class,
+				params = @CsvParam(name = AdapterDate.PARAM_FORMAT, value = "yyyy/dd/MM HH"))
+		public String otherDate;
+	}
+
+	private static CsvField scan(Field field) {
+		return new CsvField(field.getAnnotation(CsvColumn.class), field.getAnnotation(CsvValidations.class),
+				field.getAnnotation(CsvValidation.class), field);
+	}
+
+	@Test
+	public void testConcurrentScans() throws Exception {
+		final Field[] fields = {FirstObject.class.getField("date"), SecondObject.class.getField("otherDate")};
+		final CountDownLatch startGate = new CountDownLatch(1);
+		final ConcurrentLinkedQueue<CsvField> csvFields = new ConcurrentLinkedQueue<CsvField>();
+		final ConcurrentLinkedQueue<Throwable> exceptions = new ConcurrentLinkedQueue<Throwable>();
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int index = 0; index < NB_THREADS; index++) {
+			final Field field = fields[index % fields.length];
+			Thread thread = new Thread(() -> {
+				try {
+					startGate.await();
+					for (int scan = 0; scan < NB_SCANS; scan++) {
+						csvFields.add(scan(field));
+					}
+				} catch (Throwable exception) {
+					exceptions.add(exception);
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		startGate.countDown();
+		for (Thread thread : threads) {
+			thread.join(TimeUnit.SECONDS.toMillis(30));
+			assertTrue(!thread.isAlive());
+		}
+
+		assertTrue(exceptions.toString(), exceptions.isEmpty());
+		assertEquals(NB_THREADS * NB_SCANS, csvFields.size());
+		CsvField first = csvFields.peek();
+		assertEquals(1, first.getValidators().size());
+		for (CsvField csvField : csvFields) {
+			assertSame(first.getAdapterCsv(), csvField.getAdapterCsv());
+			assertEquals(1, csvField.getValidators().size());
+			assertSame(first.getValidators().get(0), csvField.getValidators().get(0));
+		}
+	}
+}
@@ -24,8 +24,10 @@ import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
 import fr.ybonnel.csvengine.factory.AbstractCsvReader;
 import fr.ybonnel.csvengine.factory.AbstractCsvWriter;
 import fr.ybonnel.csvengine.factory.CsvManagerFactory;
+import fr.ybonnel.csvengine.model.CloseableIterator;
 import fr.ybonnel.csvengine.model.EngineParameters;
 import fr.ybonnel.csvengine.model.InsertBatch;
+import fr.ybonnel.csvengine.model.RecyclingInsertBatch;
 import fr.ybonnel.csvengine.model.Result;
 import fr.ybonnel.csvengine.validator.ValidationError;
 import org.junit.Before;
@@ -36,6 +38,10 @@ import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.*;
 
@@ -513,6 +519,26 @@ public class CsvEngineTest {
         }
     }
 
+    @Test
+    public void testParseFileAndRecyclingBatch() throws CsvErrorsExceededException {
+        CsvEngine engine = new CsvEngine(SimpleObject.class);
+        final List<String> resultValues = new ArrayList<String>();
+        final List<List<SimpleObject>> lists = new ArrayList<List<SimpleObject>>();
+        engine.parseFileAndHandleBatch(new StringReader("att\nline1\nline2\nline3\nline4\nline5\n"),
+                SimpleObject.class, new RecyclingInsertBatch<SimpleObject>() {
+                    public void handleBatch(List<SimpleObject> objects) {
+                        lists.add(objects);
+                        for (SimpleObject object : objects) {
+                            resultValues.add(object.att);
+                        }
+                    }
+                }, 2);
+        assertEquals(Arrays.asList("line1", "line2", "line3", "line4", "line5"), resultValues);
+        assertEquals(3, lists.size());
+        assertSame(lists.get(0), lists.get(1));
+        assertSame(lists.get(0), lists.get(2));
+    }
+
     @Test
     public void testParseFileAndBatch() throws CsvErrorsExceededException {
         CsvEngine engine = new CsvEngine(SimpleObject.class);
@@ -591,6 +617,137 @@ public class CsvEngineTest {
         assertEquals("line4", result.getObjects().get(3).att);
     }
 
+    @Test
+    public void testParseFile() throws CsvErrorsExceededException, IOException {
+        File file = File.createTempFile("csvengine", ".csv");
+        file.deleteOnExit();
+        OutputStream outputStream = new FileOutputStream(file);
+        outputStream.write("att\nline1\n\"line\n2\"\n".getBytes("UTF-8"));
+        outputStream.close();
+        CsvEngine engine = new CsvEngine(SimpleObject.class);
+        Result<SimpleObject> result = engine.parseFile(file.toPath(), SimpleObject.class);
+        assertEquals(2, result.getObjects().size());
+        assertEquals("line1", result.getObjects().get(0).att);
+        assertEquals("line\n2", result.getObjects().get(1).att);
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    public void testIterator() {
+        CsvEngine engine = new CsvEngine(SimpleObject.class);
+        final boolean[] closed = {false};
+        Reader reader = new StringReader("att\nline1\nline2\nline3\n") {
+            @Override
+            public void close() {
+                closed[0] = true;
+                super.close();
+            }
+        };
+        CloseableIterator<SimpleObject> iterator = engine.iterator(reader, SimpleObject.class);
+        assertTrue(iterator.hasNext());
+        assertTrue(iterator.hasNext());
+        assertEquals("line1", iterator.next().att);
+        assertEquals("line2", iterator.next().att);
+        assertFalse(closed[0]);
+        iterator.close();
+        assertTrue(closed[0]);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testIteratorErrors() {
+        CsvEngine engine = new CsvEngine(EngineParameters.createBuilder().setNbLinesWithErrorsToStop(1).build(),
+                PrimitiveObject.class);
+        CloseableIterator<PrimitiveObject> iterator = engine.iterator(
+                new StringReader("int,double,boolean,long\n1,1.0,1,1\nx,2.0,1,2\n3,3.0,0,3\ny,4.0,1,4\n"),
+                PrimitiveObject.class);
+        assertEquals(1, iterator.next().intValue);
+        assertEquals(3, iterator.next().intValue);
+        assertEquals(1, iterator.getErrors().size());
+        try {
+            iterator.hasNext();
+            fail("An exception must be throw");
+        } catch (CsvEngineException exception) {
+            assertEquals(2, ((CsvErrorsExceededException) exception.getCause()).getErrors().size());
+        }
+    }
+
+    @Test
+    public void testUnmappedColumns() throws CsvErrorsExceededException {
+        CsvEngine engine = new CsvEngine(SimpleObject.class);
+        String csvContent = "other,att,another\nfoo,line1,bar\n,line2,\nfoo,,bar\n";
+
+        List<SimpleObject> objects = engine.parseInputStream(new StringStream(csvContent), SimpleObject.class)
+                .getObjects();
+        assertEquals(3, objects.size());
+        assertEquals("line1", objects.get(0).att);
+        assertEquals("line2", objects.get(1).att);
+        assertNull(objects.get(2).att);
+    }
+
+    @CsvFile
+    public static class PrimitiveObject {
+        @CsvColumn(value = "int", order = 0, adapter = AdapterInteger.class)
+        private int intValue;
+
+        @CsvColumn(value = "double", order = 1, adapter = AdapterDouble.class)
+        private double doubleValue;
+
+        @CsvColumn(value = "boolean", order = 2, adapter = AdapterBoolean.class)
+        private boolean booleanValue;
+
+        @CsvColumn(value = "long", order = 3, adapter = AdapterLong.class)
+        private long longValue;
+    }
+
+    @Test
+    public void testPrimitiveFields() throws CsvErrorsExceededException {
+        CsvEngine engine = new CsvEngine(
+                EngineParameters.createBuilder().setNbLinesWithErrorsToStop(1).build(), PrimitiveObject.class);
+        Result<PrimitiveObject> result = engine.parseInputStream(
+                new StringStream("int,double,boolean,long\n12,3.5,1,-9000000000\nnotAnInt,1.0,0,1\n"), PrimitiveObject.class);
+        assertEquals(1, result.getObjects().size());
+        assertEquals(12, result.getObjects().get(0).intValue);
+        assertEquals(3.5, result.getObjects().get(0).doubleValue, 0.0);
+        assertTrue(result.getObjects().get(0).booleanValue);
+        assertEquals(-9000000000L, result.getObjects().get(0).longValue);
+        assertEquals(1, result.getErrors().size());
+
+        StringWriter writer = new StringWriter();
+        engine.writeFile(writer, result.getObjects(), PrimitiveObject.class);
+        assertEquals("\"int\",\"double\",\"boolean\",\"long\"\n\"12\",\"3.5\",\"1\",\"-9000000000\"\n", writer.toString());
+    }
+
+    @Test
+    public void testConcurrentParse() throws Exception {
+        final CsvEngine engine = new CsvEngine(SimpleObject.class);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<SimpleObject>>> futures = new ArrayList<Future<List<SimpleObject>>>();
+            for (int task = 0; task < 16; task++) {
+                final StringBuilder csvContent = new StringBuilder("att\n");
+                for (int line = 0; line < 500; line++) {
+                    csvContent.append("task").append(task).append('_').append(line).append('\n');
+                }
+                futures.add(executor.submit(new Callable<List<SimpleObject>>() {
+                    public List<SimpleObject> call() throws Exception {
+                        return engine.parseInputStream(new StringStream(csvContent.toString()), SimpleObject.class)
+                                .getObjects();
+                    }
+                }));
+            }
+            for (int task = 0; task < 16; task++) {
+                List<SimpleObject> objects = futures.get(task).get();
+                assertEquals(500, objects.size());
+                for (int line = 0; line < 500; line++) {
+                    assertEquals("task" + task + '_' + line, objects.get(line).att);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testGetColumnNames() {
 
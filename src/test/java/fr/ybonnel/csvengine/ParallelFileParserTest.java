@@ -0,0 +1,176 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import fr.ybonnel.csvengine.adapter.AdapterInteger;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvFile;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.model.EngineParameters;
+import fr.ybonnel.csvengine.model.InsertInList;
+import fr.ybonnel.csvengine.model.ParallelParameters;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test of the parallel parse of a file.
+ */
+public class ParallelFileParserTest {
+
+	@CsvFile
+	public static class LineObject {
+
+		@CsvColumn(value = "number", adapter = AdapterInteger.class)
+		public int number;
+
+		@CsvColumn("text")
+		public String text;
+	}
+
+	private static final int NB_LINES = 2000;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ExecutorService executor;
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		executor = Executors.newFixedThreadPool(4);
+		StringBuilder content = new StringBuilder("number,text\n");
+		for (int line = 0; line < NB_LINES; line++) {
+			content.append(line).append(',');
+			if (line % 3 == 0) {
+				content.append("\"line ").append(line).append(" with \"\"quotes\"\",\nand a line feed\"");
+			} else {
+				content.append("line ").append(line).append(" é");
+			}
+			content.append(line % 2 == 0 ? "\n" : "\r\n");
+		}
+		file = folder.newFile("parallel.csv");
+		Files.write(file.toPath(), content.toString().getBytes("UTF-8"));
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	private static String expectedText(int line) {
+		return line % 3 == 0 ? "line " + line + " with \"quotes\",\nand a line feed" : "line " + line + " é";
+	}
+
+	@Test
+	public void testOrdered() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		List<LineObject> objects = new ArrayList<LineObject>();
+		assertTrue(engine.parseFileInParallel(file.toPath(), Charset.forName("UTF-8"), LineObject.class,
+				new InsertInList<LineObject>(objects), executor,
+				new ParallelParameters().setChunkSize(97).setMaxChunksInFlight(3)).isEmpty());
+		assertEquals(NB_LINES, objects.size());
+		for (int line = 0; line < NB_LINES; line++) {
+			assertEquals(line, objects.get(line).number);
+			assertEquals(expectedText(line), objects.get(line).text);
+		}
+	}
+
+	@Test
+	public void testUnordered() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		List<LineObject> objects = new ArrayList<LineObject>();
+		engine.parseFileInParallel(file.toPath(), Charset.forName("UTF-8"), LineObject.class,
+				new InsertInList<LineObject>(objects), executor,
+				new ParallelParameters().setChunkSize(1024).setOrdered(false));
+		List<Integer> numbers = new ArrayList<Integer>();
+		for (LineObject object : objects) {
+			assertEquals(expectedText(object.number), object.text);
+			numbers.add(object.number);
+		}
+		Collections.sort(numbers);
+		assertEquals(NB_LINES, numbers.size());
+		for (int line = 0; line < NB_LINES; line++) {
+			assertEquals(Integer.valueOf(line), numbers.get(line));
+		}
+	}
+
+	@Test
+	public void testErrors() throws IOException {
+		Files.write(file.toPath(), "number,text\n1,a\nnotAnInt,b\n3,c\n".getBytes("UTF-8"));
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		try {
+			engine.parseFileInParallel(file.toPath(), LineObject.class,
+					new InsertInList<LineObject>(new ArrayList<LineObject>()), executor);
+			fail("An exception must be throw");
+		} catch (CsvErrorsExceededException exception) {
+			assertEquals(1, exception.getErrors().size());
+		}
+	}
+
+	@Test
+	public void testCarriageReturnOnly() throws CsvErrorsExceededException, IOException {
+		StringBuilder content = new StringBuilder("number,text\r");
+		for (int line = 0; line < 100; line++) {
+			content.append(line).append(line % 5 == 0 ? ",\"quoted\rtext\"\r" : ",text\r");
+		}
+		Files.write(file.toPath(), content.toString().getBytes("UTF-8"));
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		for (int chunkSize : new int[] {5, 7, 64, 1024 * 1024}) {
+			List<LineObject> objects = new ArrayList<LineObject>();
+			assertTrue(engine.parseFileInParallel(file.toPath(), Charset.forName("UTF-8"), LineObject.class,
+					new InsertInList<LineObject>(objects), executor,
+					new ParallelParameters().setChunkSize(chunkSize)).isEmpty());
+			assertEquals(100, objects.size());
+			for (int line = 0; line < 100; line++) {
+				assertEquals(line, objects.get(line).number);
+				assertEquals(line % 5 == 0 ? "quoted\rtext" : "text", objects.get(line).text);
+			}
+		}
+	}
+
+	@Test
+	public void testNotSplittableCharset() throws CsvErrorsExceededException, IOException {
+		Files.write(file.toPath(), "number,text\n1,a\n2,b\n".getBytes("UTF-16"));
+		assertFalse(RecordBoundaries.isSplittable(Charset.forName("UTF-16")));
+		CsvEngine engine = new CsvEngine(
+				EngineParameters.createBuilder().setNbLinesWithErrorsToStop(-1).build(), LineObject.class);
+		List<LineObject> objects = new ArrayList<LineObject>();
+		engine.parseFileInParallel(file.toPath(), Charset.forName("UTF-16"), LineObject.class,
+				new InsertInList<LineObject>(objects), executor, new ParallelParameters().setChunkSize(4));
+		assertEquals(2, objects.size());
+		assertEquals("b", objects.get(1).text);
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import fr.ybonnel.csvengine.adapter.AdapterInteger;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvFile;
+import fr.ybonnel.csvengine.annotation.CsvParam;
+import fr.ybonnel.csvengine.annotation.CsvValidation;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.generator.CsvGenerator;
+import fr.ybonnel.csvengine.model.EngineParameters;
+import fr.ybonnel.csvengine.model.Error;
+import fr.ybonnel.csvengine.model.ParseMetrics;
+import fr.ybonnel.csvengine.model.ParseMetrics.Phase;
+import fr.ybonnel.csvengine.validator.ValidatorSize;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test of the metrics of the parses.
+ */
+public class ParseMetricsTest {
+
+	@CsvFile
+	public static class MetricsObject {
+
+		@CsvColumn(value = "number", adapter = AdapterInteger.class)
+		public int number;
+
+		@CsvColumn(value = "text", mandatory = true)
+		@CsvValidation(value = ValidatorSize.class, params = @CsvParam(name = ValidatorSize.PARAM_MAX_SIZE, value = "3"))
+		public String text;
+	}
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static CsvEngine engine(ParseMetrics metrics) {
+		return new CsvEngine(EngineParameters.createBuilder().setMetrics(metrics).setNbLinesWithErrorsToStop(-1)
+				.build(), MetricsObject.class);
+	}
+
+	@Test
+	public void testCounters() throws CsvErrorsExceededException {
+		ParseMetrics metrics = new ParseMetrics(1);
+		List<MetricsObject> objects = new ArrayList<MetricsObject>();
+		List<Error> errors = engine(metrics).parseFileAndInsert(
+				new StringReader("number,text\n1,a\nnotAnInt,b\n3,toolong\n4,\n5,e\n"), MetricsObject.class,
+				objects::add);
+		assertEquals(2, objects.size());
+		assertEquals(3, errors.size());
+		assertEquals(5, metrics.getTiming(Phase.READ).getCount());
+		assertEquals(5, metrics.getTiming(Phase.READ).getSampledCount());
+		assertEquals(5, metrics.getTiming(Phase.INSTANTIATION).getCount());
+		assertEquals(2, metrics.getTiming(Phase.HANDLER).getCount());
+		assertEquals(3, metrics.getNbLinesInError());
+		assertEquals(4, metrics.getColumn("number").getAdapter().getCount());
+		assertEquals(1, metrics.getColumn("number").getNbErrors());
+		assertEquals(3, metrics.getColumn("text").getAdapter().getCount());
+		assertEquals(3, metrics.getColumn("text").getValidation().getCount());
+		assertEquals(2, metrics.getColumn("text").getNbErrors());
+		assertEquals(7, metrics.getTiming(Phase.ADAPTER).getCount());
+		assertEquals(3, metrics.getTiming(Phase.VALIDATION).getCount());
+		assertTrue(metrics.getTiming(Phase.READ).getSampledNanos() > 0);
+	}
+
+	@Test
+	public void testSamplingInParallel() throws IOException, CsvErrorsExceededException {
+		ParseMetrics metrics = new ParseMetrics();
+		CsvEngine engine = engine(metrics);
+		Path file = folder.newFile("metrics.csv").toPath();
+		try (Writer writer = Files.newBufferedWriter(file, Charset.forName("UTF-8"))) {
+			new CsvGenerator<MetricsObject>(engine, MetricsObject.class, 42)
+					.setValueGenerator("text", random -> Integer.toString(random.nextInt(1000)))
+					.writeLines(writer, 20000);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			assertEquals(0, engine.parseFileInParallel(file, MetricsObject.class, object -> { }, executor).size());
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(20000, metrics.getTiming(Phase.READ).getCount());
+		assertEquals(20000, metrics.getTiming(Phase.HANDLER).getCount());
+		assertEquals(20000, metrics.getColumn("number").getAdapter().getCount());
+		long sampled = metrics.getTiming(Phase.INSTANTIATION).getSampledCount();
+		assertTrue(sampled > 0 && sampled < 20000 / 4);
+		assertTrue(metrics.getTiming(Phase.INSTANTIATION).getEstimatedNanos()
+				>= metrics.getTiming(Phase.INSTANTIATION).getSampledNanos());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBadSamplingPeriod() {
+		new ParseMetrics(0);
+	}
+}
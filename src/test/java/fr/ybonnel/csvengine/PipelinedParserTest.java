@@ -0,0 +1,176 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import fr.ybonnel.csvengine.adapter.AdapterInteger;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvFile;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.exception.StopParseException;
+import fr.ybonnel.csvengine.model.EngineParameters;
+import fr.ybonnel.csvengine.model.Error;
+import fr.ybonnel.csvengine.model.InsertBatch;
+import fr.ybonnel.csvengine.model.InsertInList;
+import fr.ybonnel.csvengine.model.InsertObject;
+import fr.ybonnel.csvengine.model.PipelineParameters;
+import fr.ybonnel.csvengine.model.RowFilter;
+import org.junit.Test;
+
+/**
+ * Test of the pipelined parse.
+ */
+public class PipelinedParserTest {
+
+	@CsvFile
+	public static class NumberObject {
+
+		@CsvColumn(value = "number", adapter = AdapterInteger.class)
+		public int number;
+	}
+
+	private static String content(int nbLines, int errorEvery) {
+		StringBuilder content = new StringBuilder("number\n");
+		for (int line = 0; line < nbLines; line++) {
+			content.append(errorEvery > 0 && line % errorEvery == 0 ? "error" : String.valueOf(line)).append('\n');
+		}
+		return content.toString();
+	}
+
+	private static PipelineParameters parameters() {
+		return new PipelineParameters().setBindThreads(3).setRecordsByChunk(7).setQueueCapacity(2);
+	}
+
+	@Test
+	public void testOrdered() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(
+				EngineParameters.createBuilder().setNbLinesWithErrorsToStop(-1).build(), NumberObject.class);
+		List<NumberObject> objects = new ArrayList<NumberObject>();
+		List<Error> errors = engine.parseFileAndInsert(new StringReader(content(1000, 100)), NumberObject.class,
+				new InsertInList<NumberObject>(objects), null, parameters());
+		assertEquals(10, errors.size());
+		assertEquals("error", errors.get(0).getCsvLine());
+		assertEquals(990, objects.size());
+		int index = 0;
+		for (int line = 0; line < 1000; line++) {
+			if (line % 100 != 0) {
+				assertEquals(line, objects.get(index++).number);
+			}
+		}
+	}
+
+	@Test
+	public void testUnordered() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(NumberObject.class);
+		List<NumberObject> objects = new ArrayList<NumberObject>();
+		engine.parseFileAndInsert(new StringReader(content(1000, 0)), NumberObject.class,
+				new InsertInList<NumberObject>(objects), null, parameters().setOrdered(false));
+		List<Integer> numbers = new ArrayList<Integer>();
+		for (NumberObject object : objects) {
+			numbers.add(object.number);
+		}
+		Collections.sort(numbers);
+		assertEquals(1000, numbers.size());
+		for (int line = 0; line < 1000; line++) {
+			assertEquals(Integer.valueOf(line), numbers.get(line));
+		}
+	}
+
+	@Test
+	public void testErrorsExceeded() {
+		CsvEngine engine = new CsvEngine(
+				EngineParameters.createBuilder().setNbLinesWithErrorsToStop(2).build(), NumberObject.class);
+		List<NumberObject> objects = new ArrayList<NumberObject>();
+		try {
+			engine.parseFileAndInsert(new StringReader(content(1000, 100)), NumberObject.class,
+					new InsertInList<NumberObject>(objects), null, parameters());
+			fail("An exception must be throw");
+		} catch (CsvErrorsExceededException exception) {
+			assertEquals(3, exception.getErrors().size());
+			assertEquals(198, objects.size());
+		}
+	}
+
+	@Test
+	public void testBatchAndStop() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(NumberObject.class);
+		final List<Integer> batchSizes = new ArrayList<Integer>();
+		engine.parseFileAndHandleBatch(new StringReader(content(100, 0)), NumberObject.class,
+				new InsertBatch<NumberObject>() {
+					public void handleBatch(List<NumberObject> objects) {
+						batchSizes.add(objects.size());
+					}
+				}, 30, null, parameters());
+		assertEquals(4, batchSizes.size());
+		assertEquals(Integer.valueOf(10), batchSizes.get(3));
+
+		final List<NumberObject> objects = new ArrayList<NumberObject>();
+		engine.parseFileAndInsert(new StringReader(content(1000, 0)), NumberObject.class,
+				new InsertObject<NumberObject>() {
+					public void insertObject(NumberObject object) {
+						objects.add(object);
+						if (objects.size() == 50) {
+							throw new StopParseException();
+						}
+					}
+				}, null, parameters());
+		assertEquals(50, objects.size());
+	}
+
+	@Test
+	public void testReaderClosedOnStop() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(NumberObject.class);
+		final AtomicBoolean closed = new AtomicBoolean();
+		Reader reader = new StringReader(content(100000, 0)) {
+			@Override
+			public void close() {
+				super.close();
+				closed.set(true);
+			}
+		};
+		engine.parseFileAndInsert(reader, NumberObject.class, new InsertObject<NumberObject>() {
+			public void insertObject(NumberObject object) {
+				throw new StopParseException();
+			}
+		}, null, parameters());
+		assertTrue(closed.get());
+	}
+
+	@Test
+	public void testRowFilter() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(
+				EngineParameters.createBuilder().setNbLinesWithErrorsToStop(-1).build(), NumberObject.class);
+		List<NumberObject> objects = new ArrayList<NumberObject>();
+		List<Error> errors = engine.parseFileAndInsert(new StringReader(content(1000, 100)), NumberObject.class,
+				new InsertInList<NumberObject>(objects),
+				new RowFilter().add("number", value -> value.length() == 2), parameters());
+		assertEquals(0, errors.size());
+		assertEquals(90, objects.size());
+		assertEquals(10, objects.get(0).number);
+		assertEquals(99, objects.get(89).number);
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import fr.ybonnel.csvengine.adapter.AdapterInteger;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvFile;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import org.junit.Test;
+
+/**
+ * Test of the reactive publisher of the engine.
+ */
+public class PublisherTest {
+
+	@CsvFile
+	public static class LineObject {
+
+		@CsvColumn(value = "number", adapter = AdapterInteger.class)
+		public Integer number;
+	}
+
+	private static final Executor DIRECT = Runnable::run;
+
+	private static class TrackedReader extends StringReader {
+
+		private boolean closed;
+
+		TrackedReader(String content) {
+			super(content);
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+			super.close();
+		}
+	}
+
+	private static class TestSubscriber implements Flow.Subscriber<LineObject> {
+
+		private final long initialRequest;
+
+		private Flow.Subscription subscription;
+
+		private final List<Integer> numbers = new ArrayList<Integer>();
+
+		private Throwable error;
+
+		private boolean completed;
+
+		private final CountDownLatch terminated = new CountDownLatch(1);
+
+		TestSubscriber(long initialRequest) {
+			this.initialRequest = initialRequest;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(initialRequest);
+		}
+
+		@Override
+		public void onNext(LineObject item) {
+			numbers.add(item.number);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+			terminated.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+			terminated.countDown();
+		}
+	}
+
+	@Test
+	public void testDemand() {
+		TrackedReader reader = new TrackedReader("number\n1\n2\n3\n4\n");
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		TestSubscriber subscriber = new TestSubscriber(2);
+		engine.publisher(reader, LineObject.class, DIRECT).subscribe(subscriber);
+		assertEquals(2, subscriber.numbers.size());
+		subscriber.subscription.request(1);
+		assertEquals(3, subscriber.numbers.size());
+		assertFalse(subscriber.completed);
+		assertFalse(reader.closed);
+		subscriber.subscription.cancel();
+		assertTrue(reader.closed);
+		subscriber.subscription.request(1);
+		assertEquals(3, subscriber.numbers.size());
+		assertFalse(subscriber.completed);
+	}
+
+	@Test
+	public void testComplete() throws InterruptedException {
+		StringBuilder content = new StringBuilder("number\n");
+		for (int number = 0; number < 1000; number++) {
+			content.append(number).append('\n');
+		}
+		TrackedReader reader = new TrackedReader(content.toString());
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+		engine.publisher(reader, LineObject.class).subscribe(subscriber);
+		assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+		assertTrue(subscriber.completed);
+		assertEquals(1000, subscriber.numbers.size());
+		assertEquals(Integer.valueOf(999), subscriber.numbers.get(999));
+		assertTrue(reader.closed);
+	}
+
+	@Test
+	public void testErrors() {
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		TestSubscriber subscriber = new TestSubscriber(10);
+		engine.publisher(new StringReader("number\n1\nnotAnInt\n3\n"), LineObject.class, DIRECT).subscribe(subscriber);
+		assertEquals(1, subscriber.numbers.size());
+		assertTrue(subscriber.error instanceof CsvErrorsExceededException);
+	}
+
+	@Test
+	public void testBadRequestAndSecondSubscriber() {
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		Flow.Publisher<LineObject> publisher = engine.publisher(new StringReader("number\n1\n"), LineObject.class,
+				DIRECT);
+		TestSubscriber subscriber = new TestSubscriber(0);
+		publisher.subscribe(subscriber);
+		assertTrue(subscriber.error instanceof IllegalArgumentException);
+		TestSubscriber secondSubscriber = new TestSubscriber(1);
+		publisher.subscribe(secondSubscriber);
+		assertTrue(secondSubscriber.error instanceof IllegalStateException);
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.ybonnel.csvengine.adapter.AdapterInteger;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvFile;
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.model.InsertInList;
+import fr.ybonnel.csvengine.model.Result;
+import fr.ybonnel.csvengine.model.RowFilter;
+import org.junit.Test;
+
+/**
+ * Test of the filters of rows.
+ */
+public class RowFilterTest {
+
+	@CsvFile
+	public static class FilteredObject {
+
+		@CsvColumn("name")
+		public String name;
+
+		@CsvColumn(value = "age", adapter = AdapterInteger.class)
+		public int age;
+	}
+
+	private static final String CONTENT = "name,status,age\n"
+			+ "first,ACTIVE,20\n"
+			+ "second,INACTIVE,notAnInt\n"
+			+ "third,\"ACTIVE\",40\n"
+			+ "fourth,ACTIVE\n";
+
+	@Test
+	public void testFilter() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(FilteredObject.class);
+		Result<FilteredObject> result = engine.parseInputStream(new StringStream(CONTENT), Charset.forName("UTF-8"),
+				FilteredObject.class, new RowFilter().addEquals("status", "ACTIVE"));
+		assertEquals(0, result.getErrors().size());
+		assertEquals(3, result.getObjects().size());
+		assertEquals("first", result.getObjects().get(0).name);
+		assertEquals("third", result.getObjects().get(1).name);
+		assertEquals(40, result.getObjects().get(1).age);
+		assertEquals("fourth", result.getObjects().get(2).name);
+	}
+
+	@Test
+	public void testSeveralPredicates() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(FilteredObject.class);
+		List<FilteredObject> objects = new ArrayList<FilteredObject>();
+		engine.parseFileAndInsert(new StringReader(CONTENT), FilteredObject.class,
+				new InsertInList<FilteredObject>(objects), new RowFilter()
+						.addEquals("status", "ACTIVE")
+						.add("age", value -> value.length() > 0 && value.charAt(0) == '4'));
+		assertEquals(1, objects.size());
+		assertEquals("third", objects.get(0).name);
+	}
+
+	@Test
+	public void testUnknownColumn() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(FilteredObject.class);
+		try {
+			engine.parseInputStream(new StringStream(CONTENT), Charset.forName("UTF-8"), FilteredObject.class,
+					new RowFilter().addEquals("unknown", "ACTIVE"));
+			fail("An exception must be throw");
+		} catch (CsvEngineException exception) {
+			assertEquals("The column unknown of the filter isn't in the file", exception.getMessage());
+		}
+	}
+}
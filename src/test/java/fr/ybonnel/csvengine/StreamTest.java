@@ -0,0 +1,187 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import fr.ybonnel.csvengine.adapter.AdapterInteger;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvFile;
+import fr.ybonnel.csvengine.exception.CsvEngineException;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test of the streams of the engine.
+ */
+public class StreamTest {
+
+	@CsvFile
+	public static class LineObject {
+
+		@CsvColumn(value = "number", adapter = AdapterInteger.class)
+		public int number;
+
+		@CsvColumn("text")
+		public String text;
+	}
+
+	private static final int NB_LINES = 2000;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		StringBuilder content = new StringBuilder("number,text\n");
+		for (int line = 0; line < NB_LINES; line++) {
+			content.append(line).append(',');
+			if (line % 3 == 0) {
+				content.append("\"line ").append(line).append(" with\na line feed\"\n");
+			} else {
+				content.append("line ").append(line).append('\n');
+			}
+		}
+		file = folder.newFile("stream.csv");
+		Files.write(file.toPath(), content.toString().getBytes("UTF-8"));
+	}
+
+	@Test
+	public void testLazyReader() {
+		TrackedReader reader = new TrackedReader("number,text\n1,a\n2,b\n3,c\n");
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		try (Stream<LineObject> stream = engine.stream(reader, LineObject.class)) {
+			Iterator<LineObject> iterator = stream.iterator();
+			assertFalse(reader.closed);
+			assertEquals("a", iterator.next().text);
+			assertEquals("b", iterator.next().text);
+		}
+		assertTrue(reader.closed);
+	}
+
+	@Test
+	public void testLimit() {
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		try (Stream<LineObject> stream = engine.stream(file.toPath(), LineObject.class)) {
+			List<Integer> numbers = stream.limit(5).map(object -> object.number).collect(Collectors.toList());
+			assertEquals(5, numbers.size());
+			assertEquals(Integer.valueOf(4), numbers.get(4));
+		}
+	}
+
+	@Test
+	public void testParallel() {
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		try (Stream<LineObject> stream = engine.stream(file.toPath(), Charset.forName("UTF-8"),
+				LineObject.class, 97)) {
+			List<LineObject> objects = stream.parallel().collect(Collectors.toList());
+			assertEquals(NB_LINES, objects.size());
+			for (int line = 0; line < NB_LINES; line++) {
+				assertEquals(line, objects.get(line).number);
+				assertEquals(line % 3 == 0 ? "line " + line + " with\na line feed" : "line " + line,
+						objects.get(line).text);
+			}
+		}
+	}
+
+	@Test
+	public void testParallelShortCircuit() {
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		try (Stream<LineObject> stream = engine.stream(file.toPath(), Charset.forName("UTF-8"),
+				LineObject.class, 97)) {
+			assertEquals(1500, stream.parallel().filter(object -> object.number >= 1500).findFirst().get().number);
+		}
+	}
+
+	@Test
+	public void testSessionsClosedAtEndOfRange() throws IOException {
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		CsvSpliterator.Source<LineObject> source = new CsvSpliterator.Source<LineObject>(engine, LineObject.class,
+				FileChannel.open(file.toPath(), StandardOpenOption.READ), Charset.forName("UTF-8"), 97);
+		try (Stream<LineObject> stream = StreamSupport.stream(new CsvSpliterator<LineObject>(source), true)
+				.onClose(source::close)) {
+			assertEquals(NB_LINES, stream.count());
+			assertEquals(0, source.getNbOpenSessions());
+		}
+	}
+
+	@Test
+	public void testParallelCarriageReturnOnly() throws IOException {
+		Files.write(file.toPath(), "number,text\r1,a\r2,b\r".getBytes("UTF-8"));
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		try (Stream<LineObject> stream = engine.stream(file.toPath(), LineObject.class)) {
+			assertEquals(2, stream.count());
+		}
+		for (long chunkSize : new long[] {3, 1024}) {
+			try (Stream<LineObject> stream = engine.stream(file.toPath(), Charset.forName("UTF-8"),
+					LineObject.class, chunkSize)) {
+				List<LineObject> objects = stream.parallel().collect(Collectors.toList());
+				assertEquals(2, objects.size());
+				assertEquals("b", objects.get(1).text);
+			}
+		}
+	}
+
+	@Test
+	public void testErrors() throws IOException {
+		Files.write(file.toPath(), "number,text\n1,a\nnotAnInt,b\n3,c\n".getBytes("UTF-8"));
+		CsvEngine engine = new CsvEngine(LineObject.class);
+		try (Stream<LineObject> stream = engine.stream(file.toPath(), LineObject.class)) {
+			stream.count();
+			fail("An exception must be throw");
+		} catch (CsvEngineException exception) {
+			assertTrue(exception.getCause() instanceof CsvErrorsExceededException);
+			assertEquals(1, ((CsvErrorsExceededException) exception.getCause()).getErrors().size());
+		}
+	}
+
+	private static class TrackedReader extends StringReader {
+
+		private boolean closed;
+
+		TrackedReader(String content) {
+			super(content);
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+			super.close();
+		}
+	}
+}
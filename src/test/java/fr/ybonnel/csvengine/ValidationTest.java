@@ -23,6 +23,8 @@ import fr.ybonnel.csvengine.exception.CsvEngineException;
 import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
 import fr.ybonnel.csvengine.model.EngineParameters;
 import fr.ybonnel.csvengine.model.Error;
+import fr.ybonnel.csvengine.model.InsertInList;
+import fr.ybonnel.csvengine.model.PipelineParameters;
 import fr.ybonnel.csvengine.model.Result;
 import fr.ybonnel.csvengine.validator.ValidateException;
 import fr.ybonnel.csvengine.validator.ValidatorCsv;
@@ -30,6 +32,10 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -441,4 +447,37 @@ public class ValidationTest {
 		}
 	}
 
+	@CsvFile
+	public static class ObjectWithUnmappedColumn {
+		@CsvColumn(value = "a", mandatory = true)
+		public String a;
+	}
+
+	/**
+	 * The columns not mapped are skipped by the reader, they must be unescaped in the line of the error.
+	 *
+	 * @throws CsvErrorsExceededException exception.
+	 */
+	@Test
+	public void testErrorLineWithUnmappedColumn() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(EngineParameters.createBuilder().setNbLinesWithErrorsToStop(-1).build(),
+				ObjectWithUnmappedColumn.class);
+		String content = "a,b\n,\"x,\"\"y\"\"\"\n";
+		List<Error> errors = engine.parseFileAndInsert(new StringReader(content), ObjectWithUnmappedColumn.class,
+				new InsertInList<ObjectWithUnmappedColumn>(new ArrayList<ObjectWithUnmappedColumn>()));
+		assertEquals(1, errors.size());
+		assertEquals(",x,\"y\"", errors.get(0).getCsvLine());
+
+		errors = engine.parseInputStream(new StringStream(content), Charset.forName("UTF-8"),
+				ObjectWithUnmappedColumn.class).getErrors();
+		assertEquals(1, errors.size());
+		assertEquals(",x,\"y\"", errors.get(0).getCsvLine());
+
+		errors = engine.parseFileAndInsert(new StringReader(content), ObjectWithUnmappedColumn.class,
+				new InsertInList<ObjectWithUnmappedColumn>(new ArrayList<ObjectWithUnmappedColumn>()), null,
+				new PipelineParameters());
+		assertEquals(1, errors.size());
+		assertEquals(",x,\"y\"", errors.get(0).getCsvLine());
+	}
+
 }
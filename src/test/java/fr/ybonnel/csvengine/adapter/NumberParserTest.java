@@ -0,0 +1,90 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.adapter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * Test of the class {@link NumberParser}.
+ */
+public class NumberParserTest {
+
+	private static void assertNotANumber(String value, boolean isDouble) {
+		try {
+			if (isDouble) {
+				NumberParser.parseDouble(value);
+			} else {
+				NumberParser.parseLong(value);
+			}
+			fail("An exception must be throw for " + value);
+		} catch (NumberFormatException exception) {
+			assertEquals(NumberFormatException.class, exception.getClass());
+		}
+	}
+
+	@Test
+	public void testParseInt() {
+		assertEquals(0, NumberParser.parseInt("0"));
+		assertEquals(42, NumberParser.parseInt("+42"));
+		assertEquals(-42, NumberParser.parseInt("-0042"));
+		assertEquals(Integer.MAX_VALUE, NumberParser.parseInt(String.valueOf(Integer.MAX_VALUE)));
+		assertEquals(Integer.MIN_VALUE, NumberParser.parseInt(String.valueOf(Integer.MIN_VALUE)));
+		try {
+			NumberParser.parseInt("2147483648");
+			fail("An exception must be throw");
+		} catch (NumberFormatException exception) {
+			assertEquals("For input string: \"2147483648\"", exception.getMessage());
+		}
+	}
+
+	@Test
+	public void testParseLong() {
+		assertEquals(Long.MAX_VALUE, NumberParser.parseLong(String.valueOf(Long.MAX_VALUE)));
+		assertEquals(Long.MIN_VALUE, NumberParser.parseLong(new StringBuilder(String.valueOf(Long.MIN_VALUE))));
+		assertNotANumber("", false);
+		assertNotANumber("-", false);
+		assertNotANumber("12a", false);
+		assertNotANumber(" 12", false);
+		assertNotANumber("9223372036854775808", false);
+		assertNotANumber("-9223372036854775809", false);
+	}
+
+	@Test
+	public void testUnicodeDigits() {
+		assertEquals(123, NumberParser.parseInt("\u0661\u0662\u0663"));
+		assertEquals(-123L, NumberParser.parseLong("-\u0661\u0662\u0663"));
+		assertEquals(Long.parseLong("1\u0662\u0663"), NumberParser.parseLong("1\u0662\u0663"));
+		assertNotANumber("1\u00e93", false);
+	}
+
+	@Test
+	public void testParseDouble() {
+		String[] values = {"0", "-0", "3.5", "-3.5", ".5", "5.", "0.1", "123456.789012345", "999999999999999",
+			"0.000000000000001", "1.7976931348623157E308", "1e-3", "12345678901234567890.5", " 2.5 ", "NaN"};
+		for (String value : values) {
+			assertEquals(value, Double.doubleToLongBits(Double.parseDouble(value)),
+					Double.doubleToLongBits(NumberParser.parseDouble(value)));
+		}
+		assertNotANumber("", true);
+		assertNotANumber(".", true);
+		assertNotANumber("1.2.3", true);
+		assertNotANumber("abc", true);
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test of the scanners of special bytes : the scanner chosen by {@link ByteScanners}
+ * (vectorized if the Vector API is available) must find the same bytes as the scalar one.
+ */
+public class ByteScannerTest {
+
+	private static final byte[] ALPHABET = "abc,;\"\n\r é".getBytes(Charset.forName("UTF-8"));
+
+	private static byte[] randomBytes(Random random, int length, int specialFrequency) {
+		byte[] bytes = new byte[length];
+		for (int index = 0; index < length; index++) {
+			bytes[index] = random.nextInt(specialFrequency) == 0
+					? ALPHABET[random.nextInt(ALPHABET.length)] : (byte) ('a' + random.nextInt(26));
+		}
+		return bytes;
+	}
+
+	@Test
+	public void testSameResultsAsScalar() {
+		ByteScanner scanner = ByteScanners.vectorOrScalar();
+		Random random = new Random(42);
+		for (int specialFrequency : new int[]{2, 40, 1000}) {
+			byte[] bytes = randomBytes(random, 1000, specialFrequency);
+			for (int from = 0; from < 200; from++) {
+				for (int to : new int[]{from, from + 1, from + 31, from + 64, from + 65, bytes.length}) {
+					assertEquals(ByteScanners.SCALAR.indexOfEndOfField(bytes, from, to, (byte) ','),
+							scanner.indexOfEndOfField(bytes, from, to, (byte) ','));
+					assertEquals(ByteScanners.SCALAR.indexOfQuote(bytes, from, to),
+							scanner.indexOfQuote(bytes, from, to));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testReaderWithBothScanners() throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (int line = 0; line < 200; line++) {
+			content.append("field").append(line).append(",\"a long quoted field, with \"\"quotes\"\" and\na line feed ")
+					.append(line).append("\",é\n");
+		}
+		byte[] bytes = content.toString().getBytes(Charset.forName("UTF-8"));
+		List<String[]> scalarRecords = readAll(bytes, ByteScanners.SCALAR);
+		List<String[]> records = readAll(bytes, ByteScanners.vectorOrScalar());
+		assertEquals(200, records.size());
+		for (int line = 0; line < 200; line++) {
+			assertArrayEquals(scalarRecords.get(line), records.get(line));
+		}
+		assertEquals("a long quoted field, with \"quotes\" and\na line feed 199", records.get(199)[1]);
+	}
+
+	private static List<String[]> readAll(byte[] bytes, ByteScanner scanner) throws IOException {
+		NativeByteCsvReader reader = new NativeByteCsvReader(new ByteArrayInputStream(bytes),
+				Charset.forName("UTF-8"), ',', 100, scanner);
+		List<String[]> records = new ArrayList<String[]>();
+		String[] record;
+		while ((record = reader.readLine()) != null) {
+			records.add(record);
+		}
+		return records;
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test of the class {@link MappedFileReader}.
+ */
+public class MappedFileReaderTest {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private int nbFiles;
+
+	private File write(String content) throws IOException {
+		File file = folder.newFile("file" + nbFiles++ + ".csv");
+		Files.write(file.toPath(), content.getBytes(UTF_8));
+		return file;
+	}
+
+	private static String readAll(Reader reader, int bufferSize) throws IOException {
+		StringBuilder content = new StringBuilder();
+		char[] buffer = new char[bufferSize];
+		int nbRead;
+		while ((nbRead = reader.read(buffer, 0, bufferSize)) >= 0) {
+			content.append(buffer, 0, nbRead);
+		}
+		reader.close();
+		return content.toString();
+	}
+
+	@Test
+	public void testCharactersAcrossWindows() throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (int count = 0; count < 200; count++) {
+			content.append("é€😀a,");
+		}
+		File file = write(content.toString());
+		for (int windowSize : new int[]{4, 5, 7, 1024}) {
+			for (int bufferSize : new int[]{1, 3, 8192}) {
+				assertEquals(content.toString(), readAll(new MappedFileReader(file.toPath(), UTF_8, windowSize),
+						bufferSize));
+			}
+		}
+	}
+
+	@Test
+	public void testEmptyFile() throws IOException {
+		assertEquals("", readAll(new MappedFileReader(write("").toPath(), UTF_8), 16));
+	}
+
+	@Test
+	public void testNativeReader() throws IOException {
+		File file = write("a,\"b\nc\"\r\nd,é\n");
+		NativeCsvReader reader = new NativeCsvReader(new MappedFileReader(file.toPath(), UTF_8, 4), ',');
+		assertArrayEquals(new String[]{"a", "b\nc"}, reader.readLine());
+		assertArrayEquals(new String[]{"d", "é"}, reader.readLine());
+		assertNull(reader.readLine());
+		reader.close();
+	}
+
+	@Test
+	public void testByteReaderOverWindows() throws IOException {
+		File file = write("a,\"b\nc\"\r\nd,é😀\n");
+		for (int windowSize : new int[]{1, 3, 1024}) {
+			NativeByteCsvReader reader = new NativeByteCsvReader(
+					new MappedFileInputStream(file.toPath(), windowSize), UTF_8, ',', 2);
+			assertArrayEquals(new String[]{"a", "b\nc"}, reader.readLine());
+			assertArrayEquals(new String[]{"d", "é😀"}, reader.readLine());
+			assertNull(reader.readLine());
+			reader.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWindowTooSmall() throws IOException {
+		new MappedFileReader(write("a").toPath(), Charset.forName("UTF-16"), 1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWindowSmallerThanSurrogatePair() throws IOException {
+		new MappedFileReader(write("😀abc").toPath(), UTF_8, 3);
+	}
+
+	@Test(timeout = 10000)
+	public void testSurrogatePairInSmallestWindow() throws IOException {
+		File file = write("😀abc😀");
+		for (int bufferSize : new int[]{1, 2, 16}) {
+			assertEquals("😀abc😀", readAll(new MappedFileReader(file.toPath(), UTF_8,
+					MappedFileReader.MIN_WINDOW_SIZE), bufferSize));
+		}
+	}
+}
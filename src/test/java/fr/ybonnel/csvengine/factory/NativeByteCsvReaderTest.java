@@ -0,0 +1,95 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import org.junit.Test;
+
+/**
+ * Test of the class {@link NativeByteCsvReader}.
+ */
+public class NativeByteCsvReaderTest {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private static NativeByteCsvReader reader(String content, int bufferSize) {
+		return new NativeByteCsvReader(new ByteArrayInputStream(content.getBytes(UTF_8)), UTF_8, ',', bufferSize);
+	}
+
+	@Test
+	public void testFieldsAndLineBreaks() throws IOException {
+		NativeByteCsvReader reader = reader("a,b,c\r\n1,,3\r\n\n,,\rx", 16384);
+		assertArrayEquals(new String[]{"a", "b", "c"}, reader.readLine());
+		assertArrayEquals(new String[]{"1", "", "3"}, reader.readLine());
+		assertArrayEquals(new String[]{"", "", ""}, reader.readLine());
+		assertArrayEquals(new String[]{"x"}, reader.readLine());
+		assertNull(reader.readLine());
+	}
+
+	@Test
+	public void testQuotedAndNonAsciiFields() throws IOException {
+		NativeByteCsvReader reader = reader("\"a,b\",\"say \"\"héllo\"\"\",\"\"\n\"multi\nline €\",😀x\n", 3);
+		assertArrayEquals(new String[]{"a,b", "say \"héllo\"", ""}, reader.readLine());
+		assertArrayEquals(new String[]{"multi\nline €", "😀x"}, reader.readLine());
+		assertNull(reader.readLine());
+	}
+
+	@Test
+	public void testRecordApi() throws IOException {
+		NativeByteCsvReader reader = reader("12,\"3\"\"4\",é\n", 16384);
+		assertTrue(reader.nextRecord());
+		assertEquals(3, reader.getNbFields());
+		CharSequence field = reader.getField(1);
+		assertEquals(3, field.length());
+		assertEquals('"', field.charAt(1));
+		assertEquals("3\"4", field.toString());
+		assertEquals("2", reader.getField(0).subSequence(1, 2).toString());
+		assertEquals("é", reader.getField(2).toString());
+		assertFalse(reader.nextRecord());
+	}
+
+	@Test
+	public void testSelectColumns() throws IOException {
+		NativeByteCsvReader reader = reader("\"a,\"\"b\",c,ab\"c,d\n\"x\ny\",\"z\"\n", 5);
+		reader.selectColumns(new boolean[]{false, true, false, true});
+		assertArrayEquals(new String[]{"\"a,\"\"b\"", "c", "ab\"c", "d"}, reader.readLine());
+		assertArrayEquals(new String[]{"\"x\ny\"", "z"}, reader.readLine());
+		assertNull(reader.readLine());
+	}
+
+	@Test
+	public void testAsciiCompatible() {
+		assertTrue(NativeByteCsvReader.isAsciiCompatible(UTF_8));
+		assertTrue(NativeByteCsvReader.isAsciiCompatible(Charset.forName("ISO-8859-15")));
+		assertTrue(NativeByteCsvReader.isAsciiCompatible(Charset.forName("windows-1252")));
+		assertFalse(NativeByteCsvReader.isAsciiCompatible(Charset.forName("UTF-16")));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNotAsciiCompatible() {
+		new NativeByteCsvReader(new ByteArrayInputStream(new byte[0]), Charset.forName("UTF-16"), ',');
+	}
+}
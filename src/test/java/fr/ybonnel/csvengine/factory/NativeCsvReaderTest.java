@@ -0,0 +1,117 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.factory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+/**
+ * Test of the class {@link NativeCsvReader}.
+ */
+public class NativeCsvReaderTest {
+
+	private static NativeCsvReader reader(String content) {
+		return new NativeCsvReader(new StringReader(content), ',');
+	}
+
+	@Test
+	public void testSimpleFields() throws IOException {
+		NativeCsvReader reader = reader("a,b,c\n1,,3\n,,\n");
+		assertArrayEquals(new String[]{"a", "b", "c"}, reader.readLine());
+		assertArrayEquals(new String[]{"1", "", "3"}, reader.readLine());
+		assertArrayEquals(new String[]{"", "", ""}, reader.readLine());
+		assertNull(reader.readLine());
+	}
+
+	@Test
+	public void testLineBreaks() throws IOException {
+		NativeCsvReader reader = reader("a,b\r\nc,d\re,f\n\n\r\n\ng,h");
+		assertArrayEquals(new String[]{"a", "b"}, reader.readLine());
+		assertArrayEquals(new String[]{"c", "d"}, reader.readLine());
+		assertArrayEquals(new String[]{"e", "f"}, reader.readLine());
+		assertArrayEquals(new String[]{"g", "h"}, reader.readLine());
+		assertNull(reader.readLine());
+	}
+
+	@Test
+	public void testQuotedFields() throws IOException {
+		NativeCsvReader reader = reader("\"a,b\",\"say \"\"hello\"\"\",\"\"\n\"multi\nline\r\nvalue\",x\n");
+		assertArrayEquals(new String[]{"a,b", "say \"hello\"", ""}, reader.readLine());
+		assertArrayEquals(new String[]{"multi\nline\r\nvalue", "x"}, reader.readLine());
+		assertNull(reader.readLine());
+	}
+
+	@Test
+	public void testLenientQuotes() throws IOException {
+		NativeCsvReader reader = reader("ab\"c,\"de\"f,\"unclosed");
+		assertArrayEquals(new String[]{"ab\"c", "def", "unclosed"}, reader.readLine());
+		assertNull(reader.readLine());
+	}
+
+	@Test
+	public void testRecordBiggerThanBuffer() throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (int count = 0; count < 100; count++) {
+			content.append("\"field ").append(count).append(" with \"\"quote\"\" and\nline break\",");
+		}
+		content.append("last\nnext");
+		NativeCsvReader reader = new NativeCsvReader(new StringReader(content.toString()), ',', 7);
+		String[] fields = reader.readLine();
+		for (int count = 0; count < 100; count++) {
+			assertEquals("field " + count + " with \"quote\" and\nline break", fields[count]);
+		}
+		assertEquals("last", fields[100]);
+		assertArrayEquals(new String[]{"next"}, reader.readLine());
+		assertNull(reader.readLine());
+	}
+
+	@Test
+	public void testRecordApi() throws IOException {
+		NativeCsvReader reader = reader("12,\"3\"\"4\",\n");
+		assertTrue(reader.nextRecord());
+		assertEquals(3, reader.getNbFields());
+		CharSequence field = reader.getField(1);
+		assertEquals(3, field.length());
+		assertEquals('"', field.charAt(1));
+		assertEquals("3\"4", field.toString());
+		assertEquals("2", reader.getField(0).subSequence(1, 2).toString());
+		assertEquals(0, reader.getField(2).length());
+		assertFalse(reader.nextRecord());
+	}
+
+	@Test
+	public void testSelectColumns() throws IOException {
+		NativeCsvReader reader = reader("\"a,\"\"b\",c,ab\"c,d\n\"x\ny\",\"z\"\n");
+		reader.selectColumns(new boolean[]{false, true, false, true});
+		assertArrayEquals(new String[]{"\"a,\"\"b\"", "c", "ab\"c", "d"}, reader.readLine());
+		assertArrayEquals(new String[]{"\"x\ny\"", "z"}, reader.readLine());
+		assertNull(reader.readLine());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testQuoteAsSeparator() {
+		new NativeCsvReader(new StringReader(""), '"');
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contributors:
+ *     ybonnel - initial API and implementation
+ */
+package fr.ybonnel.csvengine.generator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import fr.ybonnel.csvengine.CsvEngine;
+import fr.ybonnel.csvengine.adapter.AdapterBoolean;
+import fr.ybonnel.csvengine.adapter.AdapterDouble;
+import fr.ybonnel.csvengine.adapter.AdapterInteger;
+import fr.ybonnel.csvengine.adapter.AdapterLocalDate;
+import fr.ybonnel.csvengine.annotation.CsvColumn;
+import fr.ybonnel.csvengine.annotation.CsvFile;
+import fr.ybonnel.csvengine.annotation.CsvValidation;
+import fr.ybonnel.csvengine.exception.CsvErrorsExceededException;
+import fr.ybonnel.csvengine.model.EngineParameters;
+import fr.ybonnel.csvengine.model.Result;
+import fr.ybonnel.csvengine.validator.ValidatorEmail;
+import org.junit.Test;
+
+/**
+ * Test of the class {@link CsvGenerator}.
+ */
+public class CsvGeneratorTest {
+
+	@CsvFile(separator = ";")
+	public static class GeneratedObject {
+
+		@CsvColumn(value = "id", adapter = AdapterInteger.class, order = 0)
+		public int id;
+
+		@CsvColumn(value = "name", mandatory = true, order = 1)
+		public String name;
+
+		@CsvColumn(value = "email", order = 2)
+		@CsvValidation(ValidatorEmail.class)
+		public String email;
+
+		@CsvColumn(value = "amount", adapter = AdapterDouble.class, order = 3)
+		public Double amount;
+
+		@CsvColumn(value = "active", adapter = AdapterBoolean.class, order = 4)
+		public boolean active;
+
+		@CsvColumn(value = "day", adapter = AdapterLocalDate.class, order = 5)
+		public LocalDate day;
+
+		@CsvColumn(value = "comment", order = 6)
+		public String comment;
+	}
+
+	private static final int NB_LINES = 2000;
+
+	private static CsvGenerator<GeneratedObject> generator(CsvEngine engine, long seed) {
+		return new CsvGenerator<GeneratedObject>(engine, GeneratedObject.class, seed)
+				.setValueGenerator("email", random -> "user" + random.nextInt(100000) + "@example.com");
+	}
+
+	private static String read(Reader reader) throws IOException {
+		StringBuilder content = new StringBuilder();
+		char[] buffer = new char[1000];
+		int nbRead;
+		while ((nbRead = reader.read(buffer)) != -1) {
+			content.append(buffer, 0, nbRead);
+		}
+		return content.toString();
+	}
+
+	private static Result<GeneratedObject> parse(CsvEngine engine, Reader reader)
+			throws CsvErrorsExceededException {
+		Result<GeneratedObject> result = new Result<GeneratedObject>();
+		result.getErrors().addAll(engine.parseFileAndInsert(reader, GeneratedObject.class,
+				result.getObjects()::add));
+		return result;
+	}
+
+	@Test
+	public void testReproducible() throws IOException {
+		CsvEngine engine = new CsvEngine(GeneratedObject.class);
+		String content = read(generator(engine, 42).setQuotingRatio(0.2).reader(NB_LINES));
+		assertTrue(content.startsWith("id;name;email;amount;active;day;comment\n"));
+		assertEquals(content, read(generator(engine, 42).setQuotingRatio(0.2).reader(NB_LINES)));
+		assertFalse(content.equals(read(generator(engine, 43).setQuotingRatio(0.2).reader(NB_LINES))));
+		StringWriter writer = new StringWriter();
+		assertEquals(content.length(), generator(engine, 42).setQuotingRatio(0.2).writeLines(writer, NB_LINES));
+		assertEquals(content, writer.toString());
+	}
+
+	@Test
+	public void testShape() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(GeneratedObject.class);
+		Reader reader = generator(engine, 42).setQuotingRatio(0.3).setLineBreakRatio(0.2).setNullRatio(0.1)
+				.reader(NB_LINES);
+		Result<GeneratedObject> result = parse(engine, reader);
+		assertEquals(0, result.getErrors().size());
+		assertEquals(NB_LINES, result.getObjects().size());
+		boolean lineBreak = false;
+		boolean separatorAndQuote = false;
+		boolean nullValue = false;
+		for (GeneratedObject object : result.getObjects()) {
+			assertFalse(object.name.isEmpty());
+			lineBreak |= object.comment != null && object.comment.contains("\n");
+			separatorAndQuote |= object.comment != null && object.comment.contains("; \"");
+			nullValue |= object.day == null;
+		}
+		assertTrue(lineBreak);
+		assertTrue(separatorAndQuote);
+		assertTrue(nullValue);
+	}
+
+	@Test
+	public void testErrors() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(EngineParameters.createBuilder().setNbLinesWithErrorsToStop(-1).build(),
+				GeneratedObject.class);
+		Result<GeneratedObject> result = parse(engine, generator(engine, 42).setErrorRatio(0.1)
+				.reader(NB_LINES));
+		assertEquals(NB_LINES, result.getObjects().size() + result.getErrors().size());
+		assertTrue(result.getErrors().size() > NB_LINES / 20);
+		assertTrue(result.getErrors().size() < NB_LINES / 5);
+	}
+
+	@Test
+	public void testCardinality() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(GeneratedObject.class);
+		Result<GeneratedObject> result = parse(engine, generator(engine, 42).setCardinality(100)
+				.setCardinality("name", 5).reader(NB_LINES));
+		Set<String> names = new HashSet<String>();
+		Set<Integer> ids = new HashSet<Integer>();
+		for (GeneratedObject object : result.getObjects()) {
+			names.add(object.name);
+			ids.add(object.id);
+		}
+		assertEquals(5, names.size());
+		assertEquals(100, ids.size());
+	}
+
+	@Test
+	public void testWriteSize() throws CsvErrorsExceededException {
+		CsvEngine engine = new CsvEngine(GeneratedObject.class);
+		StringWriter writer = new StringWriter();
+		long nbLines = generator(engine, 42).writeSize(writer, 100000);
+		assertTrue(writer.toString().length() >= 100000);
+		assertEquals(nbLines, parse(engine, new StringReader(writer.toString()))
+				.getObjects().size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBadRatio() {
+		generator(new CsvEngine(GeneratedObject.class), 42).setNullRatio(1.5);
+	}
+}